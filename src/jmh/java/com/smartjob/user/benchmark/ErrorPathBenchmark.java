@@ -0,0 +1,101 @@
+package com.smartjob.user.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartjob.user.exception.EmailAlreadyExistsException;
+import com.smartjob.user.exception.InvalidUserDataException;
+import com.smartjob.user.mapper.ErrorBodyCache;
+import com.smartjob.user.mapper.ErrorMapper;
+import com.smartjob.user.service.util.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error paths of a registration flood: creating the exception and
+ * producing the response body.
+ * <ul>
+ * <li>Duplicate email (409): {@code legacy} captures a stack trace and
+ * serializes a new {@code Error} with Jackson, as before;
+ * {@code stackless} creates an {@link EmailAlreadyExistsException} and
+ * takes the body from {@link ErrorBodyCache}.</li>
+ * <li>Invalid registration data (400), the path every rejected request
+ * takes since validation reports all fields at once:
+ * {@code invalidDataSerialized} serializes the {@code Error} with its
+ * {@code errors} list on every call; {@code invalidDataCached} takes it
+ * from {@link ErrorBodyCache}, keyed by the violations.</li>
+ * </ul>
+ *
+ * The exception is created {@value #STACK_DEPTH} frames deep, roughly the
+ * depth of a Reactor pipeline in a WebFlux request, since the cost of a
+ * stack trace grows with it. Run with
+ * {@code ./gradlew jmh -Pjmh.includes=ErrorPathBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ErrorPathBenchmark {
+
+    private static final String MESSAGE = "El correo ya está registrado";
+    private static final int STACK_DEPTH = 128;
+    private static final String EMAIL_MESSAGE = "El formato del email no es válido";
+    private static final String PASSWORD_MESSAGE = "La contraseña debe tener mínimo 8 caracteres, al menos 1 minúscula, "
+            + "1 mayúscula, 1 número y 1 caracter especial";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ErrorMapper errorMapper = new ErrorMapper();
+    private final ErrorBodyCache errorBodyCache = new ErrorBodyCache(errorMapper, objectMapper);
+
+    @Benchmark
+    public byte[] legacy() throws JsonProcessingException {
+        RuntimeException exception = deep(STACK_DEPTH, true);
+        return objectMapper.writeValueAsBytes(errorMapper.toError(exception));
+    }
+
+    @Benchmark
+    public byte[] stackless() {
+        RuntimeException exception = deep(STACK_DEPTH, false);
+        return errorBodyCache.encode(exception.getMessage());
+    }
+
+    @Benchmark
+    public byte[] invalidDataSerialized() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errorMapper.toError(invalidUserData()));
+    }
+
+    @Benchmark
+    public byte[] invalidDataCached() {
+        return errorBodyCache.encode(invalidUserData());
+    }
+
+    /**
+     * The violations of a request with a malformed email and a weak
+     * password, built per call as ValidationService does.
+     */
+    private static InvalidUserDataException invalidUserData() {
+        ValidationResult result = new ValidationResult();
+        result.merge("email", EMAIL_MESSAGE);
+        result.merge("password", PASSWORD_MESSAGE);
+        return new InvalidUserDataException(result);
+    }
+
+    private static RuntimeException deep(int depth, boolean withStackTrace) {
+        if (depth > 0) {
+            return deep(depth - 1, withStackTrace);
+        }
+        return withStackTrace ? new RuntimeException(MESSAGE) : new EmailAlreadyExistsException(MESSAGE);
+    }
+}
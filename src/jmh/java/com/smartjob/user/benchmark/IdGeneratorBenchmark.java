@@ -0,0 +1,56 @@
+package com.smartjob.user.benchmark;
+
+import com.smartjob.user.util.RandomIdGenerator;
+import com.smartjob.user.util.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of generating one identifier, uncontended and with 8 threads
+ * competing for the UUIDv7 counter. {@code UUID.randomUUID()} draws from a
+ * shared {@code SecureRandom}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    private final UuidV7Generator uuidV7 = new UuidV7Generator();
+    private final RandomIdGenerator random = new RandomIdGenerator();
+
+    @Benchmark
+    public UUID uuidV7() {
+        return uuidV7.generate();
+    }
+
+    @Benchmark
+    public UUID random() {
+        return random.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID uuidV7Contended() {
+        return uuidV7.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID randomContended() {
+        return random.generate();
+    }
+}
@@ -0,0 +1,113 @@
+package com.smartjob.user.benchmark;
+
+import com.smartjob.user.util.IdGenerator;
+import com.smartjob.user.util.RandomIdGenerator;
+import com.smartjob.user.util.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Insert throughput into a table shaped like {@code users} (UUID primary
+ * key plus the unique email index), keyed by time-ordered UUIDv7 versus
+ * random UUIDv4.
+ *
+ * Each invocation loads {@code rows} users into a fresh file-backed H2
+ * database in JDBC batches, so the cost of random B-tree inserts (page
+ * splits, pages evicted from the cache) is included.
+ *
+ * Run with {@code ./gradlew jmh -Pjmh.includes=IdInsertBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class IdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"UUID_V7", "RANDOM"})
+    public String generator;
+
+    @Param({"1000000"})
+    public int rows;
+
+    private IdGenerator idGenerator;
+    private Path directory;
+    private Connection connection;
+
+    @Setup(Level.Invocation)
+    public void setUp() throws Exception {
+        idGenerator = "UUID_V7".equals(generator) ? new UuidV7Generator() : new RandomIdGenerator();
+        directory = Files.createTempDirectory("id-insert-benchmark");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("users") + ";CACHE_SIZE=16384", "sa", "");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE users (
+                        id       UUID         NOT NULL PRIMARY KEY,
+                        email    VARCHAR(75)  NOT NULL,
+                        password VARCHAR(100) NOT NULL,
+                        created  TIMESTAMP    NOT NULL
+                    )""");
+            statement.execute("CREATE UNIQUE INDEX idx_email ON users (email)");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() throws Exception {
+        connection.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int insertUsers() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO users (id, email, password, created) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                UUID id = idGenerator.generate();
+                insert.setObject(1, id);
+                insert.setString(2, "user" + i + "@example.com");
+                insert.setString(3, "$2a$10$abcdefghijklmnopqrstuuN0tARealBcryptHashForBenchmarks.");
+                insert.setTimestamp(4, now);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        return rows;
+    }
+}
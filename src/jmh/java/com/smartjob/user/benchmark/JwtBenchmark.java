@@ -0,0 +1,140 @@
+package com.smartjob.user.benchmark;
+
+import com.smartjob.user.config.JwtConfigValidator;
+import com.smartjob.user.config.JwtProperties;
+import com.smartjob.user.util.JwtKeyRing;
+import com.smartjob.user.util.JwtUtil;
+import com.smartjob.user.util.TokenRevocationList;
+import com.smartjob.user.util.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation and validation with the cached key and parser of
+ * {@link JwtUtil}, against the previous approach that derived the key and
+ * built a parser on every call ({@code legacy*}). {@code validateTokenCached}
+ * repeats the validation with {@code jwt.cache} enabled, and
+ * {@code generateTokenJjwt} the generation with {@code jwt.compact-encoder}
+ * disabled.
+ *
+ * Run with {@code ./gradlew jmh -Pjmh.includes=JwtBenchmark}; the
+ * {@code gc} profiler reports the allocation per operation
+ * ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGenerationThatShouldBeLongEnough123456789";
+    private static final String EMAIL = "juan@rodriguez.org";
+
+    private JwtProperties jwtProperties;
+    private JwtUtil jwtUtil;
+    private JwtUtil cachedJwtUtil;
+    private JwtUtil jjwtJwtUtil;
+    private UUID userId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setExpiration(86_400_000L);
+        jwtUtil = newJwtUtil(jwtProperties);
+
+        JwtProperties cachedProperties = new JwtProperties();
+        cachedProperties.setSecret(SECRET);
+        cachedProperties.setExpiration(86_400_000L);
+        cachedProperties.getCache().setEnabled(true);
+        cachedJwtUtil = newJwtUtil(cachedProperties);
+
+        JwtProperties jjwtProperties = new JwtProperties();
+        jjwtProperties.setSecret(SECRET);
+        jjwtProperties.setExpiration(86_400_000L);
+        jjwtProperties.setCompactEncoder(false);
+        jjwtJwtUtil = newJwtUtil(jjwtProperties);
+
+        userId = UUID.randomUUID();
+        token = jwtUtil.generateToken(userId, EMAIL);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userId, EMAIL);
+    }
+
+    @Benchmark
+    public String generateTokenJjwt() {
+        return jjwtJwtUtil.generateToken(userId, EMAIL);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token, EMAIL);
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return cachedJwtUtil.validateToken(token, EMAIL);
+    }
+
+    @Benchmark
+    public String legacyGenerateToken() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", userId.toString());
+        claims.put("email", EMAIL);
+        Date now = new Date();
+        return Jwts.builder()
+                .claims(claims)
+                .subject(EMAIL)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + jwtProperties.getExpiration()))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public boolean legacyValidateToken() {
+        // extractEmail and isTokenExpired each parsed the token with a new parser
+        String subject = legacyParse(token).getSubject();
+        return subject.equals(EMAIL) && !legacyParse(token).getExpiration().before(new Date());
+    }
+
+    private static JwtUtil newJwtUtil(JwtProperties properties) {
+        return new JwtUtil(properties,
+                new JwtKeyRing(properties, new JwtConfigValidator(properties)),
+                new VerifiedTokenCache(properties, new SimpleMeterRegistry()),
+                new TokenRevocationList(new SimpleMeterRegistry()));
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
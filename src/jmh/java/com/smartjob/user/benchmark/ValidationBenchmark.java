@@ -0,0 +1,55 @@
+package com.smartjob.user.benchmark;
+
+import com.smartjob.user.service.util.LinearEmailMatcher;
+import com.smartjob.user.service.util.LinearPasswordMatcher;
+import com.smartjob.user.service.util.RuleMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Cost of checking one email and one password against the built-in rules:
+ * {@code Pattern.matches} (compiles on every call), a pattern compiled
+ * once, and the hand-written linear matchers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private final String email = "juan.rodriguez+registro@correo.example.org";
+    private final String password = "Hunter2!Hunter2!";
+
+    private final RuleMatcher emailRegex = RuleMatcher.regex(Pattern.compile(LinearEmailMatcher.PATTERN));
+    private final RuleMatcher passwordRegex = RuleMatcher.regex(Pattern.compile(LinearPasswordMatcher.PATTERN));
+    private final RuleMatcher emailLinear = new LinearEmailMatcher();
+    private final RuleMatcher passwordLinear = new LinearPasswordMatcher();
+
+    @Benchmark
+    public boolean patternMatchesPerCall() {
+        return Pattern.matches(LinearEmailMatcher.PATTERN, email)
+                & Pattern.matches(LinearPasswordMatcher.PATTERN, password);
+    }
+
+    @Benchmark
+    public boolean precompiledRegex() {
+        return emailRegex.matches(email) & passwordRegex.matches(password);
+    }
+
+    @Benchmark
+    public boolean linear() {
+        return emailLinear.matches(email) & passwordLinear.matches(password);
+    }
+}
@@ -0,0 +1,35 @@
+package com.smartjob.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Configuration properties for bearer token authentication.
+ *
+ * Each entry of {@code protectedRoutes} is an HTTP method and a path
+ * pattern, e.g. {@code GET /api/v1/users}. Requests matching one of them
+ * need a valid token; every other route stays public.
+ *
+ * Routes in {@code adminRoutes} use the same format and also need the
+ * token to belong to one of the {@code admins}, identified by the
+ * {@code userId} claim: ids are generated by the service, so unlike an
+ * email they cannot be claimed by registering a look-alike account. Any
+ * other authenticated user gets 403.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "security.authentication")
+@Getter
+@Setter
+public class AuthenticationProperties {
+
+    private boolean enabled = true;
+    private List<String> protectedRoutes = new ArrayList<>();
+    private List<String> adminRoutes = new ArrayList<>();
+    private List<UUID> admins = new ArrayList<>();
+}
@@ -0,0 +1,36 @@
+package com.smartjob.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the password hashing executor.
+ * BCrypt is CPU bound, so the pool is sized independently of the
+ * event loop and of the elastic scheduler used for JPA.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "hashing")
+@Getter
+@Setter
+public class HashingProperties {
+
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 64;
+    private Admission admission = new Admission();
+
+    /**
+     * Admission control in front of the hashing pool. The in-flight limit
+     * is derived from the observed hash latency so that no admitted
+     * request waits in the queue longer than {@code maxQueueWait}.
+     */
+    @Getter
+    @Setter
+    public static class Admission {
+        private boolean enabled = true;
+        private Duration maxQueueWait = Duration.ofMillis(500);
+    }
+}
@@ -0,0 +1,27 @@
+package com.smartjob.user.config;
+
+import com.smartjob.user.util.IdGenerator;
+import com.smartjob.user.util.RandomIdGenerator;
+import com.smartjob.user.util.UuidV7Generator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the {@link IdGenerator} used for users and phones
+ * ({@code users.id-generator}).
+ */
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGenerator idGenerator(UserProperties userProperties) {
+        UserProperties.IdGeneratorType type = userProperties.getIdGenerator();
+        log.info("Generador de identificadores: {}", type);
+        return switch (type) {
+            case UUID_V7 -> new UuidV7Generator();
+            case RANDOM -> new RandomIdGenerator();
+        };
+    }
+}
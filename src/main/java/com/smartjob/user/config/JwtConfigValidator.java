@@ -6,6 +6,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.util.Map;
+
 /**
  * JWT configuration validator that runs at application startup.
  * Ensures that the JWT properties are correctly configured.
@@ -18,34 +20,57 @@ public class JwtConfigValidator {
     private final JwtProperties jwtProperties;
 
     /**
-     * Validates the JWT configuration at application startup.
+     * Validates the JWT configuration at application startup. The key ring
+     * is validated by {@link com.smartjob.user.util.JwtKeyRing} through
+     * {@link #validateKeyRing(String, Map)} when it is loaded, including
+     * the keys of {@code jwt.keys-file}.
      */
     @PostConstruct
     public void validateConfiguration() {
         log.info("Validando configuración de JWT...");
 
-        validateSecret();
         validateExpiration();
 
         log.info("✅ Configuración de JWT correcta");
     }
 
     /**
-     * Validates that the secret is configured and has an adequate length.
+     * Validates a whole key ring: at least one key, every kid and secret
+     * present, every secret long enough for HS256, and the signing key
+     * part of the ring. With an asymmetric algorithm the secrets are JWKs,
+     * whose content is checked when they are parsed.
+     *
+     * @param signingKeyId the kid used to sign new tokens
+     * @param secrets      the secrets of the ring, by kid
+     * @throws IllegalStateException if the ring is not valid
      */
-    private void validateSecret() {
-        if (!StringUtils.hasText(jwtProperties.getSecret())) {
+    public void validateKeyRing(String signingKeyId, Map<String, String> secrets) {
+        if (secrets.isEmpty()) {
             throw new IllegalStateException(
-                    "La propiedad 'jwt.secret' no está configurada en application.yaml");
+                    "No hay claves JWT configuradas: defina 'jwt.secret' o 'jwt.keys' en application.yaml");
         }
 
-        if (jwtProperties.getSecret().length() < 32) {
+        secrets.forEach((keyId, secret) -> {
+            if (!StringUtils.hasText(keyId)) {
+                throw new IllegalStateException("Las claves JWT deben tener un identificador (kid)");
+            }
+            if (!StringUtils.hasText(secret)) {
+                throw new IllegalStateException(
+                        "La clave JWT '" + keyId + "' no tiene secreto configurado");
+            }
+            if (!jwtProperties.getAlgorithm().isAsymmetric() && secret.length() < 32) {
+                throw new IllegalStateException(
+                        "La clave JWT '" + keyId + "' debe tener al menos 32 caracteres para HS256. " +
+                                "Longitud actual: " + secret.length());
+            }
+        });
+
+        if (!secrets.containsKey(signingKeyId)) {
             throw new IllegalStateException(
-                    "La propiedad 'jwt.secret' debe tener al menos 32 caracteres para HS256. " +
-                            "Longitud actual: " + jwtProperties.getSecret().length());
+                    "La clave de firma 'jwt.signing-key-id' (" + signingKeyId + ") no está en el anillo de claves");
         }
 
-        log.info("✓ JWT secret configurado (longitud: {} caracteres)", jwtProperties.getSecret().length());
+        log.info("✓ Anillo de claves JWT con {} clave(s), firma con '{}'", secrets.size(), signingKeyId);
     }
 
     /**
@@ -62,7 +87,12 @@ public class JwtConfigValidator {
                     "La propiedad 'jwt.expiration' debe ser mayor a 0");
         }
 
-        long hours = jwtProperties.getExpiration() / (1000 * 60 * 60);
-        log.info("✓ JWT expiration configurado: {} horas", hours);
+        long minutes = jwtProperties.getExpiration() / (1000 * 60);
+        log.info("✓ JWT expiration configurado: {} minutos", minutes);
+
+        if (jwtProperties.getRefreshToken().getLifetime().toMillis() <= jwtProperties.getExpiration()) {
+            throw new IllegalStateException(
+                    "La propiedad 'jwt.refresh-token.lifetime' debe ser mayor a 'jwt.expiration'");
+        }
     }
 }
\ No newline at end of file
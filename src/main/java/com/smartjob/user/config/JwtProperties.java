@@ -4,10 +4,26 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Configuration properties for JWT (JSON Web Tokens).
  * Values are loaded from application.yaml and are configurable.
+ *
+ * The signing keys form a ring identified by {@code kid}: {@code secret}
+ * is the key {@value #DEFAULT_KEY_ID} (the one tokens without a
+ * {@code kid} header were signed with) and {@code keys} adds more.
+ * Tokens are signed with {@code signing-key-id} and verified with any key
+ * of the ring. {@code keys-file} adds keys that are reloaded without a
+ * restart.
+ *
+ * With an asymmetric {@code algorithm} each key is a private JWK (JSON)
+ * and {@code secret} is ignored; the public halves are published at
+ * {@code /.well-known/jwks.json}.
  */
 @Configuration
 @ConfigurationProperties(prefix = "jwt")
@@ -15,6 +31,87 @@ import org.springframework.context.annotation.Configuration;
 @Setter
 public class JwtProperties {
 
+    public static final String DEFAULT_KEY_ID = "default";
+
     private String secret;
     private Long expiration;
-}
\ No newline at end of file
+    private Algorithm algorithm = Algorithm.HS256;
+    private String signingKeyId = DEFAULT_KEY_ID;
+    private Map<String, String> keys = new LinkedHashMap<>();
+    private String keysFile;
+    private Duration keysReloadInterval = Duration.ofSeconds(30);
+    private Duration jwksMaxAge = Duration.ofMinutes(5);
+    private boolean compactEncoder = true;
+    private Cache cache = new Cache();
+    private Revocation revocation = new Revocation();
+    private RefreshToken refreshToken = new RefreshToken();
+
+    /**
+     * Returns the keys configured in the application properties, by kid.
+     *
+     * @return {@code secret} under {@value #DEFAULT_KEY_ID} (HS256 only),
+     *         plus {@code keys}
+     */
+    public Map<String, String> configuredSecrets() {
+        Map<String, String> secrets = new LinkedHashMap<>();
+        if (algorithm == Algorithm.HS256 && StringUtils.hasText(secret)) {
+            secrets.put(DEFAULT_KEY_ID, secret);
+        }
+        secrets.putAll(keys);
+        return secrets;
+    }
+
+    /**
+     * Token signing algorithm.
+     */
+    public enum Algorithm {
+        /** HMAC with SHA-256 and a shared secret; no public keys are published. */
+        HS256,
+        /** ECDSA on P-256; keys are private EC JWKs. */
+        ES256,
+        /** EdDSA (Ed25519 or Ed448); keys are private OKP JWKs. */
+        EDDSA;
+
+        public boolean isAsymmetric() {
+            return this != HS256;
+        }
+    }
+
+    /**
+     * Cache of verified tokens. Disabled by default.
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = false;
+        private long maxSize = 100_000;
+    }
+
+    /**
+     * Token revocations. Every instance reloads the stored revocations and
+     * deletes the expired ones at this interval, so a revocation made on
+     * another instance takes effect here within one interval.
+     *
+     * Each refresh only reads the revocations written since the previous
+     * one started, minus {@code refresh-overlap}, which covers the clock
+     * skew between instances and writes that commit after being stamped.
+     */
+    @Getter
+    @Setter
+    public static class Revocation {
+        private Duration refreshInterval = Duration.ofSeconds(30);
+        private Duration refreshOverlap = Duration.ofSeconds(10);
+    }
+
+    /**
+     * Refresh tokens. Each one can be exchanged once, for a new access
+     * token ({@code expiration}) and a new refresh token; expired ones are
+     * deleted every {@code cleanup-interval}.
+     */
+    @Getter
+    @Setter
+    public static class RefreshToken {
+        private Duration lifetime = Duration.ofDays(30);
+        private Duration cleanupInterval = Duration.ofHours(1);
+    }
+}
@@ -1,9 +1,19 @@
 package com.smartjob.user.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Security configuration for password encryption.
@@ -20,4 +30,29 @@ public class SecurityConfig {
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }
+
+    /**
+     * Dedicated scheduler for BCrypt hashing, so that hashes never run on
+     * the Netty event loop.
+     *
+     * The pool has a fixed number of threads and a bounded queue; tasks
+     * submitted when the queue is full are rejected instead of piling up.
+     * Queue depth, active threads and queue wait time are published under
+     * the {@code executor.*} metrics with {@code name=password.hashing}.
+     *
+     * @param hashingProperties pool sizing
+     * @param meterRegistry     registry where the executor metrics are bound
+     * @return the hashing scheduler
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler passwordHashingScheduler(HashingProperties hashingProperties, MeterRegistry meterRegistry) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                hashingProperties.getThreads(),
+                hashingProperties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(hashingProperties.getQueueCapacity()),
+                new CustomizableThreadFactory("password-hashing-"));
+        ExecutorService monitored = ExecutorServiceMetrics.monitor(meterRegistry, executor, "password.hashing");
+        return Schedulers.fromExecutorService(monitored, "password-hashing");
+    }
 }
@@ -0,0 +1,116 @@
+package com.smartjob.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for user management operations.
+ * Values are loaded from application.yaml under the {@code users} prefix.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "users")
+@Getter
+@Setter
+public class UserProperties {
+
+    private Registration registration = new Registration();
+    private EmailFilter emailFilter = new EmailFilter();
+    private Batch batch = new Batch();
+    private Stream stream = new Stream();
+    private Listing listing = new Listing();
+    private TokenStorage tokenStorage = new TokenStorage();
+    private IdGeneratorType idGenerator = IdGeneratorType.UUID_V7;
+
+    @Getter
+    @Setter
+    public static class Registration {
+        private DuplicateCheck duplicateCheck = DuplicateCheck.QUERY;
+    }
+
+    /**
+     * Sizing of the in-memory Bloom filter of registered emails.
+     */
+    @Getter
+    @Setter
+    public static class EmailFilter {
+        private boolean enabled = true;
+        private long expectedInsertions = 1_000_000;
+        private double falsePositiveProbability = 0.01;
+    }
+
+    /**
+     * Bulk creation (POST /users:batch).
+     */
+    @Getter
+    @Setter
+    public static class Batch {
+        private int hashingConcurrency = 4;
+    }
+
+    /**
+     * Streamed creation (POST /users:stream). Each limit bounds how many
+     * lines are in that stage at once, which also bounds how far the server
+     * reads ahead of the client.
+     */
+    @Getter
+    @Setter
+    public static class Stream {
+        private int hashingConcurrency = 4;
+        private int persistenceConcurrency = 8;
+        private Duration maxHashingWait = Duration.ofSeconds(30);
+    }
+
+    /**
+     * User listing (GET /users and GET /users:export).
+     */
+    @Getter
+    @Setter
+    public static class Listing {
+        private int maxPageSize = 500;
+        private int exportPageSize = 500;
+    }
+
+    /**
+     * Storage of the access tokens issued on registration, in the
+     * {@code user_tokens} table. Disabled by default: tokens are verified
+     * by signature alone, so nothing reads them back.
+     */
+    @Getter
+    @Setter
+    public static class TokenStorage {
+        private boolean enabled = false;
+    }
+
+    /**
+     * Strategy used to detect duplicate emails on registration.
+     */
+    public enum DuplicateCheck {
+        /**
+         * Runs existsByEmail before inserting (two round trips).
+         */
+        QUERY,
+        /**
+         * Inserts directly and relies on the {@code idx_email} unique index
+         * (one round trip on the happy path).
+         */
+        CONSTRAINT
+    }
+
+    /**
+     * Identifier generator for users and phones.
+     */
+    public enum IdGeneratorType {
+        /**
+         * Time-ordered UUIDv7: inserts append to the primary-key index.
+         */
+        UUID_V7,
+        /**
+         * Random UUIDv4.
+         */
+        RANDOM
+    }
+}
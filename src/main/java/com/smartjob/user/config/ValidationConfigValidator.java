@@ -47,12 +47,15 @@ public class ValidationConfigValidator {
 
     /**
      * Validates a generic validation rule.
-     * Reusable for any type of validation.
+     * Reusable for any type of validation, including the rules reloaded
+     * from {@code validation.rules-file}.
      *
      * @param ruleName the name of the rule (for error messages)
      * @param rule     the rule to validate
+     * @throws IllegalStateException if the rule is incomplete or its
+     *         pattern does not compile
      */
-    private void validateRule(String ruleName, ValidationProperties.ValidationRule rule) {
+    public void validateRule(String ruleName, ValidationProperties.ValidationRule rule) {
         // Validar que el patrón esté configurado
         if (!StringUtils.hasText(rule.getPattern())) {
             throw new IllegalStateException(
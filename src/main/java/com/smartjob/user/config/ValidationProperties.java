@@ -3,6 +3,8 @@ package com.smartjob.user.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,6 +13,14 @@ import lombok.Setter;
 /**
  * Configuration properties for business validations.
  * Regex patterns are loaded from application.yaml and are configurable.
+ *
+ * {@code rules-file} overrides the patterns and messages without a restart;
+ * see {@link com.smartjob.user.service.util.ValidationEngine}.
+ * {@code breached-passwords.file} rejects passwords found in a local list
+ * of breached passwords; see
+ * {@link com.smartjob.user.service.util.BreachedPasswordList}.
+ * {@code blocked-domains.file} rejects emails from blocked domains; see
+ * {@link com.smartjob.user.service.util.BlockedEmailDomains}.
  */
 @Configuration
 @ConfigurationProperties(prefix = "validation")
@@ -20,6 +30,11 @@ public class ValidationProperties {
 
     private ValidationRule email = new ValidationRule();
     private ValidationRule password = new ValidationRule();
+    private Engine engine = Engine.REGEX;
+    private String rulesFile;
+    private Duration rulesReloadInterval = Duration.ofSeconds(30);
+    private BreachedPasswords breachedPasswords = new BreachedPasswords();
+    private BlockedDomains blockedDomains = new BlockedDomains();
 
     @Getter
     @Setter
@@ -29,4 +44,41 @@ public class ValidationProperties {
         private String pattern;
         private String message;
     }
+
+    /**
+     * Screening of passwords against a list of breached passwords. Disabled
+     * while no file is configured.
+     */
+    @Getter
+    @Setter
+    public static class BreachedPasswords {
+        private String file;
+        private String message = "La contraseña aparece en una filtración conocida, elija otra";
+    }
+
+    /**
+     * Email domains that may not register, with their subdomains. Disabled
+     * while no file is configured.
+     */
+    @Getter
+    @Setter
+    public static class BlockedDomains {
+        private String file;
+        private Duration reloadInterval = Duration.ofSeconds(30);
+        private String message = "El dominio del email no está permitido";
+    }
+
+    /**
+     * How the rules are evaluated.
+     */
+    public enum Engine {
+        /** Each pattern is compiled once into a {@link java.util.regex.Pattern}. */
+        REGEX,
+        /**
+         * Hand-written single-pass checkers for the built-in patterns; a
+         * pattern that differs from the built-in one is still evaluated as
+         * a regex.
+         */
+        LINEAR
+    }
 }
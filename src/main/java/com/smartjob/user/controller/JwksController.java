@@ -0,0 +1,63 @@
+package com.smartjob.user.controller;
+
+import com.smartjob.user.config.JwtProperties;
+import com.smartjob.user.util.JwtKeyRing;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Publishes the public signing keys as a JWK set (RFC 7517), so other
+ * services verify tokens locally instead of calling this one.
+ *
+ * The body is serialized once per key ring snapshot by {@link JwtKeyRing};
+ * clients revalidate with {@code If-None-Match} and get a 304 while the
+ * ring is unchanged. {@code jwt.jwks-max-age} bounds how long a client may
+ * use a cached copy, so a new key must be published at least that long
+ * before it starts signing.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyRing keyRing;
+    private final JwtProperties jwtProperties;
+
+    /**
+     * GET /.well-known/jwks.json endpoint - Public keys of the key ring
+     *
+     * @param exchange web request context
+     * @return Mono with ResponseEntity 200 and the JWK set, or 304 if the
+     *         client already has it
+     */
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<String>> getJwks(ServerWebExchange exchange) {
+        JwtKeyRing.PublishedKeys keys = keyRing.publishedKeys();
+        CacheControl cacheControl = CacheControl.maxAge(jwtProperties.getJwksMaxAge()).cachePublic();
+
+        List<String> ifNoneMatch = exchange.getRequest().getHeaders().getIfNoneMatch();
+        if (ifNoneMatch.contains(keys.etag()) || ifNoneMatch.contains("*")) {
+            log.debug("JWK set sin cambios, respondiendo 304");
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(keys.etag())
+                    .cacheControl(cacheControl)
+                    .build());
+        }
+
+        return Mono.just(ResponseEntity.ok()
+                .eTag(keys.etag())
+                .cacheControl(cacheControl)
+                .body(keys.json()));
+    }
+}
@@ -1,19 +1,37 @@
 package com.smartjob.user.controller;
 
+import com.smartjob.user.dto.BatchUserResult;
 import com.smartjob.user.dto.PostUserRequest;
 import com.smartjob.user.dto.PostUserResponse;
+import com.smartjob.user.dto.PostUsersBatchRequest;
+import com.smartjob.user.dto.PostUsersBatchResponse;
+import com.smartjob.user.dto.PostUsersRefreshRequest;
+import com.smartjob.user.dto.PostUsersRefreshResponse;
+import com.smartjob.user.dto.UserSummary;
+import com.smartjob.user.dto.UsersPage;
+import com.smartjob.user.exception.AuthenticationRequiredException;
+import com.smartjob.user.security.AuthenticatedUser;
+import com.smartjob.user.service.domain.RefreshTokenService;
+import com.smartjob.user.service.domain.TokenRevocationService;
 import com.smartjob.user.service.domain.UserService;
+import com.smartjob.user.service.util.HashingAdmissionController;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.UUID;
+
 /**
  * REST controller for user operations.
  * Implements the UsersApi interface generated by OpenAPI.
@@ -24,12 +42,57 @@ import reactor.core.publisher.Mono;
 @RequestMapping("/api/v1")
 public class UserController implements UsersApi {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final String AUTHENTICATION_REQUIRED_MESSAGE = "Se requiere un token de acceso";
+    private static final String UNREVOCABLE_TOKEN_MESSAGE = "El token de acceso no puede revocarse, inicie sesión de nuevo";
+    /** Object name WebFlux gives the binder of each element of a {@code Flux<PostUserRequest>} body. */
+    private static final String STREAM_LINE_OBJECT_NAME = "postUserRequestFlux";
+
     private final UserService userService;
+    private final HashingAdmissionController hashingAdmissionController;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
+
+    /**
+     * GET /users endpoint - List users with keyset pagination
+     *
+     * @param cursor   nextCursor of the previous page, null for the first page
+     * @param limit    maximum number of users to return
+     * @param exchange web request context
+     * @return Mono with ResponseEntity 200 and the page
+     */
+    @Override
+    public Mono<ResponseEntity<UsersPage>> getUsers(
+            String cursor,
+            Integer limit,
+            ServerWebExchange exchange) {
+        log.debug("Recibida petición GET /users (limit: {})", limit);
+        return userService.listUsers(cursor, limit != null ? limit : DEFAULT_PAGE_SIZE)
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * GET /users:export endpoint - Stream all users as NDJSON
+     *
+     * @param exchange web request context
+     * @return Mono with ResponseEntity 200 and the stream of users
+     */
+    @Override
+    public Mono<ResponseEntity<Flux<UserSummary>>> getUsersExport(ServerWebExchange exchange) {
+        log.debug("Recibida petición GET /users:export");
+        return Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(userService.exportUsers()
+                        .doOnError(error -> log.error("Error en la exportación de usuarios: {}",
+                                error.getMessage()))));
+    }
 
     /**
      * POST /users endpoint - Create a new user
      *
-     * Implements the operation defined in OpenAPI.
+     * Implements the operation defined in OpenAPI. Requests are admitted
+     * through {@link HashingAdmissionController}, which answers 429 when the
+     * password hashing pool is saturated.
      *
      * @param postUserRequest DTO containing the user data to create
      * @param exchange        web request context
@@ -42,7 +105,8 @@ public class UserController implements UsersApi {
         log.debug("Recibida petición POST /users");
         return postUserRequest
                 .doOnNext(request -> log.info("Creando usuario con email: {}", request.getEmail()))
-                .flatMap(userService::createUser)
+                .flatMap(request -> hashingAdmissionController.admit(
+                        Mono.defer(() -> userService.createUser(request))))
                 .map(response -> {
                     log.info("Usuario creado exitosamente con ID: {}", response.getId());
                     return ResponseEntity
@@ -51,4 +115,145 @@ public class UserController implements UsersApi {
                 })
                 .doOnError(error -> log.error("Error al crear usuario: {}", error.getMessage()));
     }
-}
\ No newline at end of file
+
+    /**
+     * POST /users:batch endpoint - Create several users at once
+     *
+     * Each entry succeeds or fails on its own; the response lists the result
+     * of every entry in request order. The batch is admitted by the service,
+     * which takes one slot per concurrent hash.
+     *
+     * @param postUsersBatchRequest DTO containing the users to create
+     * @param exchange              web request context
+     * @return Mono with ResponseEntity 200 and the per-item results
+     */
+    @Override
+    public Mono<ResponseEntity<PostUsersBatchResponse>> postUsersBatch(
+            @Valid Mono<PostUsersBatchRequest> postUsersBatchRequest,
+            ServerWebExchange exchange) {
+        log.debug("Recibida petición POST /users:batch");
+        return postUsersBatchRequest
+                .flatMap(request -> userService.createUsers(request.getUsers()))
+                .map(ResponseEntity::ok)
+                .doOnError(error -> log.error("Error al crear lote de usuarios: {}", error.getMessage()));
+    }
+
+    /**
+     * Disables Bean Validation of the /users:stream lines. The generated
+     * interface marks the body {@code @Valid}, and WebFlux validates a Flux
+     * element by element, so one bad line would end the whole stream with
+     * a WebExchangeBindException.
+     *
+     * @param binder the binder of each stream line
+     */
+    @InitBinder(STREAM_LINE_OBJECT_NAME)
+    void skipStreamLineValidation(WebDataBinder binder) {
+        binder.setValidator(null);
+    }
+
+    /**
+     * POST /users:stream endpoint - Create users from an NDJSON stream
+     *
+     * The request body is consumed line by line and one result is written
+     * per line as soon as it is ready. The stream is not rejected by
+     * {@link HashingAdmissionController}: the service makes each line wait
+     * for a hashing slot, which backpressures the client. Lines are not
+     * bean-validated (see {@link #skipStreamLineValidation}): the service
+     * validates each one and reports its errors in that line's result.
+     *
+     * @param users    stream of users to create, one per line
+     * @param exchange web request context
+     * @return Mono with ResponseEntity 200 and the stream of per-line results
+     */
+    @Override
+    public Mono<ResponseEntity<Flux<BatchUserResult>>> postUsersStream(
+            Flux<PostUserRequest> users,
+            ServerWebExchange exchange) {
+        log.debug("Recibida petición POST /users:stream");
+        return Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(userService.createUsersStream(users)
+                        .doOnComplete(() -> log.info("Importación por streaming finalizada"))
+                        .doOnError(error -> log.error("Error en la importación por streaming: {}",
+                                error.getMessage()))));
+    }
+
+    /**
+     * POST /users:refresh endpoint - Exchange a refresh token for new tokens
+     *
+     * Public route: the refresh token is the credential. No password is
+     * hashed, so the request is not admitted through
+     * {@link HashingAdmissionController}.
+     *
+     * @param postUsersRefreshRequest DTO containing the refresh token
+     * @param exchange                web request context
+     * @return Mono with ResponseEntity 200 and the new tokens
+     */
+    @Override
+    public Mono<ResponseEntity<PostUsersRefreshResponse>> postUsersRefresh(
+            @Valid Mono<PostUsersRefreshRequest> postUsersRefreshRequest,
+            ServerWebExchange exchange) {
+        log.debug("Recibida petición POST /users:refresh");
+        return postUsersRefreshRequest
+                .flatMap(request -> refreshTokenService.refresh(request.getRefreshToken()))
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * POST /users:logout endpoint - Revoke the token of the request
+     *
+     * Tokens issued before the {@code jti} claim existed cannot be revoked
+     * one by one: every token of their user issued so far is revoked
+     * instead, as in logoutAll.
+     *
+     * @param exchange web request context
+     * @return Mono with ResponseEntity 204 once the token is revoked
+     */
+    @Override
+    public Mono<ResponseEntity<Void>> postUsersLogout(ServerWebExchange exchange) {
+        log.debug("Recibida petición POST /users:logout");
+        return authenticatedUser()
+                .flatMap(user -> {
+                    if (user.tokenId() != null) {
+                        return tokenRevocationService.revokeToken(user.tokenId(), user.expiration());
+                    }
+                    log.info("Token sin jti en logout, se revocan todos los tokens del usuario {}", user.userId());
+                    return requireUserId(user).flatMap(tokenRevocationService::revokeUser);
+                })
+                .then(Mono.just(ResponseEntity.noContent().<Void>build()));
+    }
+
+    /**
+     * POST /users:logoutAll endpoint - Revoke every token of the user
+     *
+     * Revokes the access tokens issued so far and deletes the refresh
+     * tokens, so no new access token can be obtained either.
+     *
+     * @param exchange web request context
+     * @return Mono with ResponseEntity 204 once the tokens are revoked
+     */
+    @Override
+    public Mono<ResponseEntity<Void>> postUsersLogoutAll(ServerWebExchange exchange) {
+        log.debug("Recibida petición POST /users:logoutAll");
+        return authenticatedUser()
+                .flatMap(UserController::requireUserId)
+                .flatMap(userId -> tokenRevocationService.revokeUser(userId)
+                        .then(refreshTokenService.revokeAll(userId)))
+                .then(Mono.just(ResponseEntity.noContent().<Void>build()));
+    }
+
+    /**
+     * The user id of the token, or 401 for tokens without the
+     * {@code userId} claim, which no revocation can match.
+     */
+    private static Mono<UUID> requireUserId(AuthenticatedUser user) {
+        return user.userId() != null
+                ? Mono.just(user.userId())
+                : Mono.error(new AuthenticationRequiredException(UNREVOCABLE_TOKEN_MESSAGE));
+    }
+
+    private static Mono<AuthenticatedUser> authenticatedUser() {
+        return AuthenticatedUser.current()
+                .switchIfEmpty(Mono.error(() -> new AuthenticationRequiredException(AUTHENTICATION_REQUIRED_MESSAGE)));
+    }
+}
@@ -14,8 +14,6 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import jakarta.persistence.Column;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
@@ -24,6 +22,9 @@ import jakarta.persistence.FetchType;
 /**
  * JPA entity that represents a phone associated with a user.
  * Maintains a Many-to-One relationship with UserEntity.
+ *
+ * Like the user, the identifier is assigned by the application
+ * ({@link com.smartjob.user.util.IdGenerator}) before persisting.
  */
 
 @Getter
@@ -36,14 +37,13 @@ import jakarta.persistence.FetchType;
 @Table(name = "phones")
 public class PhoneEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
     @Column(name = "number", nullable = false, length = 15)
     private String number;
 
-    @Column(name = "city_code", nullable = false, length = 5)
+    @Column(name = "city_code", length = 5)
     private String cityCode;
 
     @Column(name = "country_code", nullable = false, length = 3)
@@ -0,0 +1,87 @@
+package com.smartjob.user.entity;
+
+import java.util.UUID;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * JPA entity that represents a refresh token.
+ *
+ * Only the SHA-256 of the token secret is stored; the id is the public
+ * part of the token and the primary key used to find it. A token is
+ * marked as used when it is exchanged, and the row is kept until it
+ * expires so that a second use can be detected. Times are epoch seconds.
+ *
+ * Like {@link UserEntity}, the id is assigned by the application and the
+ * entity implements {@link Persistable} so that {@code save} inserts
+ * without a SELECT first.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+    })
+public class RefreshTokenEntity implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "user_id", updatable = false, nullable = false, columnDefinition = "UUID")
+    private UUID userId;
+
+    @Column(name = "email", updatable = false, nullable = false, length = 75)
+    private String email;
+
+    @ToString.Exclude
+    @Column(name = "token_hash", updatable = false, nullable = false, length = 44)
+    private String tokenHash;
+
+    @Column(name = "expires_at", updatable = false, nullable = false)
+    private long expiresAt;
+
+    @Column(name = "used", nullable = false)
+    private boolean used;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private boolean persisted;
+
+    /**
+     * @return true until the token has been inserted or loaded
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markPersisted() {
+        this.persisted = true;
+    }
+}
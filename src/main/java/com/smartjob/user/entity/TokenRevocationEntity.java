@@ -0,0 +1,71 @@
+package com.smartjob.user.entity;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * JPA entity that represents a token revocation.
+ *
+ * For {@link Type#TOKEN} the id is the {@code jti} of the revoked token;
+ * for {@link Type#USER} it is the user id, and every token of that user
+ * issued up to {@code notBefore} is revoked. {@code expiresAt} is in epoch
+ * seconds, like the {@code exp} claim; {@code notBefore} is in epoch
+ * milliseconds, compared with the exact issue time of each token
+ * ({@link com.smartjob.user.util.VerifiedClaims#issuedAtMillis()}). Rows
+ * are deleted once {@code expiresAt} has passed, since no token they match
+ * is valid anymore.
+ *
+ * {@code revokedAt} is the epoch millisecond the row was last written, so
+ * each refresh only reads the revocations made since the previous one.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "token_revocations", indexes = {
+        @Index(name = "idx_token_revocations_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_token_revocations_revoked_at", columnList = "revoked_at")
+    })
+public class TokenRevocationEntity {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false, columnDefinition = "UUID")
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 10)
+    private Type type;
+
+    @Column(name = "not_before")
+    private Long notBefore;
+
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private long revokedAt;
+
+    /**
+     * What the id of a revocation refers to.
+     */
+    public enum Type {
+        TOKEN,
+        USER
+    }
+}
@@ -7,6 +7,7 @@ import java.util.UUID;
 
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
@@ -27,7 +28,13 @@ import lombok.ToString;
 
 /**
  * JPA entity that represents a user in the system.
- * Includes personal information, credentials, JWT tokens, and phone management.
+ * Includes personal information, credentials, and phone management. Issued
+ * tokens are not part of the user row: see {@link UserTokenEntity}.
+ *
+ * The identifier is assigned by the application, so the entity implements
+ * {@link Persistable} to tell Spring Data when it is new: otherwise
+ * {@code save} would call {@code merge} and issue a SELECT before every
+ * INSERT.
  */
 @Getter
 @Setter
@@ -37,9 +44,10 @@ import lombok.ToString;
 @Builder
 @Entity
 @Table(name = "users", indexes = {
-        @Index(name = "idx_email", columnList = "email", unique = true)
+        @Index(name = "idx_email", columnList = "email", unique = true),
+        @Index(name = "idx_created_id", columnList = "created, id")
     })
-public class UserEntity {
+public class UserEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", updatable = false, nullable = false, columnDefinition = "UUID")
@@ -65,9 +73,6 @@ public class UserEntity {
     @Column(name = "last_login")
     private LocalDateTime lastLogin;
 
-    @Column(name = "token", length = 500)
-    private String token;
-
     @Column(name = "is_active", nullable = false)
     @Builder.Default
     private Boolean isActive = true;
@@ -87,6 +92,17 @@ public class UserEntity {
         phone.setUser(null);
     }
 
+    /**
+     * A user is new until Hibernate assigns its creation timestamp on
+     * persist; loaded users always have one.
+     *
+     * @return true if the user has never been persisted
+     */
+    @Override
+    public boolean isNew() {
+        return created == null;
+    }
+
     @PrePersist
     protected void onCreate() {
         if (this.lastLogin == null) {
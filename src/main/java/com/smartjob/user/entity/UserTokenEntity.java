@@ -0,0 +1,45 @@
+package com.smartjob.user.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * JPA entity that holds the last access token issued to a user.
+ *
+ * Only written when {@code users.token-storage.enabled} is set: tokens are
+ * self-contained, so nothing needs them stored. Keeping them here rather
+ * than in {@code users} keeps the user rows small and leaves them
+ * untouched when a token is reissued.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "user_tokens")
+public class UserTokenEntity {
+
+    @Id
+    @Column(name = "user_id", updatable = false, nullable = false, columnDefinition = "UUID")
+    private UUID userId;
+
+    @ToString.Exclude
+    @Column(name = "token", nullable = false, length = 500)
+    private String token;
+
+    @Column(name = "issued_at", nullable = false)
+    private LocalDateTime issuedAt;
+}
@@ -0,0 +1,11 @@
+package com.smartjob.user.exception;
+
+/**
+ * Exception thrown when an operation needs an authenticated user and the
+ * request carried no valid token.
+ */
+public class AuthenticationRequiredException extends RuntimeException {
+    public AuthenticationRequiredException(String message) {
+        super(message);
+    }
+}
@@ -2,13 +2,16 @@ package com.smartjob.user.exception;
 
 /**
  * Exception thrown when the email already exists.
+ *
+ * Created without a stack trace: duplicate registrations are an expected
+ * outcome, reported by message only, and bots can send them in bulk.
  */
 public class EmailAlreadyExistsException extends RuntimeException {
     public EmailAlreadyExistsException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public EmailAlreadyExistsException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
@@ -0,0 +1,29 @@
+package com.smartjob.user.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when the password hashing pool is saturated and the
+ * request is shed instead of queued.
+ */
+@Getter
+public class HashingCapacityExceededException extends RuntimeException {
+
+    public static final String DEFAULT_MESSAGE =
+            "El servicio está saturado, intente nuevamente en unos segundos";
+
+    /**
+     * Seconds the client should wait before retrying.
+     */
+    private final long retryAfterSeconds;
+
+    public HashingCapacityExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public HashingCapacityExceededException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -2,13 +2,16 @@ package com.smartjob.user.exception;
 
 /**
  * Exception thrown when the email format does not match the configured pattern.
+ *
+ * Created without a stack trace, since only its message reaches the
+ * client.
  */
 public class InvalidEmailFormatException extends RuntimeException {
     public InvalidEmailFormatException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public InvalidEmailFormatException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
@@ -3,14 +3,17 @@ package com.smartjob.user.exception;
 /**
  * Exception thrown when the password format does not match the configured
  * pattern.
+ *
+ * Created without a stack trace, since only its message reaches the
+ * client.
  */
 public class InvalidPasswordFormatException extends RuntimeException {
 
     public InvalidPasswordFormatException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public InvalidPasswordFormatException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
\ No newline at end of file
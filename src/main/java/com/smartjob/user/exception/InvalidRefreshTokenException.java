@@ -0,0 +1,11 @@
+package com.smartjob.user.exception;
+
+/**
+ * Exception thrown when a refresh token is unknown, expired or was already
+ * used.
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
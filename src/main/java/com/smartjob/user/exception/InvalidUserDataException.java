@@ -0,0 +1,25 @@
+package com.smartjob.user.exception;
+
+import com.smartjob.user.service.util.ValidationResult;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Exception thrown when a registration request has one or more invalid
+ * fields. Carries every violation, not only the first one, and no stack
+ * trace.
+ */
+@Getter
+public class InvalidUserDataException extends RuntimeException {
+
+    /**
+     * The invalid fields, in request order.
+     */
+    private final transient List<ValidationResult.Violation> violations;
+
+    public InvalidUserDataException(ValidationResult result) {
+        super(result.summary(), null, false, false);
+        this.violations = result.getViolations();
+    }
+}
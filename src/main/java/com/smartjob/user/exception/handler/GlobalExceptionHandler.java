@@ -1,15 +1,25 @@
 package com.smartjob.user.exception.handler;
 
 import com.smartjob.user.dto.Error;
+import com.smartjob.user.dto.PostUserRequest;
+import com.smartjob.user.exception.AuthenticationRequiredException;
 import com.smartjob.user.exception.EmailAlreadyExistsException;
+import com.smartjob.user.exception.HashingCapacityExceededException;
 import com.smartjob.user.exception.InvalidEmailFormatException;
 import com.smartjob.user.exception.InvalidPasswordFormatException;
+import com.smartjob.user.exception.InvalidRefreshTokenException;
+import com.smartjob.user.exception.InvalidUserDataException;
+import com.smartjob.user.mapper.ErrorBodyCache;
 import com.smartjob.user.mapper.ErrorMapper;
+import com.smartjob.user.service.util.ValidationResult;
+import com.smartjob.user.service.util.ValidationService;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -21,9 +31,12 @@ import java.util.stream.Collectors;
 /**
  * Global exception handler for the application.
  * Captures all exceptions and converts them into JSON responses using
- * the Error class generated by OpenAPI: {"message": "error message"}
+ * the Error class generated by OpenAPI: {"message": "error message"},
+ * plus {"errors": [{"field", "message"}]} for invalid registration data.
  *
  * Returns the appropriate HTTP status codes based on the error type.
+ * The frequent registration errors (duplicate email, invalid registration
+ * data) are written from bodies encoded once by {@link ErrorBodyCache}.
  */
 @Slf4j
 @RestControllerAdvice
@@ -31,16 +44,17 @@ import java.util.stream.Collectors;
 public class GlobalExceptionHandler {
 
     private final ErrorMapper errorMapper;
+    private final ErrorBodyCache errorBodyCache;
+    private final ValidationService validationService;
 
     /**
      * Handles exceptions for already registered emails.
      * HTTP 409 Conflict
      */
     @ExceptionHandler(EmailAlreadyExistsException.class)
-    public Mono<ResponseEntity<Error>> handleEmailAlreadyExists(EmailAlreadyExistsException ex) {
+    public Mono<ResponseEntity<byte[]>> handleEmailAlreadyExists(EmailAlreadyExistsException ex) {
         log.warn("Email ya existe: {}", ex.getMessage());
-        Error error = errorMapper.toError(ex);
-        return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(error));
+        return Mono.just(encodedError(HttpStatus.CONFLICT, ex.getMessage()));
     }
 
     /**
@@ -48,10 +62,9 @@ public class GlobalExceptionHandler {
      * HTTP 400 Bad Request
      */
     @ExceptionHandler(InvalidEmailFormatException.class)
-    public Mono<ResponseEntity<Error>> handleInvalidEmailFormat(InvalidEmailFormatException ex) {
+    public Mono<ResponseEntity<byte[]>> handleInvalidEmailFormat(InvalidEmailFormatException ex) {
         log.warn("Formato de email inválido: {}", ex.getMessage());
-        Error error = errorMapper.toError(ex);
-        return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error));
+        return Mono.just(encodedError(HttpStatus.BAD_REQUEST, ex.getMessage()));
     }
 
     /**
@@ -59,22 +72,80 @@ public class GlobalExceptionHandler {
      * HTTP 400 Bad Request
      */
     @ExceptionHandler(InvalidPasswordFormatException.class)
-    public Mono<ResponseEntity<Error>> handleInvalidPasswordFormat(InvalidPasswordFormatException ex) {
+    public Mono<ResponseEntity<byte[]>> handleInvalidPasswordFormat(InvalidPasswordFormatException ex) {
         log.warn("Formato de password inválido: {}", ex.getMessage());
+        return Mono.just(encodedError(HttpStatus.BAD_REQUEST, ex.getMessage()));
+    }
+
+    /**
+     * Handles registration requests with one or more invalid fields,
+     * reported together.
+     * HTTP 400 Bad Request
+     */
+    @ExceptionHandler(InvalidUserDataException.class)
+    public Mono<ResponseEntity<byte[]>> handleInvalidUserData(InvalidUserDataException ex) {
+        log.warn("Datos de usuario inválidos: {}", ex.getMessage());
+        return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorBodyCache.encode(ex)));
+    }
+
+    /**
+     * Handles operations that need an authenticated user.
+     * HTTP 401 Unauthorized with a Bearer challenge
+     */
+    @ExceptionHandler(AuthenticationRequiredException.class)
+    public Mono<ResponseEntity<Error>> handleAuthenticationRequired(AuthenticationRequiredException ex) {
+        log.warn("Operación sin autenticar: {}", ex.getMessage());
         Error error = errorMapper.toError(ex);
-        return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error));
+        return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                .body(error));
+    }
+
+    /**
+     * Handles refresh tokens that are unknown, expired or already used.
+     * HTTP 401 Unauthorized
+     */
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public Mono<ResponseEntity<Error>> handleInvalidRefreshToken(InvalidRefreshTokenException ex) {
+        log.warn("Refresh token rechazado: {}", ex.getMessage());
+        Error error = errorMapper.toError(ex);
+        return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error));
+    }
+
+    /**
+     * Handles requests shed because the password hashing pool is saturated.
+     * HTTP 429 Too Many Requests with a Retry-After header
+     */
+    @ExceptionHandler(HashingCapacityExceededException.class)
+    public Mono<ResponseEntity<Error>> handleHashingCapacityExceeded(HashingCapacityExceededException ex) {
+        log.warn("Pool de hashing saturado: {}", ex.getMessage());
+        Error error = errorMapper.toError(ex);
+        return Mono.just(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error));
     }
 
     /**
      * Handles Bean Validation (Jakarta Validation) errors.
      * These are errors generated by annotations such as @Valid, @Pattern, @Size,
      * etc., in the DTOs generated by OpenAPI.
+     * A rejected registration request is validated by {@link ValidationService}
+     * as well, so the response lists every invalid field in {@code errors},
+     * the same as {@link InvalidUserDataException}.
      * HTTP 400 Bad Request
      */
     @ExceptionHandler(WebExchangeBindException.class)
-    public Mono<ResponseEntity<Error>> handleValidationErrors(WebExchangeBindException ex) {
+    public Mono<ResponseEntity<byte[]>> handleValidationErrors(WebExchangeBindException ex) {
         log.warn("Error de validación en DTO: {}", ex.getMessage());
 
+        if (ex.getTarget() instanceof PostUserRequest request) {
+            ValidationResult result = validationService.validate(request);
+            ex.getFieldErrors().forEach(error -> result.merge(error.getField(), error.getDefaultMessage()));
+            return handleInvalidUserData(new InvalidUserDataException(result));
+        }
+
         String errorMessage = ex.getBindingResult()
                 .getFieldErrors()
                 .stream()
@@ -89,8 +160,7 @@ public class GlobalExceptionHandler {
             errorMessage = "Error de validación en los datos enviados";
         }
 
-        Error error = errorMapper.toError(errorMessage);
-        return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error));
+        return Mono.just(encodedError(HttpStatus.BAD_REQUEST, errorMessage));
     }
 
     /**
@@ -144,6 +214,8 @@ public class GlobalExceptionHandler {
         if (ex instanceof EmailAlreadyExistsException ||
                 ex instanceof InvalidEmailFormatException ||
                 ex instanceof InvalidPasswordFormatException ||
+                ex instanceof InvalidUserDataException ||
+                ex instanceof HashingCapacityExceededException ||
                 ex instanceof IllegalArgumentException) {
             throw ex;
         }
@@ -151,4 +223,14 @@ public class GlobalExceptionHandler {
         Error error = errorMapper.toError("Error procesando la solicitud");
         return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error));
     }
+
+    /**
+     * Response with a pre-encoded {@code Error} body, written as bytes
+     * without going through Jackson.
+     */
+    private ResponseEntity<byte[]> encodedError(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorBodyCache.encode(message));
+    }
 }
@@ -0,0 +1,88 @@
+package com.smartjob.user.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartjob.user.dto.Error;
+import com.smartjob.user.exception.InvalidUserDataException;
+import com.smartjob.user.service.util.ValidationResult;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON {@code Error} bodies encoded once per message.
+ *
+ * The frequent errors (duplicate email, invalid registration data, the
+ * 401s of the authentication filter) carry a small, fixed set of
+ * messages, so their bodies are serialized the first time and then
+ * written as bytes. Invalid registration data is keyed by its violations:
+ * they hold field paths and configured messages, never the submitted
+ * values. Bodies beyond {@value #MAX_CACHED_BODIES} are encoded on every
+ * call, so a key that unexpectedly varies cannot grow the cache without
+ * bound.
+ */
+@Component
+public class ErrorBodyCache {
+
+    static final int MAX_CACHED_BODIES = 256;
+
+    private final ErrorMapper errorMapper;
+    private final ObjectMapper objectMapper;
+    private final Map<Object, byte[]> bodies = new ConcurrentHashMap<>();
+
+    public ErrorBodyCache(ErrorMapper errorMapper, ObjectMapper objectMapper) {
+        this.errorMapper = errorMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the encoded body for a message. The returned array is shared
+     * and must not be modified.
+     *
+     * @param message the error message
+     * @return the UTF-8 JSON of the {@code Error} with that message
+     */
+    public byte[] encode(String message) {
+        String key = message == null ? "" : message;
+        byte[] body = bodies.get(key);
+        if (body != null) {
+            return body;
+        }
+        return cache(key, serialize(errorMapper.toError(message)));
+    }
+
+    /**
+     * Returns the encoded body listing the invalid fields of a registration
+     * request. The returned array is shared and must not be modified.
+     *
+     * @param exception the validation exception
+     * @return the UTF-8 JSON of the {@code Error} with one entry in
+     *         {@code errors} per invalid field
+     */
+    public byte[] encode(InvalidUserDataException exception) {
+        List<ValidationResult.Violation> violations = exception.getViolations();
+        byte[] body = bodies.get(violations);
+        if (body != null) {
+            return body;
+        }
+        return cache(List.copyOf(violations), serialize(errorMapper.toError(exception)));
+    }
+
+    private byte[] cache(Object key, byte[] body) {
+        if (bodies.size() < MAX_CACHED_BODIES) {
+            byte[] cached = bodies.putIfAbsent(key, body);
+            return cached != null ? cached : body;
+        }
+        return body;
+    }
+
+    private byte[] serialize(Error error) {
+        try {
+            return objectMapper.writeValueAsBytes(error);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el cuerpo de error", e);
+        }
+    }
+}
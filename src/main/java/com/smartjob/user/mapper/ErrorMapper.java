@@ -1,6 +1,8 @@
 package com.smartjob.user.mapper;
 
 import com.smartjob.user.dto.Error;
+import com.smartjob.user.dto.ErrorDetail;
+import com.smartjob.user.exception.InvalidUserDataException;
 import org.springframework.stereotype.Component;
 
 /**
@@ -10,6 +12,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class ErrorMapper {
 
+    private static final String INVALID_USER_DATA_MESSAGE = "Los datos del usuario no son válidos";
+
     /**
      * Creates an Error object from a message.
      *
@@ -32,6 +36,20 @@ public class ErrorMapper {
         return toError(exception.getMessage());
     }
 
+    /**
+     * Creates an Error object listing every invalid field.
+     *
+     * @param exception the validation exception
+     * @return Error object with one entry in {@code errors} per invalid field
+     */
+    public Error toError(InvalidUserDataException exception) {
+        Error error = toError(INVALID_USER_DATA_MESSAGE);
+        exception.getViolations().forEach(violation -> error.addErrorsItem(new ErrorDetail()
+                .field(violation.field())
+                .message(violation.message())));
+        return error;
+    }
+
     /**
      * Truncates a message if it exceeds the maximum length.
      *
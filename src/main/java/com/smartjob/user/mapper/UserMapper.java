@@ -3,6 +3,7 @@ package com.smartjob.user.mapper;
 import com.smartjob.user.dto.Phone;
 import com.smartjob.user.dto.PostUserRequest;
 import com.smartjob.user.dto.PostUserResponse;
+import com.smartjob.user.dto.UserSummary;
 import com.smartjob.user.entity.PhoneEntity;
 import com.smartjob.user.entity.UserEntity;
 import org.mapstruct.Mapper;
@@ -24,11 +25,10 @@ public interface UserMapper {
      * Converts a PostUserRequest DTO into a UserEntity.
      *
      * @param request the request DTO
-     * @return a user entity (without encrypted password, token, or ID)
+     * @return a user entity (without encrypted password or ID)
      */
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "password", ignore = true)
-    @Mapping(target = "token", ignore = true)
     @Mapping(target = "created", ignore = true)
     @Mapping(target = "modified", ignore = true)
     @Mapping(target = "lastLogin", ignore = true)
@@ -58,7 +58,8 @@ public interface UserMapper {
 
     /**
      * Converts a UserEntity into a PostUserResponse DTO.
-     * Maps all fields required for the response.
+     * Maps all fields required for the response except the tokens, which
+     * are not part of the user.
      *
      * @param user the user entity
      * @return the response DTO
@@ -68,8 +69,23 @@ public interface UserMapper {
     @Mapping(target = "lastLogin", source = "lastLogin", qualifiedByName = "toOffsetDateTime")
     @Mapping(target = "isActive", source = "isActive")
     @Mapping(target = "phones", source = "phones", qualifiedByName = "phoneEntityListToDtoList")
+    @Mapping(target = "token", ignore = true)
+    @Mapping(target = "refreshToken", ignore = true)
     PostUserResponse toResponse(UserEntity user);
 
+    /**
+     * Converts a UserEntity into a UserSummary DTO for listings.
+     * The phones must already be loaded.
+     *
+     * @param user the user entity
+     * @return the summary DTO
+     */
+    @Mapping(target = "created", source = "created", qualifiedByName = "toOffsetDateTime")
+    @Mapping(target = "modified", source = "modified", qualifiedByName = "toOffsetDateTime")
+    @Mapping(target = "lastLogin", source = "lastLogin", qualifiedByName = "toOffsetDateTime")
+    @Mapping(target = "phones", source = "phones", qualifiedByName = "phoneEntityListToDtoList")
+    UserSummary toSummary(UserEntity user);
+
     /**
      * Converts a list of PhoneEntity objects into a list of Phone DTOs.
      *
@@ -0,0 +1,60 @@
+package com.smartjob.user.repository;
+
+import com.smartjob.user.entity.RefreshTokenEntity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.UUID;
+
+/**
+ * Reactive wrapper for RefreshTokenRepository.
+ * Converts blocking JPA operations into reactive ones using Schedulers.
+ *
+ * Active in every profile except {@code r2dbc}.
+ */
+@Slf4j
+@Component
+@Profile("!r2dbc")
+@RequiredArgsConstructor
+public class JpaReactiveRefreshTokenRepository implements ReactiveRefreshTokenRepository {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    public Mono<RefreshTokenEntity> save(RefreshTokenEntity refreshToken) {
+        log.debug("Guardando refresh token {} del usuario {}", refreshToken.getId(), refreshToken.getUserId());
+        return Mono.fromCallable(() -> refreshTokenRepository.save(refreshToken))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<RefreshTokenEntity> findById(UUID id) {
+        return Mono.fromCallable(() -> refreshTokenRepository.findById(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    @Override
+    public Mono<Boolean> markUsed(UUID id, long now) {
+        return Mono.fromCallable(() -> refreshTokenRepository.markUsed(id, now) > 0)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<Long> deleteByUserId(UUID userId) {
+        return Mono.fromCallable(() -> (long) refreshTokenRepository.deleteByUserId(userId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<Long> deleteExpired(long now) {
+        return Mono.fromCallable(() -> (long) refreshTokenRepository.deleteExpired(now))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,47 @@
+package com.smartjob.user.repository;
+
+import com.smartjob.user.entity.TokenRevocationEntity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive wrapper for TokenRevocationRepository.
+ * Converts blocking JPA operations into reactive ones using Schedulers.
+ *
+ * Active in every profile except {@code r2dbc}.
+ */
+@Slf4j
+@Component
+@Profile("!r2dbc")
+@RequiredArgsConstructor
+public class JpaReactiveTokenRevocationRepository implements ReactiveTokenRevocationRepository {
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+
+    @Override
+    public Mono<TokenRevocationEntity> save(TokenRevocationEntity revocation) {
+        log.debug("Guardando revocación {} {}", revocation.getType(), revocation.getId());
+        return Mono.fromCallable(() -> tokenRevocationRepository.save(revocation))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Flux<TokenRevocationEntity> findRevokedSince(long since) {
+        return Mono.fromCallable(() -> tokenRevocationRepository.findByRevokedAtGreaterThanEqual(since))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapIterable(revocations -> revocations);
+    }
+
+    @Override
+    public Mono<Long> deleteExpired(long now) {
+        return Mono.fromCallable(() -> (long) tokenRevocationRepository.deleteExpired(now))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
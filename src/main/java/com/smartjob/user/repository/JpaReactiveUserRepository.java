@@ -0,0 +1,222 @@
+package com.smartjob.user.repository;
+
+import com.smartjob.user.entity.RefreshTokenEntity;
+import com.smartjob.user.entity.UserEntity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reactive wrapper for UserRepository.
+ * Converts blocking JPA operations into reactive ones using Schedulers.
+ *
+ * Active in every profile except {@code r2dbc}, where
+ * {@link R2dbcReactiveUserRepository} takes over.
+ */
+@Slf4j
+@Component
+@Profile("!r2dbc")
+@RequiredArgsConstructor
+public class JpaReactiveUserRepository implements ReactiveUserRepository {
+
+    private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Saves a user reactively.
+     *
+     * @param user the user to save
+     * @return Mono containing the saved user
+     */
+    @Override
+    public Mono<UserEntity> save(UserEntity user) {
+        log.debug("Guardando usuario con email: {}", user.getEmail());
+        return Mono.fromCallable(() -> userRepository.save(user))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnSuccess(savedUser -> log.debug("Usuario guardado con ID: {}", savedUser.getId()))
+                .doOnError(error -> log.error("Error al guardar usuario: {}", error.getMessage()));
+    }
+
+    /**
+     * Saves a new user, their phones and their first refresh token in one
+     * transaction.
+     *
+     * @param user         the user to save
+     * @param refreshToken the user's first refresh token
+     * @return Mono containing the saved user
+     */
+    @Override
+    public Mono<UserEntity> save(UserEntity user, RefreshTokenEntity refreshToken) {
+        log.debug("Guardando usuario con email: {} y su refresh token", user.getEmail());
+        return Mono.fromCallable(() -> transactionTemplate.execute(status -> {
+                    UserEntity savedUser = userRepository.save(user);
+                    refreshTokenRepository.save(refreshToken);
+                    return savedUser;
+                }))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnSuccess(savedUser -> log.debug("Usuario guardado con ID: {}", savedUser.getId()))
+                .doOnError(error -> log.error("Error al guardar usuario: {}", error.getMessage()));
+    }
+
+    /**
+     * Saves several users in one transaction. With
+     * {@code hibernate.jdbc.batch_size} and {@code hibernate.order_inserts}
+     * configured, Hibernate groups the INSERTs of users and phones into JDBC
+     * batches.
+     *
+     * @param users the users to save
+     * @return Flux containing the saved users
+     */
+    @Override
+    public Flux<UserEntity> saveAll(List<UserEntity> users) {
+        log.debug("Guardando lote de {} usuario(s)", users.size());
+        return Mono.fromCallable(() -> userRepository.saveAll(users))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapIterable(savedUsers -> savedUsers)
+                .doOnError(error -> log.error("Error al guardar lote de usuarios: {}", error.getMessage()));
+    }
+
+    /**
+     * Finds a user by email reactively.
+     *
+     * @param email the user's email
+     * @return Mono containing the user if found, or Mono.empty() if not
+     */
+    @Override
+    public Mono<UserEntity> findByEmail(String email) {
+        log.debug("Buscando usuario por email: {}", email);
+        return Mono.fromCallable(() -> userRepository.findByEmail(email))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty)
+                .doOnSuccess(user -> {
+                    if (user != null) {
+                        log.debug("Usuario encontrado: {}", user.getId());
+                    } else {
+                        log.debug("Usuario no encontrado con email: {}", email);
+                    }
+                });
+    }
+
+    /**
+     * Finds a user by email with their phones loaded, reactively.
+     *
+     * @param email the user's email
+     * @return Mono containing the user and their phones if found
+     */
+    @Override
+    public Mono<UserEntity> findByEmailWithPhones(String email) {
+        log.debug("Buscando usuario con teléfonos por email: {}", email);
+        return Mono.fromCallable(() -> userRepository.findByEmailWithPhones(email))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    /**
+     * Checks whether a user with the specified email exists, reactively.
+     *
+     * @param email the email to check
+     * @return Mono<Boolean> with true if the user exists, false otherwise
+     */
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        log.debug("Verificando existencia de email: {}", email);
+        return Mono.fromCallable(() -> userRepository.existsByEmail(email))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnSuccess(exists -> log.debug("Email {} existe: {}", email, exists));
+    }
+
+    @Override
+    public Flux<String> findExistingEmails(Collection<String> emails) {
+        log.debug("Verificando existencia de {} email(s)", emails.size());
+        return Mono.fromCallable(() -> userRepository.findExistingEmails(emails))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapIterable(existing -> existing);
+    }
+
+    /**
+     * Reads one page of emails in id order, seeking past the previous page
+     * by primary key.
+     *
+     * @param afterId the id to start after, or null for the first page
+     * @param limit   the maximum number of emails to return
+     * @return Flux containing the emails of the page
+     */
+    @Override
+    public Flux<UserEmail> findEmailPage(UUID afterId, int limit) {
+        Pageable page = PageRequest.ofSize(limit);
+        return Mono.fromCallable(() -> afterId == null
+                        ? userRepository.findFirstEmails(page)
+                        : userRepository.findEmailsAfter(afterId, page))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapIterable(emails -> emails);
+    }
+
+    /**
+     * Finds a user by ID reactively.
+     *
+     * @param id the user's UUID
+     * @return Mono containing the user if found
+     */
+    @Override
+    public Mono<UserEntity> findById(@NonNull UUID id) {
+        log.debug("Buscando usuario por ID: {}", id);
+        return Mono.fromCallable(() -> userRepository.findById(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    /**
+     * Loads a page in two queries: the identifiers of the page from the
+     * {@code idx_created_id} index, then those users with their phones in a
+     * single fetch join. Paginating the fetch join directly would make
+     * Hibernate apply the limit in memory.
+     *
+     * @param after the position to start after, or null for the first page
+     * @param limit the maximum number of users to return
+     * @return Flux containing the users of the page, in order
+     */
+    @Override
+    public Flux<UserEntity> findPage(UserCursor after, int limit) {
+        log.debug("Buscando página de {} usuario(s) después de {}", limit, after);
+        return Mono.fromCallable(() -> {
+                    Pageable page = PageRequest.ofSize(limit);
+                    List<UUID> ids = after == null
+                            ? userRepository.findFirstPageIds(page)
+                            : userRepository.findPageIdsAfter(after.created(), after.id(), page);
+                    return ids.isEmpty() ? List.<UserEntity>of() : userRepository.findAllWithPhonesByIdIn(ids);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapIterable(users -> users);
+    }
+
+    /**
+     * Deletes a user by ID reactively.
+     *
+     * @param id the UUID of the user to delete
+     * @return Mono<Void> that completes when the operation finishes
+     */
+    @Override
+    public Mono<Void> deleteById(@NonNull UUID id) {
+        log.debug("Eliminando usuario con ID: {}", id);
+        return Mono.fromRunnable(() -> userRepository.deleteById(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then()
+                .doOnSuccess(unused -> log.debug("Usuario eliminado: {}", id));
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.smartjob.user.repository;
+
+import com.smartjob.user.entity.UserTokenEntity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive wrapper for UserTokenRepository.
+ * Converts blocking JPA operations into reactive ones using Schedulers.
+ *
+ * Active in every profile except {@code r2dbc}.
+ */
+@Slf4j
+@Component
+@Profile("!r2dbc")
+@RequiredArgsConstructor
+public class JpaReactiveUserTokenRepository implements ReactiveUserTokenRepository {
+
+    private final UserTokenRepository userTokenRepository;
+
+    @Override
+    public Mono<UserTokenEntity> save(UserTokenEntity userToken) {
+        log.debug("Guardando token del usuario {}", userToken.getUserId());
+        return Mono.fromCallable(() -> userTokenRepository.save(userToken))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,99 @@
+package com.smartjob.user.repository;
+
+import com.smartjob.user.entity.RefreshTokenEntity;
+
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking implementation of {@link ReactiveRefreshTokenRepository}
+ * backed by R2DBC.
+ *
+ * Active only with the {@code r2dbc} profile.
+ */
+@Slf4j
+@Component
+@Profile("r2dbc")
+@RequiredArgsConstructor
+public class R2dbcReactiveRefreshTokenRepository implements ReactiveRefreshTokenRepository {
+
+    private static final String INSERT_REFRESH_TOKEN = """
+            INSERT INTO refresh_tokens (id, user_id, email, token_hash, expires_at, used)
+            VALUES (:id, :userId, :email, :tokenHash, :expiresAt, :used)""";
+
+    private static final String MARK_USED = """
+            UPDATE refresh_tokens SET used = TRUE
+            WHERE id = :id AND used = FALSE AND expires_at > :now""";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<RefreshTokenEntity> save(RefreshTokenEntity refreshToken) {
+        log.debug("Guardando refresh token {} del usuario {}", refreshToken.getId(), refreshToken.getUserId());
+        return databaseClient.sql(INSERT_REFRESH_TOKEN)
+                .bind("id", refreshToken.getId())
+                .bind("userId", refreshToken.getUserId())
+                .bind("email", refreshToken.getEmail())
+                .bind("tokenHash", refreshToken.getTokenHash())
+                .bind("expiresAt", refreshToken.getExpiresAt())
+                .bind("used", refreshToken.isUsed())
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(refreshToken);
+    }
+
+    @Override
+    public Mono<RefreshTokenEntity> findById(UUID id) {
+        return databaseClient.sql("""
+                        SELECT id, user_id, email, token_hash, expires_at, used
+                        FROM refresh_tokens WHERE id = :id""")
+                .bind("id", id)
+                .map((row, metadata) -> mapRefreshToken(row))
+                .one();
+    }
+
+    @Override
+    public Mono<Boolean> markUsed(UUID id, long now) {
+        return databaseClient.sql(MARK_USED)
+                .bind("id", id)
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated()
+                .map(updated -> updated > 0);
+    }
+
+    @Override
+    public Mono<Long> deleteByUserId(UUID userId) {
+        return databaseClient.sql("DELETE FROM refresh_tokens WHERE user_id = :userId")
+                .bind("userId", userId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Override
+    public Mono<Long> deleteExpired(long now) {
+        return databaseClient.sql("DELETE FROM refresh_tokens WHERE expires_at <= :now")
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static RefreshTokenEntity mapRefreshToken(Row row) {
+        return RefreshTokenEntity.builder()
+                .id(row.get("id", UUID.class))
+                .userId(row.get("user_id", UUID.class))
+                .email(row.get("email", String.class))
+                .tokenHash(row.get("token_hash", String.class))
+                .expiresAt(row.get("expires_at", Long.class))
+                .used(Boolean.TRUE.equals(row.get("used", Boolean.class)))
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.smartjob.user.repository;
+
+import com.smartjob.user.entity.TokenRevocationEntity;
+
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking implementation of {@link ReactiveTokenRevocationRepository}
+ * backed by R2DBC.
+ *
+ * Active only with the {@code r2dbc} profile.
+ */
+@Slf4j
+@Component
+@Profile("r2dbc")
+@RequiredArgsConstructor
+public class R2dbcReactiveTokenRevocationRepository implements ReactiveTokenRevocationRepository {
+
+    // UPDATE then INSERT: portable upsert for H2 and PostgreSQL
+    private static final String UPDATE_REVOCATION = """
+            UPDATE token_revocations
+            SET type = :type, not_before = :notBefore, expires_at = :expiresAt, revoked_at = :revokedAt
+            WHERE id = :id""";
+
+    private static final String INSERT_REVOCATION = """
+            INSERT INTO token_revocations (id, type, not_before, expires_at, revoked_at)
+            VALUES (:id, :type, :notBefore, :expiresAt, :revokedAt)""";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<TokenRevocationEntity> save(TokenRevocationEntity revocation) {
+        log.debug("Guardando revocación {} {}", revocation.getType(), revocation.getId());
+        return bind(databaseClient.sql(UPDATE_REVOCATION), revocation)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated > 0
+                        ? Mono.just(revocation)
+                        : bind(databaseClient.sql(INSERT_REVOCATION), revocation)
+                                .fetch()
+                                .rowsUpdated()
+                                .thenReturn(revocation));
+    }
+
+    @Override
+    public Flux<TokenRevocationEntity> findRevokedSince(long since) {
+        return databaseClient.sql("""
+                        SELECT id, type, not_before, expires_at, revoked_at FROM token_revocations
+                        WHERE revoked_at >= :since""")
+                .bind("since", since)
+                .map((row, metadata) -> mapRevocation(row))
+                .all();
+    }
+
+    @Override
+    public Mono<Long> deleteExpired(long now) {
+        return databaseClient.sql("DELETE FROM token_revocations WHERE expires_at <= :now")
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static GenericExecuteSpec bind(GenericExecuteSpec spec, TokenRevocationEntity revocation) {
+        spec = spec.bind("id", revocation.getId())
+                .bind("type", revocation.getType().name())
+                .bind("expiresAt", revocation.getExpiresAt())
+                .bind("revokedAt", revocation.getRevokedAt());
+        return revocation.getNotBefore() != null
+                ? spec.bind("notBefore", revocation.getNotBefore())
+                : spec.bindNull("notBefore", Long.class);
+    }
+
+    private static TokenRevocationEntity mapRevocation(Row row) {
+        return TokenRevocationEntity.builder()
+                .id(row.get("id", UUID.class))
+                .type(TokenRevocationEntity.Type.valueOf(row.get("type", String.class)))
+                .notBefore(row.get("not_before", Long.class))
+                .expiresAt(row.get("expires_at", Long.class))
+                .revokedAt(row.get("revoked_at", Long.class))
+                .build();
+    }
+}
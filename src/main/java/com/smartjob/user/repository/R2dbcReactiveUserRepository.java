@@ -0,0 +1,387 @@
+package com.smartjob.user.repository;
+
+import com.smartjob.user.entity.PhoneEntity;
+import com.smartjob.user.entity.RefreshTokenEntity;
+import com.smartjob.user.entity.UserEntity;
+import com.smartjob.user.util.IdGenerator;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.NonNull;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Non-blocking implementation of {@link ReactiveUserRepository} backed by R2DBC.
+ * Works against H2 and PostgreSQL; the schema lives in
+ * {@code db/r2dbc/schema.sql}.
+ *
+ * Active only with the {@code r2dbc} profile.
+ */
+@Slf4j
+@Component
+@Profile("r2dbc")
+@RequiredArgsConstructor
+public class R2dbcReactiveUserRepository implements ReactiveUserRepository {
+
+    private static final String USER_COLUMNS =
+            "id, name, email, password, created, modified, last_login, is_active";
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (id, name, email, password, created, modified, last_login, is_active)
+            VALUES (:id, :name, :email, :password, :created, :modified, :lastLogin, :isActive)""";
+
+    private static final String INSERT_PHONE = """
+            INSERT INTO phones (id, number, city_code, country_code, user_id)
+            VALUES (:id, :number, :cityCode, :countryCode, :userId)""";
+
+    private static final String BATCH_INSERT_USER = """
+            INSERT INTO users (id, name, email, password, created, modified, last_login, is_active)
+            VALUES ($1, $2, $3, $4, $5, $6, $7, $8)""";
+
+    private static final String BATCH_INSERT_PHONE = """
+            INSERT INTO phones (id, number, city_code, country_code, user_id)
+            VALUES ($1, $2, $3, $4, $5)""";
+
+    private static final String SELECT_FIRST_PAGE =
+            "SELECT " + USER_COLUMNS + " FROM users ORDER BY created, id LIMIT :limit";
+
+    private static final String SELECT_PAGE_AFTER = "SELECT " + USER_COLUMNS + " FROM users"
+            + " WHERE (created, id) > (:created, :id) ORDER BY created, id LIMIT :limit";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final IdGenerator idGenerator;
+    private final ReactiveRefreshTokenRepository reactiveRefreshTokenRepository;
+
+    /**
+     * Inserts a user and their phones in a single transaction.
+     * Missing identifiers and timestamps are filled in before the insert.
+     *
+     * @param user the user to save
+     * @return Mono containing the saved user
+     */
+    @Override
+    public Mono<UserEntity> save(UserEntity user) {
+        log.debug("Guardando usuario con email: {}", user.getEmail());
+        return insertUserWithPhones(user)
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(savedUser -> log.debug("Usuario guardado con ID: {}", savedUser.getId()))
+                .doOnError(error -> log.error("Error al guardar usuario: {}", error.getMessage()));
+    }
+
+    /**
+     * Inserts a user, their phones and their first refresh token in a
+     * single transaction; the refresh token INSERT joins it through the
+     * transaction bound to the subscriber context.
+     *
+     * @param user         the user to save
+     * @param refreshToken the user's first refresh token
+     * @return Mono containing the saved user
+     */
+    @Override
+    public Mono<UserEntity> save(UserEntity user, RefreshTokenEntity refreshToken) {
+        log.debug("Guardando usuario con email: {} y su refresh token", user.getEmail());
+        return insertUserWithPhones(user)
+                .flatMap(savedUser -> reactiveRefreshTokenRepository.save(refreshToken).thenReturn(savedUser))
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(savedUser -> log.debug("Usuario guardado con ID: {}", savedUser.getId()))
+                .doOnError(error -> log.error("Error al guardar usuario: {}", error.getMessage()));
+    }
+
+    /**
+     * Inserts several users and their phones in a single transaction, using
+     * one batched statement (R2DBC {@code Statement.add()}) for users and
+     * another one for phones.
+     *
+     * @param users the users to save
+     * @return Flux containing the saved users
+     */
+    @Override
+    public Flux<UserEntity> saveAll(List<UserEntity> users) {
+        log.debug("Guardando lote de {} usuario(s)", users.size());
+        return Mono.defer(() -> {
+                    users.forEach(this::prepareForInsert);
+                    List<PhoneEntity> phones = users.stream()
+                            .flatMap(user -> user.getPhones().stream())
+                            .toList();
+                    return databaseClient.inConnectionMany(connection -> executeBatch(connection, users, phones))
+                            .then();
+                })
+                .as(transactionalOperator::transactional)
+                .thenMany(Flux.fromIterable(users))
+                .doOnError(error -> log.error("Error al guardar lote de usuarios: {}", error.getMessage()));
+    }
+
+    @Override
+    public Mono<UserEntity> findByEmail(String email) {
+        log.debug("Buscando usuario por email: {}", email);
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM users WHERE email = :email")
+                .bind("email", email)
+                .map((row, metadata) -> mapUser(row))
+                .first()
+                .doOnSuccess(user -> {
+                    if (user != null) {
+                        log.debug("Usuario encontrado: {}", user.getId());
+                    } else {
+                        log.debug("Usuario no encontrado con email: {}", email);
+                    }
+                });
+    }
+
+    @Override
+    public Mono<UserEntity> findByEmailWithPhones(String email) {
+        log.debug("Buscando usuario con teléfonos por email: {}", email);
+        return findByEmail(email).flatMap(this::loadPhones);
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        log.debug("Verificando existencia de email: {}", email);
+        return databaseClient.sql("SELECT 1 FROM users WHERE email = :email LIMIT 1")
+                .bind("email", email)
+                .map((row, metadata) -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE)
+                .doOnSuccess(exists -> log.debug("Email {} existe: {}", email, exists));
+    }
+
+    @Override
+    public Flux<String> findExistingEmails(Collection<String> emails) {
+        log.debug("Verificando existencia de {} email(s)", emails.size());
+        return databaseClient.sql("SELECT email FROM users WHERE email IN (:emails)")
+                .bind("emails", emails)
+                .map((row, metadata) -> row.get("email", String.class))
+                .all();
+    }
+
+    @Override
+    public Flux<UserEmail> findEmailPage(UUID afterId, int limit) {
+        GenericExecuteSpec spec = afterId == null
+                ? databaseClient.sql("SELECT id, email FROM users ORDER BY id LIMIT :limit")
+                : databaseClient.sql("SELECT id, email FROM users WHERE id > :id ORDER BY id LIMIT :limit")
+                        .bind("id", afterId);
+        return spec.bind("limit", limit)
+                .map((row, metadata) -> new UserEmail(row.get("id", UUID.class), row.get("email", String.class)))
+                .all();
+    }
+
+    @Override
+    public Mono<UserEntity> findById(@NonNull UUID id) {
+        log.debug("Buscando usuario por ID: {}", id);
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM users WHERE id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> mapUser(row))
+                .first();
+    }
+
+    /**
+     * Loads a page in two queries: the users of the page, using a row-value
+     * comparison on {@code (created, id)} that the {@code idx_created_id}
+     * index can seek to, then the phones of all of them at once.
+     *
+     * @param after the position to start after, or null for the first page
+     * @param limit the maximum number of users to return
+     * @return Flux containing the users of the page, in order
+     */
+    @Override
+    public Flux<UserEntity> findPage(UserCursor after, int limit) {
+        log.debug("Buscando página de {} usuario(s) después de {}", limit, after);
+        GenericExecuteSpec spec = after == null
+                ? databaseClient.sql(SELECT_FIRST_PAGE)
+                : databaseClient.sql(SELECT_PAGE_AFTER)
+                        .bind("created", after.created())
+                        .bind("id", after.id());
+        return spec.bind("limit", limit)
+                .map((row, metadata) -> mapUser(row))
+                .all()
+                .collectList()
+                .flatMapMany(this::loadPagePhones);
+    }
+
+    @Override
+    public Mono<Void> deleteById(@NonNull UUID id) {
+        log.debug("Eliminando usuario con ID: {}", id);
+        return databaseClient.sql("DELETE FROM phones WHERE user_id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .then(databaseClient.sql("DELETE FROM users WHERE id = :id")
+                        .bind("id", id)
+                        .fetch()
+                        .rowsUpdated())
+                .as(transactionalOperator::transactional)
+                .then()
+                .doOnSuccess(unused -> log.debug("Usuario eliminado: {}", id));
+    }
+
+    /**
+     * Fills in the values that Hibernate would otherwise generate
+     * (identifiers, audit timestamps and defaults).
+     */
+    private void prepareForInsert(UserEntity user) {
+        LocalDateTime now = LocalDateTime.now();
+        if (user.getId() == null) {
+            user.setId(idGenerator.generate());
+        }
+        if (user.getCreated() == null) {
+            user.setCreated(now);
+        }
+        user.setModified(now);
+        if (user.getLastLogin() == null) {
+            user.setLastLogin(now);
+        }
+        if (user.getIsActive() == null) {
+            user.setIsActive(true);
+        }
+        for (PhoneEntity phone : user.getPhones()) {
+            if (phone.getId() == null) {
+                phone.setId(idGenerator.generate());
+            }
+            phone.setUser(user);
+        }
+    }
+
+    private Mono<UserEntity> insertUserWithPhones(UserEntity user) {
+        return Mono.defer(() -> {
+            prepareForInsert(user);
+            return insertUser(user)
+                    .thenMany(Flux.fromIterable(user.getPhones()).concatMap(this::insertPhone))
+                    .then(Mono.just(user));
+        });
+    }
+
+    private Mono<Long> insertUser(UserEntity user) {
+        return databaseClient.sql(INSERT_USER)
+                .bind("id", user.getId())
+                .bind("name", user.getName())
+                .bind("email", user.getEmail())
+                .bind("password", user.getPassword())
+                .bind("created", user.getCreated())
+                .bind("modified", user.getModified())
+                .bind("lastLogin", user.getLastLogin())
+                .bind("isActive", user.getIsActive())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private Mono<Long> insertPhone(PhoneEntity phone) {
+        GenericExecuteSpec spec = databaseClient.sql(INSERT_PHONE)
+                .bind("id", phone.getId())
+                .bind("number", phone.getNumber())
+                .bind("countryCode", phone.getCountryCode())
+                .bind("userId", phone.getUser().getId());
+        return bindNullable(spec, "cityCode", phone.getCityCode(), String.class)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private Flux<Long> executeBatch(Connection connection, List<UserEntity> users, List<PhoneEntity> phones) {
+        Statement userStatement = connection.createStatement(BATCH_INSERT_USER);
+        for (int i = 0; i < users.size(); i++) {
+            UserEntity user = users.get(i);
+            if (i > 0) {
+                userStatement.add();
+            }
+            userStatement.bind(0, user.getId())
+                    .bind(1, user.getName())
+                    .bind(2, user.getEmail())
+                    .bind(3, user.getPassword())
+                    .bind(4, user.getCreated())
+                    .bind(5, user.getModified())
+                    .bind(6, user.getLastLogin())
+                    .bind(7, user.getIsActive());
+        }
+        Flux<Long> userInserts = Flux.from(userStatement.execute()).flatMap(Result::getRowsUpdated);
+        if (phones.isEmpty()) {
+            return userInserts;
+        }
+
+        Statement phoneStatement = connection.createStatement(BATCH_INSERT_PHONE);
+        for (int i = 0; i < phones.size(); i++) {
+            PhoneEntity phone = phones.get(i);
+            if (i > 0) {
+                phoneStatement.add();
+            }
+            phoneStatement.bind(0, phone.getId())
+                    .bind(1, phone.getNumber())
+                    .bind(3, phone.getCountryCode())
+                    .bind(4, phone.getUser().getId());
+            if (phone.getCityCode() != null) {
+                phoneStatement.bind(2, phone.getCityCode());
+            } else {
+                phoneStatement.bindNull(2, String.class);
+            }
+        }
+        return userInserts.concatWith(Flux.from(phoneStatement.execute()).flatMap(Result::getRowsUpdated));
+    }
+
+    private Flux<UserEntity> loadPagePhones(List<UserEntity> users) {
+        if (users.isEmpty()) {
+            return Flux.empty();
+        }
+        Map<UUID, UserEntity> usersById = new HashMap<>();
+        users.forEach(user -> usersById.put(user.getId(), user));
+        return databaseClient.sql(
+                        "SELECT id, number, city_code, country_code, user_id FROM phones WHERE user_id IN (:userIds)")
+                .bind("userIds", usersById.keySet())
+                .map((row, metadata) -> {
+                    usersById.get(row.get("user_id", UUID.class)).addPhone(mapPhone(row));
+                    return Boolean.TRUE;
+                })
+                .all()
+                .thenMany(Flux.fromIterable(users));
+    }
+
+    private Mono<UserEntity> loadPhones(UserEntity user) {
+        return databaseClient.sql("SELECT id, number, city_code, country_code FROM phones WHERE user_id = :userId")
+                .bind("userId", user.getId())
+                .map((row, metadata) -> mapPhone(row))
+                .all()
+                .doOnNext(user::addPhone)
+                .then(Mono.just(user));
+    }
+
+    private static GenericExecuteSpec bindNullable(GenericExecuteSpec spec, String name, Object value, Class<?> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+
+    private static UserEntity mapUser(Row row) {
+        return UserEntity.builder()
+                .id(row.get("id", UUID.class))
+                .name(row.get("name", String.class))
+                .email(row.get("email", String.class))
+                .password(row.get("password", String.class))
+                .created(row.get("created", LocalDateTime.class))
+                .modified(row.get("modified", LocalDateTime.class))
+                .lastLogin(row.get("last_login", LocalDateTime.class))
+                .isActive(row.get("is_active", Boolean.class))
+                .build();
+    }
+
+    private static PhoneEntity mapPhone(Row row) {
+        return PhoneEntity.builder()
+                .id(row.get("id", UUID.class))
+                .number(row.get("number", String.class))
+                .cityCode(row.get("city_code", String.class))
+                .countryCode(row.get("country_code", String.class))
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.smartjob.user.repository;
+
+import com.smartjob.user.entity.UserTokenEntity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking implementation of {@link ReactiveUserTokenRepository}
+ * backed by R2DBC.
+ *
+ * Active only with the {@code r2dbc} profile.
+ */
+@Slf4j
+@Component
+@Profile("r2dbc")
+@RequiredArgsConstructor
+public class R2dbcReactiveUserTokenRepository implements ReactiveUserTokenRepository {
+
+    // UPDATE then INSERT: portable upsert for H2 and PostgreSQL
+    private static final String UPDATE_TOKEN =
+            "UPDATE user_tokens SET token = :token, issued_at = :issuedAt WHERE user_id = :userId";
+
+    private static final String INSERT_TOKEN =
+            "INSERT INTO user_tokens (user_id, token, issued_at) VALUES (:userId, :token, :issuedAt)";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<UserTokenEntity> save(UserTokenEntity userToken) {
+        log.debug("Guardando token del usuario {}", userToken.getUserId());
+        return bind(databaseClient.sql(UPDATE_TOKEN), userToken)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated > 0
+                        ? Mono.just(userToken)
+                        : bind(databaseClient.sql(INSERT_TOKEN), userToken)
+                                .fetch()
+                                .rowsUpdated()
+                                .thenReturn(userToken));
+    }
+
+    private static GenericExecuteSpec bind(GenericExecuteSpec spec, UserTokenEntity userToken) {
+        return spec.bind("userId", userToken.getUserId())
+                .bind("token", userToken.getToken())
+                .bind("issuedAt", userToken.getIssuedAt());
+    }
+}
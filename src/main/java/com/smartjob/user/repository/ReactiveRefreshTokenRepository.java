@@ -0,0 +1,58 @@
+package com.smartjob.user.repository;
+
+import com.smartjob.user.entity.RefreshTokenEntity;
+
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Reactive persistence contract for refresh tokens.
+ *
+ * Like {@link ReactiveUserRepository}, the implementation is selected by
+ * Spring profile: {@link JpaReactiveRefreshTokenRepository} (default) or
+ * {@link R2dbcReactiveRefreshTokenRepository} ({@code r2dbc}).
+ */
+public interface ReactiveRefreshTokenRepository {
+
+    /**
+     * Inserts a new refresh token.
+     *
+     * @param refreshToken the token to insert
+     * @return Mono containing the saved token
+     */
+    Mono<RefreshTokenEntity> save(RefreshTokenEntity refreshToken);
+
+    /**
+     * Finds a refresh token by id.
+     *
+     * @param id the token id
+     * @return Mono containing the token if found
+     */
+    Mono<RefreshTokenEntity> findById(UUID id);
+
+    /**
+     * Marks a token as used if it is still unused and not expired.
+     *
+     * @param id  the token id
+     * @param now current time in epoch seconds
+     * @return Mono with true if this call marked the token
+     */
+    Mono<Boolean> markUsed(UUID id, long now);
+
+    /**
+     * Deletes every refresh token of a user.
+     *
+     * @param userId the user
+     * @return Mono with the number of rows deleted
+     */
+    Mono<Long> deleteByUserId(UUID userId);
+
+    /**
+     * Deletes the expired refresh tokens.
+     *
+     * @param now current time in epoch seconds
+     * @return Mono with the number of rows deleted
+     */
+    Mono<Long> deleteExpired(long now);
+}
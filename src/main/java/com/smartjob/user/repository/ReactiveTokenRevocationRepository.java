@@ -0,0 +1,40 @@
+package com.smartjob.user.repository;
+
+import com.smartjob.user.entity.TokenRevocationEntity;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive persistence contract for token revocations.
+ *
+ * Like {@link ReactiveUserRepository}, the implementation is selected by
+ * Spring profile: {@link JpaReactiveTokenRevocationRepository} (default)
+ * or {@link R2dbcReactiveTokenRevocationRepository} ({@code r2dbc}).
+ */
+public interface ReactiveTokenRevocationRepository {
+
+    /**
+     * Inserts a revocation, or replaces the one with the same id.
+     *
+     * @param revocation the revocation to save
+     * @return Mono containing the saved revocation
+     */
+    Mono<TokenRevocationEntity> save(TokenRevocationEntity revocation);
+
+    /**
+     * Streams the revocations written at or after the given instant.
+     *
+     * @param since epoch milliseconds, compared with {@code revokedAt}
+     * @return Flux containing the matching revocations
+     */
+    Flux<TokenRevocationEntity> findRevokedSince(long since);
+
+    /**
+     * Deletes the revocations whose tokens have all expired.
+     *
+     * @param now current time in epoch seconds
+     * @return Mono with the number of rows deleted
+     */
+    Mono<Long> deleteExpired(long now);
+}
@@ -1,28 +1,25 @@
 package com.smartjob.user.repository;
 
+import com.smartjob.user.entity.RefreshTokenEntity;
 import com.smartjob.user.entity.UserEntity;
 
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-
 import org.springframework.lang.NonNull;
-import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
- * Reactive wrapper for UserRepository.
- * Converts blocking JPA operations into reactive ones using Schedulers.
+ * Reactive persistence contract for users.
+ *
+ * The implementation is selected by Spring profile:
+ * {@link JpaReactiveUserRepository} (default) offloads the blocking JPA
+ * repository to a scheduler, while {@link R2dbcReactiveUserRepository}
+ * ({@code r2dbc} profile) talks to the database without blocking any thread.
  */
-@Slf4j
-@Component
-@RequiredArgsConstructor
-public class ReactiveUserRepository {
-
-    private final UserRepository userRepository;
+public interface ReactiveUserRepository {
 
     /**
      * Saves a user reactively.
@@ -30,13 +27,27 @@ public class ReactiveUserRepository {
      * @param user the user to save
      * @return Mono containing the saved user
      */
-    public Mono<UserEntity> save(UserEntity user) {
-        log.debug("Guardando usuario con email: {}", user.getEmail());
-        return Mono.fromCallable(() -> userRepository.save(user))
-                .subscribeOn(Schedulers.boundedElastic())
-                .doOnSuccess(savedUser -> log.debug("Usuario guardado con ID: {}", savedUser.getId()))
-                .doOnError(error -> log.error("Error al guardar usuario: {}", error.getMessage()));
-    }
+    Mono<UserEntity> save(UserEntity user);
+
+    /**
+     * Saves a new user, their phones and their first refresh token in a
+     * single transaction, so a registration never leaves a user without the
+     * refresh token the client was never given.
+     *
+     * @param user         the user to save
+     * @param refreshToken the user's first refresh token
+     * @return Mono containing the saved user
+     */
+    Mono<UserEntity> save(UserEntity user, RefreshTokenEntity refreshToken);
+
+    /**
+     * Saves several users and their phones in a single transaction, using
+     * batched inserts. If any insert fails, none of the users is saved.
+     *
+     * @param users the users to save
+     * @return Flux containing the saved users
+     */
+    Flux<UserEntity> saveAll(List<UserEntity> users);
 
     /**
      * Finds a user by email reactively.
@@ -44,19 +55,7 @@ public class ReactiveUserRepository {
      * @param email the user's email
      * @return Mono containing the user if found, or Mono.empty() if not
      */
-    public Mono<UserEntity> findByEmail(String email) {
-        log.debug("Buscando usuario por email: {}", email);
-        return Mono.fromCallable(() -> userRepository.findByEmail(email))
-                .subscribeOn(Schedulers.boundedElastic())
-                .flatMap(Mono::justOrEmpty)
-                .doOnSuccess(user -> {
-                    if (user != null) {
-                        log.debug("Usuario encontrado: {}", user.getId());
-                    } else {
-                        log.debug("Usuario no encontrado con email: {}", email);
-                    }
-                });
-    }
+    Mono<UserEntity> findByEmail(String email);
 
     /**
      * Finds a user by email with their phones loaded, reactively.
@@ -64,12 +63,7 @@ public class ReactiveUserRepository {
      * @param email the user's email
      * @return Mono containing the user and their phones if found
      */
-    public Mono<UserEntity> findByEmailWithPhones(String email) {
-        log.debug("Buscando usuario con teléfonos por email: {}", email);
-        return Mono.fromCallable(() -> userRepository.findByEmailWithPhones(email))
-                .subscribeOn(Schedulers.boundedElastic())
-                .flatMap(Mono::justOrEmpty);
-    }
+    Mono<UserEntity> findByEmailWithPhones(String email);
 
     /**
      * Checks whether a user with the specified email exists, reactively.
@@ -77,12 +71,41 @@ public class ReactiveUserRepository {
      * @param email the email to check
      * @return Mono<Boolean> with true if the user exists, false otherwise
      */
+    Mono<Boolean> existsByEmail(String email);
 
-    public Mono<Boolean> existsByEmail(String email) {
-        log.debug("Verificando existencia de email: {}", email);
-        return Mono.fromCallable(() -> userRepository.existsByEmail(email))
-                .subscribeOn(Schedulers.boundedElastic())
-                .doOnSuccess(exists -> log.debug("Email {} existe: {}", email, exists));
+    /**
+     * Returns which of the given emails are already registered.
+     *
+     * @param emails the emails to check
+     * @return Flux containing the registered emails among the given ones
+     */
+    Flux<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Returns one page of emails in id order, using a keyset position on
+     * the primary key instead of an OFFSET, so each page costs the same no
+     * matter how far into the table it is.
+     *
+     * @param afterId the id to start after, or null for the first page
+     * @param limit   the maximum number of emails to return
+     * @return Flux containing the emails of the page, in id order
+     */
+    Flux<UserEmail> findEmailPage(UUID afterId, int limit);
+
+    /**
+     * Streams the email of every registered user, one page at a time
+     * ({@link #findEmailPage}), so only one page is held in memory.
+     *
+     * @param pageSize the number of emails read per query
+     * @return Flux containing all registered emails
+     */
+    default Flux<String> findAllEmails(int pageSize) {
+        return findEmailPage(null, pageSize).collectList()
+                .expand(page -> page.size() < pageSize
+                        ? Mono.empty()
+                        : findEmailPage(page.get(page.size() - 1).id(), pageSize).collectList())
+                .flatMapIterable(page -> page, 1)
+                .map(UserEmail::email);
     }
 
     /**
@@ -91,25 +114,32 @@ public class ReactiveUserRepository {
      * @param id the user's UUID
      * @return Mono containing the user if found
      */
-
-    public Mono<UserEntity> findById(@NonNull UUID id) {
-        log.debug("Buscando usuario por ID: {}", id);
-        return Mono.fromCallable(() -> userRepository.findById(id))
-                .subscribeOn(Schedulers.boundedElastic())
-                .flatMap(Mono::justOrEmpty);
-    }
+    Mono<UserEntity> findById(@NonNull UUID id);
 
     /**
-     * Finds all users reactively.
+     * Returns one page of users, with their phones, ordered by
+     * {@code (created, id)}. Served by the {@code idx_created_id} index.
      *
-     * @return Flux containing all users
+     * @param after the position to start after, or null for the first page
+     * @param limit the maximum number of users to return
+     * @return Flux containing the users of the page, in order
      */
+    Flux<UserEntity> findPage(UserCursor after, int limit);
 
-    public Flux<UserEntity> findAll() {
-        log.debug("Buscando todos los usuarios");
-        return Mono.fromCallable(userRepository::findAll)
-                .subscribeOn(Schedulers.boundedElastic())
-                .flatMapMany(Flux::fromIterable);
+    /**
+     * Streams every user, with their phones, by walking the table page by
+     * page. The next page is only read once the previous one has been
+     * consumed, so at most one page is held in memory.
+     *
+     * @param pageSize the number of users read per query
+     * @return Flux containing all users, ordered by {@code (created, id)}
+     */
+    default Flux<UserEntity> streamAll(int pageSize) {
+        return findPage(null, pageSize).collectList()
+                .expand(page -> page.size() < pageSize
+                        ? Mono.empty()
+                        : findPage(UserCursor.after(page.get(page.size() - 1)), pageSize).collectList())
+                .flatMapIterable(page -> page, 1);
     }
 
     /**
@@ -118,13 +148,5 @@ public class ReactiveUserRepository {
      * @param id the UUID of the user to delete
      * @return Mono<Void> that completes when the operation finishes
      */
-
-    public Mono<Void> deleteById(@NonNull UUID id) {
-        log.debug("Eliminando usuario con ID: {}", id);
-        return Mono.fromRunnable(() -> userRepository.deleteById(id))
-                .subscribeOn(Schedulers.boundedElastic())
-                .then()
-                .doOnSuccess(unused -> log.debug("Usuario eliminado: {}", id));
-    }
-
+    Mono<Void> deleteById(@NonNull UUID id);
 }
@@ -0,0 +1,23 @@
+package com.smartjob.user.repository;
+
+import com.smartjob.user.entity.UserTokenEntity;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive persistence contract for the stored access tokens.
+ *
+ * Like {@link ReactiveUserRepository}, the implementation is selected by
+ * Spring profile: {@link JpaReactiveUserTokenRepository} (default) or
+ * {@link R2dbcReactiveUserTokenRepository} ({@code r2dbc}).
+ */
+public interface ReactiveUserTokenRepository {
+
+    /**
+     * Stores the token of a user, replacing the previous one.
+     *
+     * @param userToken the token to store
+     * @return Mono containing the saved token
+     */
+    Mono<UserTokenEntity> save(UserTokenEntity userToken);
+}
@@ -0,0 +1,57 @@
+package com.smartjob.user.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.smartjob.user.entity.RefreshTokenEntity;
+
+/**
+ * JPA repository for refresh tokens.
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, UUID> {
+
+    /**
+     * Marks a token as used, only if it is unused and not expired. The
+     * condition makes the exchange atomic: of two concurrent uses of the
+     * same token, only one updates the row.
+     *
+     * @param id  the token id
+     * @param now current time in epoch seconds
+     * @return 1 if the token was marked, 0 otherwise
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshTokenEntity t SET t.used = true WHERE t.id = :id AND t.used = false AND t.expiresAt > :now")
+    int markUsed(@Param("id") UUID id, @Param("now") long now);
+
+    /**
+     * Deletes every refresh token of a user, using the
+     * {@code idx_refresh_tokens_user_id} index.
+     *
+     * @param userId the user
+     * @return the number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.userId = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Deletes the expired refresh tokens, used or not, in a single
+     * statement served by the {@code idx_refresh_tokens_expires_at} index.
+     *
+     * @param now current time in epoch seconds
+     * @return the number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") long now);
+}
@@ -0,0 +1,41 @@
+package com.smartjob.user.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.smartjob.user.entity.TokenRevocationEntity;
+
+/**
+ * JPA repository for token revocations.
+ */
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocationEntity, UUID> {
+
+    /**
+     * Finds the revocations written at or after the given instant, served
+     * by the {@code idx_token_revocations_revoked_at} index.
+     *
+     * @param since epoch milliseconds
+     * @return the matching revocations
+     */
+    List<TokenRevocationEntity> findByRevokedAtGreaterThanEqual(long since);
+
+    /**
+     * Deletes the revocations whose tokens have all expired, in a single
+     * statement served by the {@code idx_token_revocations_expires_at} index.
+     *
+     * @param now current time in epoch seconds
+     * @return the number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TokenRevocationEntity r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") long now);
+}
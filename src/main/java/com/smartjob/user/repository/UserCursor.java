@@ -0,0 +1,67 @@
+package com.smartjob.user.repository;
+
+import com.smartjob.user.entity.UserEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset pagination position: the {@code (created, id)} pair of the last
+ * user of a page. The next page starts strictly after it, so pages are
+ * served from the {@code idx_created_id} index without an OFFSET scan.
+ *
+ * Clients receive it as an opaque URL-safe token.
+ *
+ * @param created creation timestamp of the last user returned
+ * @param id      identifier of the last user returned, breaks ties on created
+ */
+public record UserCursor(LocalDateTime created, UUID id) {
+
+    private static final String INVALID_CURSOR_MESSAGE = "El cursor de paginación no es válido";
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Builds the cursor that points right after the given user.
+     *
+     * @param user the last user of a page
+     * @return the cursor for the next page
+     */
+    public static UserCursor after(UserEntity user) {
+        return new UserCursor(user.getCreated(), user.getId());
+    }
+
+    /**
+     * Parses a token produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor sent by the client
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static UserCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+            }
+            return new UserCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE, e);
+        }
+    }
+
+    /**
+     * Encodes the cursor as an opaque URL-safe token.
+     *
+     * @return the token to send to the client
+     */
+    public String encode() {
+        String value = created.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,13 @@
+package com.smartjob.user.repository;
+
+import java.util.UUID;
+
+/**
+ * The email of a user together with its id, the keyset position used to
+ * read the emails page by page.
+ *
+ * @param id    the user's id
+ * @param email the user's email
+ */
+public record UserEmail(UUID id, String email) {
+}
@@ -1,8 +1,12 @@
 package com.smartjob.user.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -36,6 +40,36 @@ public interface UserRepository extends JpaRepository<UserEntity, UUID> {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * Returns which of the given emails are already registered.
+     *
+     * @param emails the emails to check
+     * @return the registered emails among the given ones
+     */
+    @Query("SELECT u.email FROM UserEntity u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Returns the first page of emails in id order, without loading the
+     * entities.
+     *
+     * @param pageable the page size (the page number must be 0)
+     * @return the ids and emails of the page
+     */
+    @Query("SELECT new com.smartjob.user.repository.UserEmail(u.id, u.email) FROM UserEntity u ORDER BY u.id")
+    List<UserEmail> findFirstEmails(Pageable pageable);
+
+    /**
+     * Returns the emails of the users whose id follows the given one.
+     *
+     * @param id       the id of the last user of the previous page
+     * @param pageable the page size (the page number must be 0)
+     * @return the ids and emails of the page
+     */
+    @Query("SELECT new com.smartjob.user.repository.UserEmail(u.id, u.email) FROM UserEntity u "
+            + "WHERE u.id > :id ORDER BY u.id")
+    List<UserEmail> findEmailsAfter(@Param("id") UUID id, Pageable pageable);
+
     /**
      * Finds a user by email along with their phones (eager fetch).
      * Avoids the N+1 problem by loading phones in a single query.
@@ -54,4 +88,36 @@ public interface UserRepository extends JpaRepository<UserEntity, UUID> {
      */
     @Query("SELECT u FROM UserEntity u LEFT JOIN FETCH u.phones WHERE u.id = :id")
     Optional<UserEntity> findByIdWithPhones(@Param("id") UUID id);
+
+    /**
+     * Returns the identifiers of the first page of users in keyset order.
+     *
+     * @param pageable the page size (the page number must be 0)
+     * @return the identifiers, ordered by created and id
+     */
+    @Query("SELECT u.id FROM UserEntity u ORDER BY u.created, u.id")
+    List<UUID> findFirstPageIds(Pageable pageable);
+
+    /**
+     * Returns the identifiers of the users that follow the given
+     * {@code (created, id)} position in keyset order.
+     *
+     * @param created  creation timestamp of the last user already returned
+     * @param id       identifier of the last user already returned
+     * @param pageable the page size (the page number must be 0)
+     * @return the identifiers, ordered by created and id
+     */
+    @Query("SELECT u.id FROM UserEntity u "
+            + "WHERE u.created > :created OR (u.created = :created AND u.id > :id) "
+            + "ORDER BY u.created, u.id")
+    List<UUID> findPageIdsAfter(@Param("created") LocalDateTime created, @Param("id") UUID id, Pageable pageable);
+
+    /**
+     * Loads the given users with their phones in a single query.
+     *
+     * @param ids the identifiers of the users to load
+     * @return the users, ordered by created and id
+     */
+    @Query("SELECT u FROM UserEntity u LEFT JOIN FETCH u.phones WHERE u.id IN :ids ORDER BY u.created, u.id")
+    List<UserEntity> findAllWithPhonesByIdIn(@Param("ids") Collection<UUID> ids);
 }
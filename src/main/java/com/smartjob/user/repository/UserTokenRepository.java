@@ -0,0 +1,15 @@
+package com.smartjob.user.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.smartjob.user.entity.UserTokenEntity;
+
+/**
+ * JPA repository for the stored access tokens.
+ */
+@Repository
+public interface UserTokenRepository extends JpaRepository<UserTokenEntity, UUID> {
+}
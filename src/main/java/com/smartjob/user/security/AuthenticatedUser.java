@@ -0,0 +1,49 @@
+package com.smartjob.user.security;
+
+import com.smartjob.user.util.VerifiedClaims;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * User authenticated by a bearer token, built from the verified claims
+ * alone: no database lookup.
+ *
+ * {@link JwtAuthenticationWebFilter} exposes it as the exchange principal
+ * and in the Reactor context of the request, where {@link #current()}
+ * reads it.
+ *
+ * @param userId     the {@code userId} claim
+ * @param email      the token subject
+ * @param tokenId    the {@code jti} of the token, to revoke it
+ * @param expiration when the token expires
+ */
+public record AuthenticatedUser(UUID userId, String email, UUID tokenId, Instant expiration) implements Principal {
+
+    /**
+     * Builds the principal from the claims of a verified token.
+     *
+     * @param claims the verified claims
+     * @return the authenticated user
+     */
+    public static AuthenticatedUser from(VerifiedClaims claims) {
+        return new AuthenticatedUser(claims.userId(), claims.subject(), claims.tokenId(), claims.expiration());
+    }
+
+    /**
+     * Returns the user authenticated for the current request.
+     *
+     * @return Mono with the user, or empty if the request carried no valid
+     *         token
+     */
+    public static Mono<AuthenticatedUser> current() {
+        return Mono.deferContextual(context -> Mono.justOrEmpty(context.getOrEmpty(AuthenticatedUser.class)));
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,187 @@
+package com.smartjob.user.security;
+
+import com.smartjob.user.config.AuthenticationProperties;
+import com.smartjob.user.mapper.ErrorBodyCache;
+import com.smartjob.user.util.JwtUtil;
+import com.smartjob.user.util.VerifiedClaims;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Authenticates requests with a bearer token and enforces the routes of
+ * {@code security.authentication.protected-routes}.
+ *
+ * The token is verified with {@link JwtUtil#verify(String)}, which only
+ * checks the signature and the claims (and hits the verified-token cache
+ * when enabled), so authentication never touches the database and runs
+ * on the calling thread. A valid token becomes an
+ * {@link AuthenticatedUser}, set as the exchange principal and in the
+ * Reactor context.
+ *
+ * On a protected route a missing, invalid or expired token is answered
+ * with 401 before reaching the controller. On a public route the token is
+ * optional and an invalid one is ignored.
+ *
+ * Admin routes ({@code security.authentication.admin-routes}) are
+ * protected as well and are answered with 403 unless the token's
+ * {@code userId} is one of {@code security.authentication.admins}; they
+ * expose every user's data or create users in bulk, which no
+ * self-registered account may do.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String MISSING_TOKEN_MESSAGE = "Se requiere un token de acceso";
+    private static final String INVALID_TOKEN_MESSAGE = "El token de acceso no es válido o expiró";
+    private static final String FORBIDDEN_MESSAGE = "No tiene permisos para acceder a este recurso";
+
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final List<Route> protectedRoutes;
+    private final List<Route> adminRoutes;
+    private final Set<UUID> admins;
+    private final byte[] missingTokenBody;
+    private final byte[] invalidTokenBody;
+    private final byte[] forbiddenBody;
+
+    public JwtAuthenticationWebFilter(JwtUtil jwtUtil,
+            AuthenticationProperties authenticationProperties,
+            ErrorBodyCache errorBodyCache) {
+        this.jwtUtil = jwtUtil;
+        this.enabled = authenticationProperties.isEnabled();
+        this.protectedRoutes = authenticationProperties.getProtectedRoutes().stream()
+                .map(Route::parse)
+                .toList();
+        this.adminRoutes = authenticationProperties.getAdminRoutes().stream()
+                .map(Route::parse)
+                .toList();
+        this.admins = Set.copyOf(authenticationProperties.getAdmins());
+        this.missingTokenBody = errorBodyCache.encode(MISSING_TOKEN_MESSAGE);
+        this.invalidTokenBody = errorBodyCache.encode(INVALID_TOKEN_MESSAGE);
+        this.forbiddenBody = errorBodyCache.encode(FORBIDDEN_MESSAGE);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!enabled) {
+            return chain.filter(exchange);
+        }
+        ServerHttpRequest request = exchange.getRequest();
+        boolean adminOnly = matches(adminRoutes, request);
+        boolean required = adminOnly || matches(protectedRoutes, request);
+        String token = bearerToken(request);
+
+        if (token == null) {
+            return required ? unauthorized(exchange, null, missingTokenBody) : chain.filter(exchange);
+        }
+
+        AuthenticatedUser user;
+        try {
+            VerifiedClaims claims = jwtUtil.verify(token);
+            if (claims.isExpiredAt(Instant.now())) {
+                throw new JwtException("El token expiró");
+            }
+            user = AuthenticatedUser.from(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Token rechazado en {} {}: {}", request.getMethod(), request.getPath(), e.getMessage());
+            return required ? unauthorized(exchange, "invalid_token", invalidTokenBody) : chain.filter(exchange);
+        }
+        if (adminOnly && !isAdmin(user)) {
+            log.warn("Acceso denegado a {} {} para el usuario {}", request.getMethod(), request.getPath(),
+                    user.userId());
+            return forbidden(exchange);
+        }
+
+        ServerWebExchange authenticated = exchange.mutate().principal(Mono.just(user)).build();
+        return chain.filter(authenticated)
+                .contextWrite(context -> context.put(AuthenticatedUser.class, user));
+    }
+
+    private static boolean matches(List<Route> routes, ServerHttpRequest request) {
+        for (Route route : routes) {
+            if (route.matches(request)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAdmin(AuthenticatedUser user) {
+        return user.userId() != null && admins.contains(user.userId());
+    }
+
+    private static String bearerToken(ServerHttpRequest request) {
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        String token = authorization.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    /**
+     * Answers 401 with the {@code Error} body of the API and a
+     * {@code WWW-Authenticate} challenge (RFC 6750).
+     */
+    private static Mono<Void> unauthorized(ServerWebExchange exchange, String error, byte[] body) {
+        return reject(exchange, HttpStatus.UNAUTHORIZED,
+                error != null ? "Bearer error=\"" + error + "\"" : "Bearer", body);
+    }
+
+    /**
+     * Answers 403 to a valid token without the admin role, with the
+     * {@code insufficient_scope} challenge of RFC 6750.
+     */
+    private Mono<Void> forbidden(ServerWebExchange exchange) {
+        return reject(exchange, HttpStatus.FORBIDDEN, "Bearer error=\"insufficient_scope\"", forbiddenBody);
+    }
+
+    private static Mono<Void> reject(ServerWebExchange exchange, HttpStatus status, String challenge, byte[] body) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, challenge);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    /**
+     * A protected or admin route: an HTTP method and a path pattern.
+     */
+    private record Route(HttpMethod method, PathPattern pattern) {
+
+        static Route parse(String definition) {
+            String[] parts = definition.trim().split("\\s+");
+            if (parts.length != 2) {
+                throw new IllegalStateException("Ruta protegida inválida (se espera 'MÉTODO /ruta'): " + definition);
+            }
+            return new Route(HttpMethod.valueOf(parts[0].toUpperCase()), PathPatternParser.defaultInstance.parse(parts[1]));
+        }
+
+        boolean matches(ServerHttpRequest request) {
+            return method.equals(request.getMethod()) && pattern.matches(request.getPath().pathWithinApplication());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.smartjob.user.service.domain;
+
+import com.smartjob.user.dto.PostUsersRefreshResponse;
+import com.smartjob.user.entity.RefreshTokenEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Issues and exchanges refresh tokens.
+ *
+ * A refresh token is {@code <id>.<secret>}: the id locates the stored
+ * token and only the SHA-256 of the secret is stored. Each token can be
+ * exchanged once; the exchange returns a new access token and a new
+ * refresh token, without checking the password again.
+ */
+public interface RefreshTokenService {
+
+    /**
+     * Issues a new refresh token for a user.
+     *
+     * @param userId the user's UUID
+     * @param email  the user's email, for the access tokens it will issue
+     * @return Mono with the refresh token, once it is stored
+     */
+    Mono<String> issue(UUID userId, String email);
+
+    /**
+     * Creates a refresh token without storing it, for callers that insert
+     * it together with other rows, in the same transaction.
+     *
+     * @param userId the user's UUID
+     * @param email  the user's email, for the access tokens it will issue
+     * @return the row to insert and the token to hand to the client
+     */
+    NewRefreshToken create(UUID userId, String email);
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh
+     * token. Presenting a token that was already used revokes every
+     * session of its user, since either the client or an attacker holds a
+     * stolen copy.
+     *
+     * @param refreshToken the refresh token
+     * @return Mono with the new tokens
+     * @throws com.smartjob.user.exception.InvalidRefreshTokenException (as
+     *         an error signal) if the token is unknown, expired or used
+     */
+    Mono<PostUsersRefreshResponse> refresh(String refreshToken);
+
+    /**
+     * Deletes every refresh token of a user.
+     *
+     * @param userId the user
+     * @return Mono that completes once the tokens are deleted
+     */
+    Mono<Void> revokeAll(UUID userId);
+
+    /**
+     * A refresh token that is not stored yet.
+     *
+     * @param entity the row to insert, holding only the hash of the secret
+     * @param value  the token to hand to the client, {@code <id>.<secret>}
+     */
+    record NewRefreshToken(RefreshTokenEntity entity, String value) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.smartjob.user.service.domain;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Revokes tokens before they expire.
+ *
+ * Revocations are stored in the database and mirrored in
+ * {@link com.smartjob.user.util.TokenRevocationList}, which token
+ * verification consults without any database access.
+ */
+public interface TokenRevocationService {
+
+    /**
+     * Revokes a single token (logout).
+     *
+     * @param tokenId   the {@code jti} of the token
+     * @param expiresAt when the token expires
+     * @return Mono that completes once the revocation is stored and active
+     */
+    Mono<Void> revokeToken(UUID tokenId, Instant expiresAt);
+
+    /**
+     * Revokes every token issued to a user until now (logout everywhere,
+     * compromised account).
+     *
+     * @param userId the user
+     * @return Mono that completes once the revocation is stored and active
+     */
+    Mono<Void> revokeUser(UUID userId);
+
+    /**
+     * Loads the revocations stored by any instance since the previous
+     * refresh (all of them the first time) and deletes the expired ones, in
+     * the database and in memory.
+     *
+     * @return Mono that completes when the refresh finishes
+     */
+    Mono<Void> refresh();
+}
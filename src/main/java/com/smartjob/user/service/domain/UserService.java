@@ -1,9 +1,16 @@
 package com.smartjob.user.service.domain;
 
+import com.smartjob.user.dto.BatchUserResult;
 import com.smartjob.user.dto.PostUserRequest;
 import com.smartjob.user.dto.PostUserResponse;
+import com.smartjob.user.dto.PostUsersBatchResponse;
+import com.smartjob.user.dto.UserSummary;
+import com.smartjob.user.dto.UsersPage;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Service interface for user management operations.
  */
@@ -16,4 +23,39 @@ public interface UserService {
      * @return a Mono with the response DTO of the created user
      */
     Mono<PostUserResponse> createUser(PostUserRequest request);
+
+    /**
+     * Creates several users at once. Entries are validated and persisted
+     * independently, so a failing entry does not abort the others.
+     *
+     * @param requests the users to create
+     * @return a Mono with the per-item results, in request order
+     */
+    Mono<PostUsersBatchResponse> createUsers(List<PostUserRequest> requests);
+
+    /**
+     * Creates users as they arrive on a stream. Only a bounded number of
+     * requests is processed at a time, so the caller is backpressured.
+     *
+     * @param requests the users to create
+     * @return a Flux with one result per request, in request order
+     */
+    Flux<BatchUserResult> createUsersStream(Flux<PostUserRequest> requests);
+
+    /**
+     * Returns one page of users in {@code (created, id)} order.
+     *
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     * @param limit  the maximum number of users to return
+     * @return a Mono with the page; Mono.error() with IllegalArgumentException
+     *         if the cursor is malformed
+     */
+    Mono<UsersPage> listUsers(String cursor, int limit);
+
+    /**
+     * Streams every user, reading the table lazily page by page.
+     *
+     * @return a Flux with all users in {@code (created, id)} order
+     */
+    Flux<UserSummary> exportUsers();
 }
\ No newline at end of file
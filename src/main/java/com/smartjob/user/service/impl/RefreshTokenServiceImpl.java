@@ -0,0 +1,191 @@
+package com.smartjob.user.service.impl;
+
+import com.smartjob.user.config.JwtProperties;
+import com.smartjob.user.dto.PostUsersRefreshResponse;
+import com.smartjob.user.entity.RefreshTokenEntity;
+import com.smartjob.user.exception.InvalidRefreshTokenException;
+import com.smartjob.user.repository.ReactiveRefreshTokenRepository;
+import com.smartjob.user.service.domain.RefreshTokenService;
+import com.smartjob.user.service.domain.TokenRevocationService;
+import com.smartjob.user.util.IdGenerator;
+import com.smartjob.user.util.JwtUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link RefreshTokenService}.
+ *
+ * The secret has 256 random bits, so a single SHA-256 is enough to store
+ * it: unlike a password it cannot be guessed, and checking it costs
+ * microseconds instead of a BCrypt round. An exchange is one lookup by
+ * primary key, a conditional UPDATE that consumes the token and the
+ * INSERT of its successor.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final String INVALID_REFRESH_TOKEN_MESSAGE = "El refresh token no es válido o ha expirado";
+    private static final int SECRET_LENGTH = 32;
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+
+    private final ReactiveRefreshTokenRepository reactiveRefreshTokenRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final JwtUtil jwtUtil;
+    private final JwtProperties jwtProperties;
+    private final IdGenerator idGenerator;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private Disposable cleaner;
+
+    @Override
+    public Mono<String> issue(UUID userId, String email) {
+        return Mono.defer(() -> {
+            NewRefreshToken refreshToken = create(userId, email);
+            return reactiveRefreshTokenRepository.save(refreshToken.entity())
+                    .thenReturn(refreshToken.value());
+        });
+    }
+
+    @Override
+    public NewRefreshToken create(UUID userId, String email) {
+        byte[] secret = new byte[SECRET_LENGTH];
+        secureRandom.nextBytes(secret);
+        RefreshTokenEntity refreshToken = RefreshTokenEntity.builder()
+                .id(idGenerator.generate())
+                .userId(userId)
+                .email(email)
+                .tokenHash(hash(secret))
+                .expiresAt(Instant.now().plus(jwtProperties.getRefreshToken().getLifetime()).getEpochSecond())
+                .build();
+        return new NewRefreshToken(refreshToken, refreshToken.getId() + "." + BASE64_URL.encodeToString(secret));
+    }
+
+    @Override
+    public Mono<PostUsersRefreshResponse> refresh(String refreshToken) {
+        return Mono.defer(() -> {
+            PresentedToken presented = PresentedToken.parse(refreshToken);
+            long now = Instant.now().getEpochSecond();
+            return reactiveRefreshTokenRepository.findById(presented.id())
+                    .filter(stored -> MessageDigest.isEqual(
+                            stored.getTokenHash().getBytes(StandardCharsets.US_ASCII),
+                            hash(presented.secret()).getBytes(StandardCharsets.US_ASCII)))
+                    .filter(stored -> stored.getExpiresAt() > now)
+                    .switchIfEmpty(Mono.error(RefreshTokenServiceImpl::invalidRefreshToken))
+                    .flatMap(stored -> stored.isUsed()
+                            ? revokeAfterReuse(stored)
+                            : reactiveRefreshTokenRepository.markUsed(stored.getId(), now)
+                                    .flatMap(marked -> marked ? rotate(stored) : revokeAfterReuse(stored)));
+        });
+    }
+
+    @Override
+    public Mono<Void> revokeAll(UUID userId) {
+        return reactiveRefreshTokenRepository.deleteByUserId(userId)
+                .doOnNext(deleted -> log.info("{} refresh token(s) del usuario {} eliminado(s)", deleted, userId))
+                .then();
+    }
+
+    /**
+     * Deletes the expired refresh tokens periodically, starting once the
+     * application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startCleaning() {
+        Duration interval = jwtProperties.getRefreshToken().getCleanupInterval();
+        cleaner = Flux.interval(Duration.ZERO, interval, Schedulers.boundedElastic())
+                .onBackpressureDrop()
+                .concatMap(tick -> reactiveRefreshTokenRepository.deleteExpired(Instant.now().getEpochSecond())
+                        .doOnNext(deleted -> {
+                            if (deleted > 0) {
+                                log.debug("{} refresh token(s) expirado(s) eliminado(s)", deleted);
+                            }
+                        })
+                        .onErrorResume(error -> {
+                            log.error("No se pudieron eliminar los refresh tokens expirados: {}", error.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stopCleaning() {
+        if (cleaner != null) {
+            cleaner.dispose();
+        }
+    }
+
+    private Mono<PostUsersRefreshResponse> rotate(RefreshTokenEntity consumed) {
+        return issue(consumed.getUserId(), consumed.getEmail())
+                .map(next -> new PostUsersRefreshResponse()
+                        .token(jwtUtil.generateToken(consumed.getUserId(), consumed.getEmail()))
+                        .refreshToken(next)
+                        .expiresIn(jwtProperties.getExpiration() / 1000))
+                .doOnSuccess(response -> log.debug("Refresh token {} renovado", consumed.getId()));
+    }
+
+    /**
+     * A used token came back: its family may have been stolen, so every
+     * refresh token and access token of the user is revoked.
+     */
+    private Mono<PostUsersRefreshResponse> revokeAfterReuse(RefreshTokenEntity reused) {
+        log.warn("Refresh token {} reutilizado: se revocan las sesiones del usuario {}",
+                reused.getId(), reused.getUserId());
+        return revokeAll(reused.getUserId())
+                .then(tokenRevocationService.revokeUser(reused.getUserId()))
+                .then(Mono.error(RefreshTokenServiceImpl::invalidRefreshToken));
+    }
+
+    private static String hash(byte[] secret) {
+        try {
+            return BASE64_URL.encodeToString(MessageDigest.getInstance("SHA-256").digest(secret));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible", e);
+        }
+    }
+
+    private static InvalidRefreshTokenException invalidRefreshToken() {
+        return new InvalidRefreshTokenException(INVALID_REFRESH_TOKEN_MESSAGE);
+    }
+
+    /**
+     * The two parts of a refresh token as sent by the client.
+     */
+    private record PresentedToken(UUID id, byte[] secret) {
+
+        static PresentedToken parse(String refreshToken) {
+            int separator = refreshToken.indexOf('.');
+            if (separator < 0) {
+                throw invalidRefreshToken();
+            }
+            try {
+                UUID id = UUID.fromString(refreshToken.substring(0, separator));
+                byte[] secret = BASE64_URL_DECODER.decode(refreshToken.substring(separator + 1));
+                if (secret.length != SECRET_LENGTH) {
+                    throw invalidRefreshToken();
+                }
+                return new PresentedToken(id, secret);
+            } catch (IllegalArgumentException e) {
+                throw invalidRefreshToken();
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.smartjob.user.service.impl;
+
+import com.smartjob.user.config.JwtProperties;
+import com.smartjob.user.entity.TokenRevocationEntity;
+import com.smartjob.user.repository.ReactiveTokenRevocationRepository;
+import com.smartjob.user.service.domain.TokenRevocationService;
+import com.smartjob.user.util.TokenRevocationList;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementation of {@link TokenRevocationService}.
+ *
+ * A revocation is written to the database first and then to the local
+ * {@link TokenRevocationList}. Other instances pick it up on their next
+ * refresh, every {@code jwt.revocation.refresh-interval}. The refresh only
+ * adds entries to the in-memory list (and prunes the expired ones), so a
+ * local revocation made while a refresh is reading is never lost.
+ *
+ * The first refresh loads every stored revocation; the next ones only read
+ * the rows written since the previous refresh started, minus
+ * {@code jwt.revocation.refresh-overlap}. Rows read twice are harmless,
+ * the list keeps the later instant.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private final ReactiveTokenRevocationRepository reactiveTokenRevocationRepository;
+    private final TokenRevocationList tokenRevocationList;
+    private final JwtProperties jwtProperties;
+    private volatile long revokedSince = Long.MIN_VALUE;
+    private Disposable refresher;
+
+    @Override
+    public Mono<Void> revokeToken(UUID tokenId, Instant expiresAt) {
+        return Mono.defer(() -> {
+            TokenRevocationEntity revocation = TokenRevocationEntity.builder()
+                    .id(tokenId)
+                    .type(TokenRevocationEntity.Type.TOKEN)
+                    .expiresAt(expiresAt.getEpochSecond())
+                    .revokedAt(System.currentTimeMillis())
+                    .build();
+            return reactiveTokenRevocationRepository.save(revocation)
+                    .doOnSuccess(saved -> {
+                        tokenRevocationList.revokeToken(tokenId, expiresAt);
+                        log.info("Token {} revocado", tokenId);
+                    });
+        }).then();
+    }
+
+    @Override
+    public Mono<Void> revokeUser(UUID userId) {
+        return Mono.defer(() -> {
+            Instant now = Instant.now();
+            TokenRevocationEntity revocation = TokenRevocationEntity.builder()
+                    .id(userId)
+                    .type(TokenRevocationEntity.Type.USER)
+                    .notBefore(now.toEpochMilli())
+                    .expiresAt(now.plus(tokenLifetime()).getEpochSecond())
+                    .revokedAt(now.toEpochMilli())
+                    .build();
+            return reactiveTokenRevocationRepository.save(revocation)
+                    .doOnSuccess(saved -> {
+                        tokenRevocationList.revokeUser(userId, now);
+                        log.info("Tokens del usuario {} revocados hasta {}", userId, now);
+                    });
+        }).then();
+    }
+
+    @Override
+    public Mono<Void> refresh() {
+        return Mono.defer(() -> {
+            Instant now = Instant.now();
+            long since = revokedSince;
+            return reactiveTokenRevocationRepository.deleteExpired(now.getEpochSecond())
+                    .thenMany(reactiveTokenRevocationRepository.findRevokedSince(since))
+                    .collectList()
+                    .doOnNext(revocations -> {
+                        apply(revocations);
+                        revokedSince = now.minus(jwtProperties.getRevocation().getRefreshOverlap()).toEpochMilli();
+                    })
+                    .then(Mono.fromRunnable(() -> {
+                        int pruned = tokenRevocationList.prune(now, tokenLifetime());
+                        if (pruned > 0) {
+                            log.debug("{} revocación(es) expirada(s) eliminada(s) de memoria", pruned);
+                        }
+                    }));
+        });
+    }
+
+    /**
+     * Loads the stored revocations once the application is ready and then
+     * refreshes them periodically.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRefreshing() {
+        Duration interval = jwtProperties.getRevocation().getRefreshInterval();
+        log.info("Cargando revocaciones de tokens (recarga cada {})", interval);
+        refresher = Flux.interval(Duration.ZERO, interval, Schedulers.boundedElastic())
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh()
+                        .onErrorResume(error -> {
+                            log.error("No se pudieron recargar las revocaciones de tokens: {}", error.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stopRefreshing() {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+    }
+
+    /**
+     * Adds the stored revocations to the in-memory list, one table copy per
+     * kind.
+     */
+    private void apply(List<TokenRevocationEntity> revocations) {
+        Map<UUID, Instant> tokens = new HashMap<>();
+        Map<UUID, Instant> users = new HashMap<>();
+        for (TokenRevocationEntity revocation : revocations) {
+            if (revocation.getType() == TokenRevocationEntity.Type.USER) {
+                users.put(revocation.getId(), Instant.ofEpochMilli(revocation.getNotBefore()));
+            } else {
+                tokens.put(revocation.getId(), Instant.ofEpochSecond(revocation.getExpiresAt()));
+            }
+        }
+        tokenRevocationList.revokeTokens(tokens);
+        tokenRevocationList.revokeUsers(users);
+    }
+
+    private Duration tokenLifetime() {
+        return Duration.ofMillis(jwtProperties.getExpiration());
+    }
+}
@@ -1,22 +1,46 @@
 package com.smartjob.user.service.impl;
 
+import com.smartjob.user.config.UserProperties;
+import com.smartjob.user.dto.BatchUserResult;
 import com.smartjob.user.dto.PostUserRequest;
 import com.smartjob.user.dto.PostUserResponse;
+import com.smartjob.user.dto.PostUsersBatchResponse;
+import com.smartjob.user.dto.UserSummary;
+import com.smartjob.user.dto.UsersPage;
 import com.smartjob.user.entity.PhoneEntity;
 import com.smartjob.user.entity.UserEntity;
+import com.smartjob.user.entity.UserTokenEntity;
 import com.smartjob.user.exception.EmailAlreadyExistsException;
+import com.smartjob.user.exception.HashingCapacityExceededException;
+import com.smartjob.user.exception.InvalidEmailFormatException;
+import com.smartjob.user.exception.InvalidPasswordFormatException;
+import com.smartjob.user.exception.InvalidUserDataException;
 import com.smartjob.user.mapper.UserMapper;
 import com.smartjob.user.repository.ReactiveUserRepository;
+import com.smartjob.user.repository.ReactiveUserTokenRepository;
+import com.smartjob.user.repository.UserCursor;
+import com.smartjob.user.service.domain.RefreshTokenService;
 import com.smartjob.user.service.domain.UserService;
+import com.smartjob.user.service.util.EmailMembershipFilter;
+import com.smartjob.user.service.util.HashingAdmissionController;
+import com.smartjob.user.service.util.PasswordHashingService;
 import com.smartjob.user.service.util.ValidationService;
+import com.smartjob.user.util.IdGenerator;
 import com.smartjob.user.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Reactive implementation of {@link UserService}.
@@ -26,64 +50,448 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+    private static final String EMAIL_ALREADY_EXISTS_MESSAGE = "El correo ya está registrado";
+    private static final String EMAIL_UNIQUE_INDEX = "idx_email";
+    private static final String EMAIL_DUPLICATED_IN_BATCH_MESSAGE = "El correo está repetido en el lote";
+    private static final String BATCH_ITEM_ERROR_MESSAGE = "Error procesando el usuario";
+
     private final ValidationService validationService;
     private final ReactiveUserRepository reactiveUserRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
     private final UserMapper userMapper;
+    private final UserProperties userProperties;
+    private final EmailMembershipFilter emailMembershipFilter;
+    private final IdGenerator idGenerator;
+    private final RefreshTokenService refreshTokenService;
+    private final ReactiveUserTokenRepository reactiveUserTokenRepository;
+    private final HashingAdmissionController hashingAdmissionController;
 
     @Override
     public Mono<PostUserResponse> createUser(PostUserRequest request) {
         log.info("Iniciando creación de usuario con email: {}", request.getEmail());
 
-        return validationService.validateEmailAndPassword(request.getEmail(), request.getPassword())
-                .then(validateEmailNotExists(request.getEmail()))
-                .then(Mono.fromCallable(() -> buildUserEntity(request)))
-                .flatMap(reactiveUserRepository::save)
-                .flatMap(this::generateAndAssignToken)
-                .map(userMapper::toResponse)
+        return prepareUser(request, passwordHashingService.encode(request.getPassword()))
+                .flatMap(user -> {
+                    RefreshTokenService.NewRefreshToken refreshToken =
+                            refreshTokenService.create(user.getId(), user.getEmail());
+                    return persistUser(user, reactiveUserRepository.save(user, refreshToken.entity()))
+                            .flatMap(savedUser -> issueTokens(savedUser, refreshToken.value()));
+                })
                 .doOnSuccess(response -> log.info("Usuario creado exitosamente con ID: {}", response.getId()))
                 .doOnError(error -> log.error("Error al crear usuario: {}", error.getMessage(), error));
     }
 
+    /**
+     * Bulk creation. The batch goes through these stages, each of which
+     * marks failing entries instead of aborting:
+     * <ol>
+     * <li>email/password validation of every entry;</li>
+     * <li>duplicate detection, within the batch and against the database
+     * (one query for all candidate emails);</li>
+     * <li>BCrypt hashing on the hashing pool, with
+     * {@code users.batch.hashing-concurrency} hashes in parallel;</li>
+     * <li>a single batched insert of all remaining users. If it fails, the
+     * users are saved one by one to isolate the failing entries.</li>
+     * </ol>
+     * The batch is admitted through {@link HashingAdmissionController} with
+     * one slot per concurrent hash; when those slots are not available the
+     * whole batch is rejected with {@link HashingCapacityExceededException}.
+     */
+    @Override
+    public Mono<PostUsersBatchResponse> createUsers(List<PostUserRequest> requests) {
+        log.info("Iniciando importación de {} usuario(s)", requests.size());
+
+        List<BatchItem> items = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            items.add(new BatchItem(i, requests.get(i)));
+        }
+
+        int hashingConcurrency = userProperties.getBatch().getHashingConcurrency();
+        Mono<PostUsersBatchResponse> batch = Flux.fromIterable(items)
+                .concatMap(this::validateBatchItem)
+                .then(Mono.defer(() -> rejectDuplicateEmails(items)))
+                .thenMany(Flux.fromIterable(items))
+                .filter(BatchItem::isPending)
+                .flatMapSequential(this::hashBatchItem, hashingConcurrency)
+                .filter(BatchItem::isPending)
+                .collectList()
+                .flatMap(this::persistBatch)
+                .then(Mono.fromSupplier(() -> toBatchResponse(items)));
+
+        return hashingAdmissionController.admit(batch, Math.min(hashingConcurrency, items.size()))
+                .doOnSuccess(response -> log.info("Importación finalizada: {} creado(s), {} fallido(s)",
+                        response.getCreated(), response.getFailed()));
+    }
+
+    /**
+     * Streamed creation. Lines go through two stages with their own
+     * concurrency limit ({@code users.stream.*}): validation and hashing,
+     * then persistence. {@code flatMapSequential} keeps the output in input
+     * order and only requests new lines from the client as in-flight ones
+     * complete. Each hash waits for an admission slot (up to
+     * {@code users.stream.max-hashing-wait}) instead of failing its line
+     * when the hashing pool is saturated, so the client is backpressured.
+     */
+    @Override
+    public Flux<BatchUserResult> createUsersStream(Flux<PostUserRequest> requests) {
+        UserProperties.Stream config = userProperties.getStream();
+        return requests
+                .index((index, request) -> new BatchItem(index.intValue(), request))
+                .flatMapSequential(this::prepareStreamItem, config.getHashingConcurrency())
+                .flatMapSequential(this::persistStreamItem, config.getPersistenceConcurrency())
+                .map(BatchItem::toResult);
+    }
+
+    /**
+     * Keyset pagination. One extra user is read to know whether another
+     * page follows without a COUNT query.
+     */
+    @Override
+    public Mono<UsersPage> listUsers(String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, userProperties.getListing().getMaxPageSize()));
+        return Mono.defer(() -> {
+                    UserCursor after = cursor == null || cursor.isBlank() ? null : UserCursor.decode(cursor);
+                    return reactiveUserRepository.findPage(after, pageSize + 1).collectList();
+                })
+                .map(users -> {
+                    UsersPage page = new UsersPage();
+                    List<UserEntity> items = users.size() > pageSize ? users.subList(0, pageSize) : users;
+                    page.setItems(new ArrayList<>(items.stream().map(userMapper::toSummary).toList()));
+                    if (users.size() > pageSize) {
+                        page.setNextCursor(UserCursor.after(items.get(pageSize - 1)).encode());
+                    }
+                    return page;
+                });
+    }
+
+    @Override
+    public Flux<UserSummary> exportUsers() {
+        log.info("Iniciando exportación de usuarios");
+        return reactiveUserRepository.streamAll(userProperties.getListing().getExportPageSize())
+                .map(userMapper::toSummary);
+    }
+
+    /**
+     * Validation, duplicate check and password hashing: everything that
+     * happens before the INSERT. The hash is only subscribed to once the
+     * request is valid.
+     */
+    private Mono<UserEntity> prepareUser(PostUserRequest request, Mono<String> encodedPassword) {
+        return validationService.validateUser(request)
+                .then(validateEmailNotExists(request.getEmail()))
+                .then(Mono.defer(() -> buildUserEntity(request, encodedPassword)));
+    }
+
+    private Mono<UserEntity> persistUser(UserEntity user) {
+        return persistUser(user, reactiveUserRepository.save(user));
+    }
+
+    /**
+     * Runs the insert of a user, reporting a duplicate email as
+     * {@link EmailAlreadyExistsException}.
+     */
+    private Mono<UserEntity> persistUser(UserEntity user, Mono<UserEntity> insert) {
+        return insert
+                .onErrorResume(DataIntegrityViolationException.class,
+                        error -> translateIntegrityViolation(user.getEmail(), error))
+                .doOnNext(savedUser -> emailMembershipFilter.add(savedUser.getEmail()));
+    }
+
+    /**
+     * Checks for an existing email before inserting. Skipped in
+     * {@link UserProperties.DuplicateCheck#CONSTRAINT} mode, where the
+     * unique index on {@code users.email} reports duplicates on insert.
+     *
+     * The database is only queried when the {@link EmailMembershipFilter}
+     * says the email may already be registered.
+     */
     private Mono<Void> validateEmailNotExists(String email) {
+        if (userProperties.getRegistration().getDuplicateCheck() == UserProperties.DuplicateCheck.CONSTRAINT) {
+            return Mono.empty();
+        }
+        if (!emailMembershipFilter.mightContain(email)) {
+            log.debug("Email {} ausente según el filtro, se omite la consulta", email);
+            return Mono.empty();
+        }
         return reactiveUserRepository.existsByEmail(email)
                 .flatMap(exists -> {
                     if (exists) {
                         log.warn("Intento de registro con email existente: {}", email);
-                        return Mono.error(new EmailAlreadyExistsException("El correo ya está registrado"));
+                        return Mono.error(new EmailAlreadyExistsException(EMAIL_ALREADY_EXISTS_MESSAGE));
                     }
+                    emailMembershipFilter.recordFalsePositive();
                     return Mono.empty();
                 });
     }
 
-    private UserEntity buildUserEntity(PostUserRequest request) {
+    /**
+     * Translates a constraint violation on insert into
+     * EmailAlreadyExistsException when it was caused by the email unique
+     * index. This is how duplicates are reported in CONSTRAINT mode, and it
+     * also covers concurrent registrations racing past existsByEmail.
+     *
+     * When the driver message does not name the index (e.g. databases
+     * created with an auto-named unique constraint), the email is checked
+     * once more; this only happens on the failure path.
+     */
+    private Mono<UserEntity> translateIntegrityViolation(String email, DataIntegrityViolationException error) {
+        if (mentionsEmailIndex(error)) {
+            log.warn("Intento de registro con email existente: {}", email);
+            return Mono.error(new EmailAlreadyExistsException(EMAIL_ALREADY_EXISTS_MESSAGE, error));
+        }
+        return reactiveUserRepository.existsByEmail(email)
+                .flatMap(exists -> Mono.error(exists
+                        ? new EmailAlreadyExistsException(EMAIL_ALREADY_EXISTS_MESSAGE, error)
+                        : error));
+    }
+
+    private boolean mentionsEmailIndex(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            String message = current.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(EMAIL_UNIQUE_INDEX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the user entity. The BCrypt hash is computed on the dedicated
+     * hashing scheduler, never on the calling (event loop) thread.
+     */
+    private Mono<UserEntity> buildUserEntity(PostUserRequest request, Mono<String> encodedPassword) {
         log.debug("Construyendo entidad de usuario");
 
         UserEntity user = userMapper.toEntity(request);
-        user.setId(UUID.randomUUID());
-
-        String encryptedPassword = passwordEncoder.encode(request.getPassword());
-        user.setPassword(encryptedPassword);
-        log.debug("Password encriptado con BCrypt");
+        user.setId(idGenerator.generate());
 
         if (user.getPhones() != null) {
             for (PhoneEntity phone : user.getPhones()) {
+                phone.setId(idGenerator.generate());
                 phone.setUser(user);
             }
             log.debug("Relación bidireccional establecida con {} teléfono(s)", user.getPhones().size());
         }
 
-        return user;
+        return encodedPassword
+                .map(encryptedPassword -> {
+                    user.setPassword(encryptedPassword);
+                    return user;
+                });
     }
 
-    private Mono<UserEntity> generateAndAssignToken(UserEntity user) {
-        return Mono.fromCallable(() -> {
+    private Mono<BatchItem> validateBatchItem(BatchItem item) {
+        return validationService.validateUser(item.request)
+                .thenReturn(item)
+                .onErrorResume(error -> failItem(item, error));
+    }
+
+    /**
+     * Fails entries whose email is repeated in the batch or already
+     * registered. Only emails the {@link EmailMembershipFilter} cannot rule
+     * out are sent to the database, in a single query.
+     */
+    private Mono<Void> rejectDuplicateEmails(List<BatchItem> items) {
+        Set<String> seen = new HashSet<>();
+        List<String> candidates = new ArrayList<>();
+        for (BatchItem item : items) {
+            if (!item.isPending()) {
+                continue;
+            }
+            String email = item.request.getEmail();
+            if (!seen.add(email)) {
+                item.fail(EMAIL_DUPLICATED_IN_BATCH_MESSAGE);
+            } else if (emailMembershipFilter.mightContain(email)) {
+                candidates.add(email);
+            }
+        }
+
+        if (candidates.isEmpty()
+                || userProperties.getRegistration().getDuplicateCheck() == UserProperties.DuplicateCheck.CONSTRAINT) {
+            return Mono.empty();
+        }
+        return reactiveUserRepository.findExistingEmails(candidates)
+                .collect(Collectors.toSet())
+                .doOnNext(existing -> items.stream()
+                        .filter(item -> item.isPending() && existing.contains(item.request.getEmail()))
+                        .forEach(item -> item.fail(EMAIL_ALREADY_EXISTS_MESSAGE)))
+                .then();
+    }
+
+    private Mono<BatchItem> hashBatchItem(BatchItem item) {
+        return buildUserEntity(item.request, passwordHashingService.encode(item.request.getPassword()))
+                .map(user -> {
+                    item.user = user;
+                    return item;
+                })
+                .onErrorResume(error -> failItem(item, error));
+    }
+
+    private Mono<Void> persistBatch(List<BatchItem> pending) {
+        if (pending.isEmpty()) {
+            return Mono.empty();
+        }
+        List<UserEntity> users = pending.stream().map(item -> item.user).toList();
+        return reactiveUserRepository.saveAll(users)
+                .then()
+                .doOnSuccess(unused -> pending.forEach(this::markCreated))
+                .onErrorResume(error -> {
+                    log.warn("Falló la inserción en lote, se guardará usuario por usuario: {}", error.getMessage());
+                    pending.forEach(item -> resetPersistenceState(item.user));
+                    return Flux.fromIterable(pending)
+                            .concatMap(this::persistBatchItem)
+                            .then();
+                });
+    }
+
+    /**
+     * The failed batch already stamped the audit dates, which makes the
+     * entity look persisted ({@link UserEntity#isNew()}) and turns the retry
+     * into a merge: a SELECT per user before its INSERT.
+     */
+    private static void resetPersistenceState(UserEntity user) {
+        user.setCreated(null);
+        user.setModified(null);
+    }
+
+    private Mono<Void> persistBatchItem(BatchItem item) {
+        return reactiveUserRepository.save(item.user)
+                .onErrorResume(DataIntegrityViolationException.class,
+                        error -> translateIntegrityViolation(item.user.getEmail(), error))
+                .doOnNext(savedUser -> markCreated(item))
+                .then()
+                .onErrorResume(error -> failItem(item, error).then());
+    }
+
+    private Mono<BatchItem> prepareStreamItem(BatchItem item) {
+        Mono<String> encodedPassword = hashingAdmissionController.admitWhenAvailable(
+                passwordHashingService.encode(item.request.getPassword()),
+                userProperties.getStream().getMaxHashingWait());
+        return prepareUser(item.request, encodedPassword)
+                .map(user -> {
+                    item.user = user;
+                    return item;
+                })
+                .onErrorResume(error -> failItem(item, error));
+    }
+
+    private Mono<BatchItem> persistStreamItem(BatchItem item) {
+        if (!item.isPending()) {
+            return Mono.just(item);
+        }
+        return persistUser(item.user)
+                .map(savedUser -> {
+                    item.created = true;
+                    return item;
+                })
+                .onErrorResume(error -> failItem(item, error));
+    }
+
+    /**
+     * Marks the item as failed. Domain errors keep their message; anything
+     * else is reported with a generic one and logged.
+     */
+    private Mono<BatchItem> failItem(BatchItem item, Throwable error) {
+        if (error instanceof EmailAlreadyExistsException
+                || error instanceof InvalidEmailFormatException
+                || error instanceof InvalidPasswordFormatException
+                || error instanceof InvalidUserDataException
+                || error instanceof HashingCapacityExceededException) {
+            item.fail(error.getMessage());
+        } else {
+            log.error("Error procesando el usuario en la posición {}: {}", item.index, error.getMessage(), error);
+            item.fail(BATCH_ITEM_ERROR_MESSAGE);
+        }
+        return Mono.just(item);
+    }
+
+    private void markCreated(BatchItem item) {
+        item.created = true;
+        emailMembershipFilter.add(item.user.getEmail());
+    }
+
+    private PostUsersBatchResponse toBatchResponse(List<BatchItem> items) {
+        List<BatchUserResult> results = new ArrayList<>(items.size());
+        int created = 0;
+        for (BatchItem item : items) {
+            if (item.created) {
+                created++;
+            }
+            results.add(item.toResult());
+        }
+
+        PostUsersBatchResponse response = new PostUsersBatchResponse();
+        response.setCreated(created);
+        response.setFailed(items.size() - created);
+        response.setResults(results);
+        return response;
+    }
+
+    /**
+     * Issues the access token of a new user and returns it with the first
+     * refresh token, already inserted together with the user. Only single
+     * registrations get tokens: bulk and streamed imports return ids only,
+     * so they issue none.
+     *
+     * The access token is not written to the user row; it is only stored,
+     * in {@code user_tokens}, when {@code users.token-storage.enabled} is
+     * set.
+     */
+    private Mono<PostUserResponse> issueTokens(UserEntity user, String refreshToken) {
+        return Mono.defer(() -> {
             log.debug("Generando token JWT para usuario ID: {}", user.getId());
             String token = jwtUtil.generateToken(user.getId(), user.getEmail());
-            user.setToken(token);
-            log.debug("Token JWT generado y asignado");
-            return user;
+            PostUserResponse response = userMapper.toResponse(user)
+                    .token(token)
+                    .refreshToken(refreshToken);
+            return storeToken(user, token).thenReturn(response);
         });
     }
-}
\ No newline at end of file
+
+    private Mono<Void> storeToken(UserEntity user, String token) {
+        if (!userProperties.getTokenStorage().isEnabled()) {
+            return Mono.empty();
+        }
+        UserTokenEntity userToken = UserTokenEntity.builder()
+                .userId(user.getId())
+                .token(token)
+                .issuedAt(LocalDateTime.now())
+                .build();
+        return reactiveUserTokenRepository.save(userToken).then();
+    }
+
+    /**
+     * Mutable state of one entry of a bulk or streamed creation request.
+     */
+    private static final class BatchItem {
+
+        private final int index;
+        private final PostUserRequest request;
+        private UserEntity user;
+        private String error;
+        private boolean created;
+
+        private BatchItem(int index, PostUserRequest request) {
+            this.index = index;
+            this.request = request;
+        }
+
+        private boolean isPending() {
+            return error == null && !created;
+        }
+
+        private void fail(String message) {
+            this.error = message;
+        }
+
+        private BatchUserResult toResult() {
+            BatchUserResult result = new BatchUserResult()
+                    .index(index)
+                    .email(request.getEmail());
+            return created
+                    ? result.status(BatchUserResult.StatusEnum.CREATED).id(user.getId())
+                    : result.status(BatchUserResult.StatusEnum.FAILED).message(error);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.smartjob.user.service.util;
+
+import com.smartjob.user.config.ValidationProperties;
+import com.smartjob.user.util.ReloadableFile;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Email domains that may not register, together with their subdomains.
+ *
+ * The domains are kept in a trie keyed by label from right to left
+ * ({@code mail.example.com} is stored as {@code com → example → mail}), so
+ * checking a domain walks one node per label and stops at the first
+ * blocked ancestor: blocking {@code example.com} also blocks
+ * {@code mail.example.com}. Domains that share a suffix share its nodes,
+ * and each distinct label is stored once.
+ *
+ * The trie is an immutable snapshot held by a {@link ReloadableFile}. When
+ * {@code validation.blocked-domains.file} is set, the file is polled every
+ * {@code validation.blocked-domains.reload-interval} and reloaded when it
+ * changes; an unreadable file is logged and the current list is kept.
+ *
+ * File format: one domain per line; blank lines and lines starting with
+ * {@code #} are ignored, and a leading {@code *.} is accepted.
+ */
+@Slf4j
+@Component
+public class BlockedEmailDomains {
+
+    private final ReloadableFile<Node> domains;
+
+    public BlockedEmailDomains(ValidationProperties validationProperties) {
+        ValidationProperties.BlockedDomains config = validationProperties.getBlockedDomains();
+        this.domains = new ReloadableFile<>("el archivo de dominios bloqueados", config.getFile(),
+                config.getReloadInterval(), BlockedEmailDomains::load);
+    }
+
+    /**
+     * Trie node; {@code blocked} marks the end of a blocked domain.
+     */
+    private static final class Node {
+        private Map<String, Node> children;
+        private boolean blocked;
+
+        private Node child(String label) {
+            return children == null ? null : children.get(label);
+        }
+
+        private Node addChild(String label) {
+            if (children == null) {
+                children = new HashMap<>(4);
+            }
+            return children.computeIfAbsent(label, key -> new Node());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWatching() {
+        domains.startWatching();
+    }
+
+    @PreDestroy
+    public void stopWatching() {
+        domains.stopWatching();
+    }
+
+    /**
+     * Tells whether the domain, or one of its parent domains, is blocked.
+     *
+     * @param domain the domain part of an email, in any case
+     * @return true if registrations from the domain must be rejected
+     */
+    public boolean isBlocked(String domain) {
+        Node node = domains.get();
+        if (node.children == null) {
+            return false;
+        }
+        String normalized = domain.toLowerCase(Locale.ROOT);
+        int end = normalized.length();
+        while (end > 0) {
+            int start = normalized.lastIndexOf('.', end - 1) + 1;
+            node = node.child(normalized.substring(start, end));
+            if (node == null) {
+                return false;
+            }
+            if (node.blocked) {
+                return true;
+            }
+            end = start - 1;
+        }
+        return false;
+    }
+
+    /**
+     * Reloads the list if the file changed since it was last read. An
+     * unreadable file is logged and the current list is kept.
+     */
+    void reloadIfChanged() {
+        domains.reloadIfChanged();
+    }
+
+    private static Node load(Path domainsFile) throws IOException {
+        Node trie = new Node();
+        if (domainsFile == null) {
+            return trie;
+        }
+        Map<String, String> labels = new HashMap<>();
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(domainsFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String domain = normalize(line);
+                if (domain.isEmpty()) {
+                    continue;
+                }
+                add(trie, domain, labels);
+                count++;
+            }
+        }
+        log.info("✓ {} dominio(s) bloqueado(s) cargado(s) desde {}", count, domainsFile);
+        return trie;
+    }
+
+    /**
+     * Adds a domain to the trie. Labels are deduplicated through
+     * {@code labels} so that, for example, every {@code com} node shares
+     * the same string.
+     */
+    private static void add(Node trie, String domain, Map<String, String> labels) {
+        Node node = trie;
+        int end = domain.length();
+        while (end > 0) {
+            int start = domain.lastIndexOf('.', end - 1) + 1;
+            String label = domain.substring(start, end);
+            node = node.addChild(labels.computeIfAbsent(label, key -> key));
+            if (node.blocked) {
+                // a parent domain is already blocked
+                return;
+            }
+            end = start - 1;
+        }
+        node.blocked = true;
+        node.children = null;
+    }
+
+    private static String normalize(String line) {
+        String domain = line.strip().toLowerCase(Locale.ROOT);
+        if (domain.startsWith("#")) {
+            return "";
+        }
+        if (domain.startsWith("*.")) {
+            domain = domain.substring(2);
+        }
+        while (domain.startsWith(".")) {
+            domain = domain.substring(1);
+        }
+        while (domain.endsWith(".")) {
+            domain = domain.substring(0, domain.length() - 1);
+        }
+        return domain;
+    }
+}
@@ -0,0 +1,139 @@
+package com.smartjob.user.service.util;
+
+import com.smartjob.user.config.ValidationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Known-breached passwords, looked up without any network call.
+ *
+ * The list is a local binary file of SHA-1 prefixes: the first 8 bytes of
+ * the SHA-1 of each password, big-endian, sorted as unsigned numbers and
+ * concatenated with no header. The file is memory-mapped read-only and
+ * binary-searched, so the heap does not grow with the list and the
+ * operating system page cache keeps the hot pages in memory. A lookup is
+ * one SHA-1 and about 30 probes for a billion entries.
+ *
+ * With 64-bit prefixes the chance that a password not in the list collides
+ * with one of a billion entries is about 5 in 10<sup>11</sup>.
+ *
+ * A {@link java.nio.MappedByteBuffer} addresses at most 2 GiB, so larger
+ * files are mapped in several segments of {@value #SEGMENT_ENTRIES}
+ * entries.
+ */
+@Slf4j
+@Component
+public class BreachedPasswordList {
+
+    static final int ENTRY_BYTES = Long.BYTES;
+    static final int SEGMENT_ENTRIES = 1 << 27;
+
+    private final LongBuffer[] segments;
+    private final long size;
+
+    public BreachedPasswordList(ValidationProperties validationProperties) {
+        String file = validationProperties.getBreachedPasswords().getFile();
+        if (!StringUtils.hasText(file)) {
+            this.segments = new LongBuffer[0];
+            this.size = 0;
+            return;
+        }
+        Path path = Path.of(file);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes % ENTRY_BYTES != 0) {
+                throw new IllegalStateException(String.format(
+                        "El archivo de contraseñas filtradas %s no tiene un tamaño múltiplo de %d bytes",
+                        path, ENTRY_BYTES));
+            }
+            this.size = bytes / ENTRY_BYTES;
+            this.segments = new LongBuffer[(int) ((size + SEGMENT_ENTRIES - 1) / SEGMENT_ENTRIES)];
+            for (int i = 0; i < segments.length; i++) {
+                long first = (long) i * SEGMENT_ENTRIES;
+                long entries = Math.min(SEGMENT_ENTRIES, size - first);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, first * ENTRY_BYTES, entries * ENTRY_BYTES)
+                        .order(ByteOrder.BIG_ENDIAN)
+                        .asLongBuffer();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo abrir el archivo de contraseñas filtradas " + path, e);
+        }
+        log.info("✓ Lista de contraseñas filtradas mapeada desde {} con {} entrada(s)", path, size);
+    }
+
+    /**
+     * @return whether a breached-password file is loaded
+     */
+    public boolean isEnabled() {
+        return size > 0;
+    }
+
+    /**
+     * @return the number of entries in the list
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Tells whether the password appears in the breached list.
+     *
+     * @param password the password in clear text
+     * @return true if the SHA-1 prefix of the password is in the list
+     */
+    public boolean contains(String password) {
+        if (size == 0) {
+            return false;
+        }
+        long prefix = prefix(password);
+        long low = 0;
+        long high = size - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            int comparison = Long.compareUnsigned(entry(mid), prefix);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long entry(long index) {
+        return segments[(int) (index / SEGMENT_ENTRIES)].get((int) (index % SEGMENT_ENTRIES));
+    }
+
+    /**
+     * First 8 bytes of the SHA-1 of the password, as stored in the file.
+     */
+    static long prefix(String password) {
+        byte[] digest = sha1(password.getBytes(StandardCharsets.UTF_8));
+        long prefix = 0;
+        for (int i = 0; i < ENTRY_BYTES; i++) {
+            prefix = (prefix << 8) | (digest[i] & 0xFF);
+        }
+        return prefix;
+    }
+
+    private static byte[] sha1(byte[] value) {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(value);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 no está disponible", e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.smartjob.user.service.util;
+
+import com.smartjob.user.config.UserProperties;
+import com.smartjob.user.repository.ReactiveUserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory Bloom filter of registered emails.
+ *
+ * Lets the duplicate-email check skip the database when an email is
+ * definitely not registered. A "maybe present" answer still goes to the
+ * database, so false positives only cost the query we would have run
+ * anyway. The filter is warmed from the {@code users} table once the
+ * application is ready; until then every email is reported as maybe
+ * present.
+ *
+ * Users registered by other instances are not in this node's filter; those
+ * duplicates are still rejected by the {@code idx_email} unique index on
+ * insert.
+ */
+@Slf4j
+@Component
+public class EmailMembershipFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final int WARM_UP_PAGE_SIZE = 10_000;
+
+    private final boolean enabled;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final AtomicLongArray bits;
+    private final AtomicLong insertions = new AtomicLong();
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final Counter definitelyAbsent;
+    private final Counter maybePresent;
+    private final Counter falsePositives;
+    private volatile boolean ready;
+
+    public EmailMembershipFilter(UserProperties userProperties,
+            ReactiveUserRepository reactiveUserRepository,
+            MeterRegistry meterRegistry) {
+        UserProperties.EmailFilter config = userProperties.getEmailFilter();
+        this.enabled = config.isEnabled();
+        this.reactiveUserRepository = reactiveUserRepository;
+
+        long expected = Math.max(1, config.getExpectedInsertions());
+        double fpp = config.getFalsePositiveProbability();
+        this.bitCount = Math.max(64, (long) Math.ceil(-expected * Math.log(fpp) / (LN2 * LN2)));
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expected * LN2));
+        this.bits = new AtomicLongArray(enabled ? (int) ((bitCount + 63) >>> 6) : 0);
+
+        this.definitelyAbsent = Counter.builder("users.email.filter.checks")
+                .tag("result", "absent")
+                .description("Duplicate checks answered by the filter without touching the database")
+                .register(meterRegistry);
+        this.maybePresent = Counter.builder("users.email.filter.checks")
+                .tag("result", "maybe_present")
+                .description("Duplicate checks that had to query the database")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("users.email.filter.false.positives")
+                .description("Maybe-present answers for emails that were not registered")
+                .register(meterRegistry);
+        Gauge.builder("users.email.filter.size.bits", () -> bitCount)
+                .register(meterRegistry);
+        Gauge.builder("users.email.filter.insertions", insertions, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("users.email.filter.false.positive.rate", this, EmailMembershipFilter::expectedFalsePositiveRate)
+                .description("Expected false-positive rate for the current number of insertions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads every registered email into the filter once the application is
+     * ready. Failures leave the filter disabled (every email is "maybe
+     * present"), which only costs the database query.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        log.info("Cargando filtro de emails desde la tabla users...");
+        Flux.defer(() -> reactiveUserRepository.findAllEmails(WARM_UP_PAGE_SIZE))
+                .doOnNext(this::add)
+                .count()
+                .subscribe(
+                        count -> {
+                            ready = true;
+                            log.info("✓ Filtro de emails cargado con {} email(s), {} bits, {} funciones hash",
+                                    count, bitCount, hashFunctions);
+                        },
+                        error -> log.warn("No se pudo cargar el filtro de emails, se consultará la base de datos: {}",
+                                error.getMessage()));
+    }
+
+    /**
+     * Records a registered email.
+     *
+     * @param email the email that was saved
+     */
+    public void add(String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+        long h1 = hash(email);
+        long h2 = mix(h1) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+        insertions.incrementAndGet();
+    }
+
+    /**
+     * Tells whether the email may already be registered.
+     *
+     * @param email the email to check
+     * @return false only if the email is definitely not registered
+     */
+    public boolean mightContain(String email) {
+        if (!enabled || !ready) {
+            return true;
+        }
+        long h1 = hash(email);
+        long h2 = mix(h1) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                definitelyAbsent.increment();
+                return false;
+            }
+        }
+        maybePresent.increment();
+        return true;
+    }
+
+    /**
+     * Records that a "maybe present" answer turned out to be wrong.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    private double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashFunctions * insertions.get() / bitCount), hashFunctions);
+    }
+
+    private static long hash(String value) {
+        long h = 0x9E3779B97F4A7C15L ^ value.length();
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,180 @@
+package com.smartjob.user.service.util;
+
+import com.smartjob.user.config.HashingProperties;
+import com.smartjob.user.exception.HashingCapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission controller for operations that need password hashing.
+ *
+ * Tracks the number of in-flight hashing requests and rejects new ones
+ * fast with {@link HashingCapacityExceededException} once the limit is
+ * reached. The limit is adaptive: with {@code threads} hashing threads and
+ * an observed average hash time {@code t}, at most
+ * {@code threads * maxQueueWait / t} requests can wait in the queue without
+ * exceeding {@code hashing.admission.max-queue-wait}.
+ */
+@Slf4j
+@Component
+public class HashingAdmissionController {
+
+    private static final Duration MIN_WAIT_BACKOFF = Duration.ofMillis(10);
+
+    private final HashingProperties hashingProperties;
+    private final PasswordHashingService passwordHashingService;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+
+    public HashingAdmissionController(HashingProperties hashingProperties,
+            PasswordHashingService passwordHashingService,
+            MeterRegistry meterRegistry) {
+        this.hashingProperties = hashingProperties;
+        this.passwordHashingService = passwordHashingService;
+        this.rejected = Counter.builder("password.hashing.admission.rejected")
+                .description("Requests shed because the hashing pool was saturated")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.admission.in.flight", inFlight, AtomicInteger::get)
+                .description("Requests currently admitted to the hashing pool")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.admission.limit", this, HashingAdmissionController::currentLimit)
+                .description("Current adaptive in-flight limit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the given operation if there is hashing capacity available.
+     * The slot is released when the operation terminates or is cancelled.
+     *
+     * @param operation the operation to admit
+     * @param <T>       the operation result type
+     * @return the operation, or Mono.error() with
+     *         HashingCapacityExceededException if the request is shed
+     */
+    public <T> Mono<T> admit(Mono<T> operation) {
+        return admit(operation, 1);
+    }
+
+    /**
+     * Runs an operation that hashes several passwords concurrently, taking
+     * one slot per concurrent hash. The permits are capped at the current
+     * limit, so an idle pool always admits the operation.
+     *
+     * @param operation the operation to admit
+     * @param permits   how many hashes the operation runs at the same time
+     * @param <T>       the operation result type
+     * @return the operation, or Mono.error() with
+     *         HashingCapacityExceededException if the request is shed
+     */
+    public <T> Mono<T> admit(Mono<T> operation, int permits) {
+        if (!hashingProperties.getAdmission().isEnabled()) {
+            return operation;
+        }
+        return Mono.defer(() -> {
+            int limit = currentLimit();
+            int slots = Math.max(1, Math.min(permits, limit));
+            if (!tryAcquire(slots, limit)) {
+                rejected.increment();
+                long retryAfter = retryAfterSeconds();
+                log.warn("Solicitud rechazada por saturación del pool de hashing (límite: {}, reintentar en {}s)",
+                        limit, retryAfter);
+                return Mono.error(new HashingCapacityExceededException(
+                        HashingCapacityExceededException.DEFAULT_MESSAGE, retryAfter));
+            }
+            return operation.doFinally(signal -> inFlight.addAndGet(-slots));
+        });
+    }
+
+    /**
+     * Runs the given operation once there is hashing capacity, waiting for
+     * a slot instead of rejecting it. Meant for callers that can apply
+     * backpressure while they wait, such as a stream of registrations.
+     * Admission is retried with a backoff bounded by
+     * {@code hashing.admission.max-queue-wait}; a pool that rejects the
+     * hash because its queue is full is waited for the same way.
+     *
+     * @param operation the operation to admit
+     * @param maxWait   how long to wait for a slot before giving up
+     * @param <T>       the operation result type
+     * @return the operation, or Mono.error() with
+     *         HashingCapacityExceededException if no slot frees up in time
+     */
+    public <T> Mono<T> admitWhenAvailable(Mono<T> operation, Duration maxWait) {
+        return Mono.defer(() -> {
+            long deadline = System.nanoTime() + maxWait.toNanos();
+            return tryAdmit(operation)
+                    .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_WAIT_BACKOFF)
+                            .maxBackoff(hashingProperties.getAdmission().getMaxQueueWait())
+                            .filter(error -> error instanceof HashingCapacityExceededException
+                                    && System.nanoTime() < deadline))
+                    .doOnError(HashingCapacityExceededException.class, error -> {
+                        rejected.increment();
+                        log.warn("Sin capacidad de hashing tras esperar {} ms", maxWait.toMillis());
+                    });
+        });
+    }
+
+    /**
+     * Same as {@link #admit(Mono)} for a single slot, without counting or
+     * logging the rejection: the caller is going to retry.
+     */
+    private <T> Mono<T> tryAdmit(Mono<T> operation) {
+        return Mono.defer(() -> {
+            if (!hashingProperties.getAdmission().isEnabled()) {
+                return operation;
+            }
+            if (!tryAcquire(1, currentLimit())) {
+                return Mono.error(new HashingCapacityExceededException(
+                        HashingCapacityExceededException.DEFAULT_MESSAGE, retryAfterSeconds()));
+            }
+            return operation.doFinally(signal -> inFlight.decrementAndGet());
+        });
+    }
+
+    private boolean tryAcquire(int slots, int limit) {
+        if (inFlight.addAndGet(slots) > limit) {
+            inFlight.addAndGet(-slots);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Computes the current in-flight limit, bounded between the number of
+     * hashing threads and the total capacity of the pool (threads + queue).
+     *
+     * @return the maximum number of requests admitted concurrently
+     */
+    int currentLimit() {
+        int threads = hashingProperties.getThreads();
+        int capacity = threads + hashingProperties.getQueueCapacity();
+        long averageHashNanos = passwordHashingService.averageHashNanos();
+        if (averageHashNanos <= 0) {
+            return capacity;
+        }
+        long maxQueueWaitNanos = hashingProperties.getAdmission().getMaxQueueWait().toNanos();
+        // multiply first: dividing first truncates to 0 once a hash takes longer than maxQueueWait
+        long queued = maxQueueWaitNanos * threads / averageHashNanos;
+        return (int) Math.min(capacity, threads + queued);
+    }
+
+    /**
+     * Estimates how long the currently admitted work needs to drain.
+     *
+     * @return seconds to wait before retrying, at least 1
+     */
+    long retryAfterSeconds() {
+        long averageHashNanos = passwordHashingService.averageHashNanos();
+        long drainNanos = averageHashNanos * inFlight.get() / hashingProperties.getThreads();
+        return Math.max(1, (long) Math.ceil(drainNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+    }
+}
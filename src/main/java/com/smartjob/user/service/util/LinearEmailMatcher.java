@@ -0,0 +1,64 @@
+package com.smartjob.user.service.util;
+
+/**
+ * Single-pass equivalent of the built-in email pattern {@value #PATTERN}.
+ *
+ * Neither part of the address can contain {@code @}, so the value splits
+ * at its only {@code @}. The top-level domain contains letters only, so
+ * the dot before it is the last dot of the domain: the check reduces to
+ * one scan that tracks the position of the last dot and whether only
+ * letters followed it. Every character is read once and nothing
+ * backtracks.
+ */
+public final class LinearEmailMatcher implements RuleMatcher {
+
+    /** The pattern this matcher is equivalent to. */
+    public static final String PATTERN = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
+
+    @Override
+    public boolean matches(CharSequence value) {
+        int length = value.length();
+        int at = -1;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                at = i;
+                break;
+            }
+            if (!isLocalPartChar(c)) {
+                return false;
+            }
+        }
+        if (at < 1) {
+            return false;
+        }
+
+        int lastDot = -1;
+        boolean lettersAfterDot = false;
+        for (int i = at + 1; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+                lettersAfterDot = true;
+            } else if (isDigit(c) || c == '-') {
+                lettersAfterDot = false;
+            } else if (!isLetter(c)) {
+                return false;
+            }
+        }
+        // at least one domain character before the dot and two letters after it
+        return lastDot > at + 1 && lettersAfterDot && length - lastDot - 1 >= 2;
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return isLetter(c) || isDigit(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
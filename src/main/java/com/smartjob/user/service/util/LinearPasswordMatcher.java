@@ -0,0 +1,49 @@
+package com.smartjob.user.service.util;
+
+/**
+ * Single-pass equivalent of the built-in password pattern {@value #PATTERN}.
+ *
+ * The regex runs four lookaheads, each of which may scan the whole value,
+ * before matching it once more. Since every allowed character is also a
+ * character the lookaheads can cross, they reduce to four flags set in
+ * the same scan that checks the allowed characters and the length.
+ */
+public final class LinearPasswordMatcher implements RuleMatcher {
+
+    /** The pattern this matcher is equivalent to. */
+    public static final String PATTERN =
+            "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,}$";
+
+    private static final int MIN_LENGTH = 8;
+
+    @Override
+    public boolean matches(CharSequence value) {
+        int length = value.length();
+        if (length < MIN_LENGTH) {
+            return false;
+        }
+        boolean lower = false;
+        boolean upper = false;
+        boolean digit = false;
+        boolean special = false;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                lower = true;
+            } else if (c >= 'A' && c <= 'Z') {
+                upper = true;
+            } else if (LinearEmailMatcher.isDigit(c)) {
+                digit = true;
+            } else if (isSpecial(c)) {
+                special = true;
+            } else {
+                return false;
+            }
+        }
+        return lower && upper && digit && special;
+    }
+
+    private static boolean isSpecial(char c) {
+        return c == '@' || c == '$' || c == '!' || c == '%' || c == '*' || c == '?' || c == '&';
+    }
+}
@@ -0,0 +1,67 @@
+package com.smartjob.user.service.util;
+
+import com.smartjob.user.exception.HashingCapacityExceededException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reactive password hashing service.
+ * Runs the {@link PasswordEncoder} on the dedicated hashing scheduler
+ * defined in {@code SecurityConfig}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler passwordHashingScheduler;
+
+    /**
+     * Exponentially weighted moving average of the hash duration, in
+     * nanoseconds. Zero until the first hash completes.
+     */
+    private final AtomicLong averageHashNanos = new AtomicLong();
+
+    /**
+     * Hashes a raw password on the hashing scheduler.
+     *
+     * @param rawPassword the password to hash
+     * @return Mono with the encoded password, or an error with
+     *         HashingCapacityExceededException if the hashing queue is full
+     */
+    public Mono<String> encode(String rawPassword) {
+        return Mono.fromCallable(() -> {
+                    long start = System.nanoTime();
+                    String encoded = passwordEncoder.encode(rawPassword);
+                    recordHashDuration(System.nanoTime() - start);
+                    log.debug("Password encriptado con BCrypt");
+                    return encoded;
+                })
+                .subscribeOn(passwordHashingScheduler)
+                .onErrorMap(RejectedExecutionException.class, e -> new HashingCapacityExceededException(
+                        HashingCapacityExceededException.DEFAULT_MESSAGE, 1, e));
+    }
+
+    /**
+     * Returns the observed average duration of a single hash.
+     *
+     * @return average hash duration in nanoseconds, or 0 if no hash has
+     *         completed yet
+     */
+    public long averageHashNanos() {
+        return averageHashNanos.get();
+    }
+
+    private void recordHashDuration(long nanos) {
+        averageHashNanos.accumulateAndGet(nanos, (average, sample) ->
+                average == 0 ? sample : average + (sample - average) / 8);
+    }
+}
@@ -0,0 +1,30 @@
+package com.smartjob.user.service.util;
+
+import java.util.regex.Pattern;
+
+/**
+ * Compiled form of a validation rule. Implementations are immutable and
+ * thread-safe.
+ */
+@FunctionalInterface
+public interface RuleMatcher {
+
+    /**
+     * Tells whether the whole value satisfies the rule.
+     *
+     * @param value the value to check, never null
+     * @return true if the value is valid
+     */
+    boolean matches(CharSequence value);
+
+    /**
+     * Matcher backed by a pattern compiled once, with the semantics of
+     * {@link Pattern#matches(String, CharSequence)}.
+     *
+     * @param pattern the compiled pattern
+     * @return the matcher
+     */
+    static RuleMatcher regex(Pattern pattern) {
+        return value -> pattern.matcher(value).matches();
+    }
+}
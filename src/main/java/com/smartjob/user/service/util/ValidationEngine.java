@@ -0,0 +1,159 @@
+package com.smartjob.user.service.util;
+
+import com.smartjob.user.config.ValidationConfigValidator;
+import com.smartjob.user.config.ValidationProperties;
+import com.smartjob.user.util.ReloadableFile;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled email and password rules.
+ *
+ * The rules of {@code validation.*} are compiled once into an immutable
+ * {@link Rules} snapshot that requests read with a single volatile load;
+ * no pattern is compiled on the request path. With
+ * {@code validation.engine: LINEAR} the built-in patterns are evaluated by
+ * {@link LinearEmailMatcher} and {@link LinearPasswordMatcher} instead of
+ * the regex engine.
+ *
+ * When {@code validation.rules-file} is set, the file is polled every
+ * {@code validation.rules-reload-interval} by a {@link ReloadableFile} and,
+ * if it changed and its rules are valid, a new snapshot replaces the
+ * current one atomically. An invalid file is logged and the current rules
+ * are kept.
+ *
+ * File format ({@link Properties}); missing keys keep the configured value:
+ * <pre>
+ * email.pattern=...
+ * email.message=...
+ * password.pattern=...
+ * password.message=...
+ * </pre>
+ */
+@Slf4j
+@Component
+public class ValidationEngine {
+
+    private final ValidationProperties validationProperties;
+    private final ValidationConfigValidator validationConfigValidator;
+    private final ReloadableFile<Rules> rules;
+
+    public ValidationEngine(ValidationProperties validationProperties,
+            ValidationConfigValidator validationConfigValidator) {
+        this.validationProperties = validationProperties;
+        this.validationConfigValidator = validationConfigValidator;
+        this.rules = new ReloadableFile<>("el archivo de reglas de validación", validationProperties.getRulesFile(),
+                validationProperties.getRulesReloadInterval(), this::load);
+    }
+
+    /**
+     * A compiled rule.
+     *
+     * @param matcher the compiled matcher
+     * @param pattern the source pattern, for logging
+     * @param message the message returned when a value does not match
+     */
+    public record CompiledRule(RuleMatcher matcher, String pattern, String message) {
+
+        public boolean matches(CharSequence value) {
+            return matcher.matches(value);
+        }
+    }
+
+    /**
+     * The rules in effect, swapped as a whole so that a request never sees
+     * the email rule of one version and the password rule of another.
+     */
+    public record Rules(CompiledRule email, CompiledRule password) {
+    }
+
+    /**
+     * @return the rules currently in effect
+     */
+    public Rules rules() {
+        return rules.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWatching() {
+        rules.startWatching();
+    }
+
+    @PreDestroy
+    public void stopWatching() {
+        rules.stopWatching();
+    }
+
+    /**
+     * Reloads the rules if the rules file changed since it was last read.
+     * An invalid or unreadable file is logged and the current rules are
+     * kept.
+     */
+    void reloadIfChanged() {
+        if (rules.reloadIfChanged()) {
+            log.info("✓ Reglas de validación recargadas desde {}", validationProperties.getRulesFile());
+        }
+    }
+
+    private Rules load(Path rulesFile) throws IOException {
+        ValidationProperties.ValidationRule email = copy(validationProperties.getEmail());
+        ValidationProperties.ValidationRule password = copy(validationProperties.getPassword());
+
+        if (rulesFile != null) {
+            Properties fileRules = new Properties();
+            try (Reader reader = Files.newBufferedReader(rulesFile, StandardCharsets.UTF_8)) {
+                fileRules.load(reader);
+            }
+            override(email, "email", fileRules);
+            override(password, "password", fileRules);
+        }
+
+        validationConfigValidator.validateRule("email", email);
+        validationConfigValidator.validateRule("password", password);
+        return new Rules(
+                compile(email, LinearEmailMatcher.PATTERN, new LinearEmailMatcher()),
+                compile(password, LinearPasswordMatcher.PATTERN, new LinearPasswordMatcher()));
+    }
+
+    /**
+     * Compiles a rule. The hand-written matcher is only used for the exact
+     * pattern it implements; any other pattern goes to the regex engine.
+     */
+    private CompiledRule compile(ValidationProperties.ValidationRule rule, String linearPattern,
+            RuleMatcher linearMatcher) {
+        String pattern = rule.getPattern();
+        if (validationProperties.getEngine() == ValidationProperties.Engine.LINEAR) {
+            if (pattern.equals(linearPattern)) {
+                return new CompiledRule(linearMatcher, pattern, rule.getMessage());
+            }
+            log.warn("El patrón {} no tiene validador lineal, se evalúa como expresión regular", pattern);
+        }
+        return new CompiledRule(RuleMatcher.regex(Pattern.compile(pattern)), pattern, rule.getMessage());
+    }
+
+    private static void override(ValidationProperties.ValidationRule rule, String name, Properties fileRules) {
+        String pattern = fileRules.getProperty(name + ".pattern");
+        if (pattern != null) {
+            rule.setPattern(pattern.trim());
+        }
+        String message = fileRules.getProperty(name + ".message");
+        if (message != null) {
+            rule.setMessage(message.trim());
+        }
+    }
+
+    private static ValidationProperties.ValidationRule copy(ValidationProperties.ValidationRule rule) {
+        return new ValidationProperties.ValidationRule(rule.getPattern(), rule.getMessage());
+    }
+}
@@ -0,0 +1,79 @@
+package com.smartjob.user.service.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Every violation found while validating a request.
+ *
+ * Validation collects into this object instead of throwing, so a client
+ * with several bad fields learns about all of them in one response.
+ */
+public final class ValidationResult {
+
+    private final List<Violation> violations = new ArrayList<>(4);
+
+    /**
+     * A field that failed validation.
+     *
+     * @param field   the field name, e.g. {@code email} or
+     *                {@code phones[0].number}
+     * @param message the reason, as shown to the client
+     */
+    public record Violation(String field, String message) {
+    }
+
+    /**
+     * Records a violation; a null message means the field is valid.
+     *
+     * @param field   the field name
+     * @param message the reason, or null
+     */
+    void add(String field, String message) {
+        if (message != null) {
+            violations.add(new Violation(field, message));
+        }
+    }
+
+    /**
+     * Records a violation found by another validator, such as Bean
+     * Validation, unless the field already has one.
+     *
+     * @param field   the field name
+     * @param message the reason
+     */
+    public void merge(String field, String message) {
+        for (Violation violation : violations) {
+            if (violation.field().equals(field)) {
+                return;
+            }
+        }
+        add(field, message);
+    }
+
+    /**
+     * @return whether no violation was found
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * @return the violations, in field order
+     */
+    public List<Violation> getViolations() {
+        return Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * @return the violations as {@code field: message} joined by
+     *         {@code ; }, the format used for Bean Validation errors
+     */
+    public String summary() {
+        return violations.stream()
+                .map(violation -> violation.field() + ": " + violation.message())
+                .collect(Collectors.joining("; "));
+    }
+}
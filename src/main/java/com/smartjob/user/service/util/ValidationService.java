@@ -1,85 +1,161 @@
 package com.smartjob.user.service.util;
 
 import com.smartjob.user.config.ValidationProperties;
-import com.smartjob.user.exception.InvalidEmailFormatException;
-import com.smartjob.user.exception.InvalidPasswordFormatException;
+import com.smartjob.user.dto.Phone;
+import com.smartjob.user.dto.PostUserRequest;
+import com.smartjob.user.exception.InvalidUserDataException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
-import java.util.regex.Pattern;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * User data validation service.
- * Uses configurable regex patterns from application.yaml.
+ * Runs Bean Validation on the PostUserRequest, so the constraints of the
+ * OpenAPI contract (required fields, lengths and patterns) come from the
+ * generated DTO alone, plus the rules the schema cannot express: the
+ * configurable regex patterns from application.yaml, compiled once by
+ * {@link ValidationEngine}, emails from {@link BlockedEmailDomains} and
+ * passwords found in the {@link BreachedPasswordList}.
+ *
+ * Each field reports a single message: the schema violations when there
+ * are any, otherwise the first configured rule it breaks. Exceptions are
+ * only created at the edge, once per request.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ValidationService {
 
+    private final Validator validator;
+    private final ValidationEngine validationEngine;
+    private final BreachedPasswordList breachedPasswordList;
+    private final BlockedEmailDomains blockedEmailDomains;
     private final ValidationProperties validationProperties;
 
     /**
-     * Validates the email format according to the configured pattern.
+     * Validates every field of a registration request and reports all the
+     * violations together.
      *
-     * @param email the email to validate
-     * @return Mono.empty() if valid, Mono.error() otherwise
+     * @param request the registration request
+     * @return Mono.empty() if the request is valid, otherwise
+     *         Mono.error() with an {@link InvalidUserDataException} listing
+     *         every invalid field
      */
-    public Mono<Void> validateEmail(String email) {
-        if (email == null || email.trim().isEmpty()) {
-            log.warn("Intento de validación con email vacío");
-            return Mono.error(new InvalidEmailFormatException("El email es obligatorio"));
+    public Mono<Void> validateUser(PostUserRequest request) {
+        return Mono.defer(() -> {
+            ValidationResult result = validate(request);
+            return result.isValid() ? Mono.empty() : Mono.error(new InvalidUserDataException(result));
+        });
+    }
+
+    /**
+     * Validates every field of a registration request without throwing.
+     *
+     * @param request the registration request
+     * @return the violations found, in field order, empty if the request
+     *         is valid
+     */
+    public ValidationResult validate(PostUserRequest request) {
+        Map<String, String> schemaViolations = schemaViolations(request);
+        ValidationResult result = new ValidationResult();
+        result.add("name", schemaViolations.get("name"));
+        result.add("email", schemaViolations.containsKey("email")
+                ? schemaViolations.get("email") : emailViolation(request.getEmail()));
+        result.add("password", schemaViolations.containsKey("password")
+                ? schemaViolations.get("password") : passwordViolation(request.getPassword()));
+
+        List<Phone> phones = request.getPhones();
+        if (phones == null) {
+            result.add("phones", schemaViolations.get("phones"));
+            return result;
+        }
+        for (int i = 0; i < phones.size(); i++) {
+            String field = "phones[" + i + "]";
+            if (phones.get(i) == null) {
+                result.add(field, "El teléfono es obligatorio");
+                continue;
+            }
+            result.add(field + ".number", schemaViolations.get(field + ".number"));
+            result.add(field + ".cityCode", schemaViolations.get(field + ".cityCode"));
+            result.add(field + ".countryCode", schemaViolations.get(field + ".countryCode"));
+        }
+        return result;
+    }
+
+    /**
+     * Runs the Bean Validation constraints of the generated DTO. A field
+     * breaking several of them gets their messages joined in a stable
+     * order.
+     *
+     * @return the messages by property path, e.g. {@code phones[0].number}
+     */
+    private Map<String, String> schemaViolations(PostUserRequest request) {
+        Set<ConstraintViolation<PostUserRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, TreeSet<String>> messages = new HashMap<>();
+        for (ConstraintViolation<PostUserRequest> violation : violations) {
+            messages.computeIfAbsent(violation.getPropertyPath().toString(), path -> new TreeSet<>())
+                    .add(violation.getMessage());
         }
+        Map<String, String> joined = new HashMap<>();
+        messages.forEach((path, fieldMessages) -> joined.put(path, String.join(", ", fieldMessages)));
+        return joined;
+    }
 
-        String pattern = validationProperties.getEmail().getPattern();
-        if (!Pattern.matches(pattern, email)) {
-            log.warn("Email inválido: {} - No cumple con el patrón: {}", email, pattern);
-            return Mono.error(new InvalidEmailFormatException(
-                    validationProperties.getEmail().getMessage()));
+    /**
+     * Checks the configured email rules; the schema constraints have
+     * already passed, so the email is not null.
+     */
+    private String emailViolation(String email) {
+        ValidationEngine.CompiledRule rule = validationEngine.rules().email();
+        if (!rule.matches(email)) {
+            log.warn("Email inválido: {} - No cumple con el patrón: {}", email, rule.pattern());
+            return rule.message();
+        }
+
+        if (blockedEmailDomains.isBlocked(email.substring(email.lastIndexOf('@') + 1))) {
+            log.warn("Email rechazado: {} - El dominio está bloqueado", email);
+            return validationProperties.getBlockedDomains().getMessage();
         }
 
         log.debug("Email válido: {}", email);
-        return Mono.empty();
+        return null;
     }
 
     /**
-     * Validates the password format according to the configured pattern.
-     *
-     * @param password the password to validate
-     * @return Mono.empty() if valid, Mono.error() otherwise
+     * Checks the configured password rules; the schema constraints have
+     * already passed, so the password is not null.
      */
-    public Mono<Void> validatePassword(String password) {
-        if (password == null || password.trim().isEmpty()) {
+    private String passwordViolation(String password) {
+        if (password.isBlank()) {
             log.warn("Intento de validación con password vacío");
-            return Mono.error(new InvalidPasswordFormatException("La contraseña es obligatoria"));
+            return "La contraseña es obligatoria";
         }
 
-        String pattern = validationProperties.getPassword().getPattern();
-        if (!Pattern.matches(pattern, password)) {
+        ValidationEngine.CompiledRule rule = validationEngine.rules().password();
+        if (!rule.matches(password)) {
             log.warn("Password inválido - No cumple con el patrón configurable de seguridad");
-            return Mono.error(new InvalidPasswordFormatException(
-                    validationProperties.getPassword().getMessage()));
+            return rule.message();
         }
 
-        log.debug("Password válido según patrón configurable");
-        return Mono.empty();
-    }
+        if (breachedPasswordList.contains(password)) {
+            log.warn("Password rechazado - Aparece en la lista de contraseñas filtradas");
+            return validationProperties.getBreachedPasswords().getMessage();
+        }
 
-    /**
-     * Validates email and password in a single reactive operation.
-     * Composes validations using then() to execute them sequentially.
-     *
-     * @param email    the user's email
-     * @param password the user's password
-     * @return Mono.empty() if both validations pass, Mono.error() on the first
-     *         failure
-     */
-    public Mono<Void> validateEmailAndPassword(String email, String password) {
-        return validateEmail(email)
-                .then(validatePassword(password));
+        log.debug("Password válido según patrón configurable");
+        return null;
     }
-
-}
\ No newline at end of file
+}
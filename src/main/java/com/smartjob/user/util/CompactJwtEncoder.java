@@ -0,0 +1,254 @@
+package com.smartjob.user.util;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * HS256 encoder specialized for the registration token, whose claims are
+ * always {@code userId}, {@code email}, {@code sub}, {@code jti},
+ * {@code iat} and {@code exp}.
+ *
+ * It writes the header and payload JSON straight into a per-thread buffer,
+ * Base64URL-encodes in place and signs with a per-thread {@link Mac}, so a
+ * token costs one {@code String} instead of the claim maps, Jackson
+ * serialization and intermediate strings of the jjwt builder. The output
+ * is byte-for-byte the token jjwt builds for the same claims, in the same
+ * order.
+ *
+ * Values that would need JSON escaping (quotes, backslashes, control or
+ * non-ASCII characters) are not handled: {@link #encode} returns null and
+ * the caller falls back to jjwt.
+ */
+public final class CompactJwtEncoder {
+
+    private static final int HMAC_SHA256_LENGTH = 32;
+    private static final byte[] BASE64_URL =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] USER_ID = ascii("{\"userId\":\"");
+    private static final byte[] EMAIL = ascii("\",\"email\":\"");
+    private static final byte[] SUBJECT = ascii("\",\"sub\":\"");
+    private static final byte[] TOKEN_ID = ascii("\",\"jti\":\"");
+    private static final byte[] ISSUED_AT = ascii("\",\"iat\":");
+    private static final byte[] EXPIRATION = ascii(",\"exp\":");
+
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+    private volatile EncodedHeader header;
+
+    /**
+     * Encodes and signs a registration token.
+     *
+     * @param keyId            the {@code kid} header
+     * @param key              the HMAC key
+     * @param userId           the {@code userId} claim
+     * @param email            the {@code email} and {@code sub} claims
+     * @param tokenId          the {@code jti} claim
+     * @param issuedAtMillis   issue time, truncated to seconds as jjwt does
+     * @param expirationMillis expiration time, truncated to seconds
+     * @return the compact token, or null if a value needs JSON escaping
+     */
+    public String encode(String keyId, SecretKey key, UUID userId, String email, UUID tokenId,
+            long issuedAtMillis, long expirationMillis) {
+        byte[] headerSegment = headerSegment(keyId);
+        if (headerSegment == null || !isPlainAscii(email)) {
+            return null;
+        }
+
+        Buffers b = buffers.get();
+        int jsonLength = writePayload(b, userId, email, tokenId, issuedAtMillis / 1000, expirationMillis / 1000);
+
+        int signedLength = headerSegment.length + 1 + base64Length(jsonLength);
+        b.token = ensureCapacity(b.token, signedLength + 1 + base64Length(HMAC_SHA256_LENGTH));
+        byte[] token = b.token;
+        System.arraycopy(headerSegment, 0, token, 0, headerSegment.length);
+        token[headerSegment.length] = '.';
+        base64Url(b.json, jsonLength, token, headerSegment.length + 1);
+
+        try {
+            Mac mac = b.mac(key);
+            mac.update(token, 0, signedLength);
+            mac.doFinal(b.signature, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("No se pudo firmar el token JWT", e);
+        }
+        token[signedLength] = '.';
+        int length = base64Url(b.signature, HMAC_SHA256_LENGTH, token, signedLength + 1);
+
+        return new String(token, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns the encoded {@code {"kid":...,"alg":"HS256"}} segment, cached
+     * for the current kid.
+     */
+    private byte[] headerSegment(String keyId) {
+        EncodedHeader current = header;
+        if (current != null && current.keyId().equals(keyId)) {
+            return current.segment();
+        }
+        if (!isPlainAscii(keyId)) {
+            return null;
+        }
+        byte[] json = ascii("{\"kid\":\"" + keyId + "\",\"alg\":\"HS256\"}");
+        byte[] segment = new byte[base64Length(json.length)];
+        base64Url(json, json.length, segment, 0);
+        header = new EncodedHeader(keyId, segment);
+        return segment;
+    }
+
+    private static int writePayload(Buffers b, UUID userId, String email, UUID tokenId,
+            long issuedAt, long expiration) {
+        b.json = ensureCapacity(b.json, 128 + 2 * email.length());
+        byte[] json = b.json;
+        int pos = put(json, 0, USER_ID);
+        pos = putUuid(json, pos, userId);
+        pos = put(json, pos, EMAIL);
+        pos = putAscii(json, pos, email);
+        pos = put(json, pos, SUBJECT);
+        pos = putAscii(json, pos, email);
+        pos = put(json, pos, TOKEN_ID);
+        pos = putUuid(json, pos, tokenId);
+        pos = put(json, pos, ISSUED_AT);
+        pos = putLong(json, pos, issuedAt);
+        pos = put(json, pos, EXPIRATION);
+        pos = putLong(json, pos, expiration);
+        json[pos++] = '}';
+        return pos;
+    }
+
+    private static int put(byte[] dst, int pos, byte[] src) {
+        System.arraycopy(src, 0, dst, pos, src.length);
+        return pos + src.length;
+    }
+
+    private static int putAscii(byte[] dst, int pos, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            dst[pos++] = (byte) value.charAt(i);
+        }
+        return pos;
+    }
+
+    /**
+     * Writes the canonical 8-4-4-4-12 form, as {@link UUID#toString()}.
+     */
+    private static int putUuid(byte[] dst, int pos, UUID value) {
+        pos = putHex(dst, pos, value.getMostSignificantBits() >>> 32, 8);
+        dst[pos++] = '-';
+        pos = putHex(dst, pos, value.getMostSignificantBits() >>> 16, 4);
+        dst[pos++] = '-';
+        pos = putHex(dst, pos, value.getMostSignificantBits(), 4);
+        dst[pos++] = '-';
+        pos = putHex(dst, pos, value.getLeastSignificantBits() >>> 48, 4);
+        dst[pos++] = '-';
+        return putHex(dst, pos, value.getLeastSignificantBits(), 12);
+    }
+
+    private static int putHex(byte[] dst, int pos, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            dst[pos + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        return pos + digits;
+    }
+
+    private static int putLong(byte[] dst, int pos, long value) {
+        if (value < 0) {
+            dst[pos++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value / 10; v != 0; v /= 10) {
+            digits++;
+        }
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            dst[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + digits;
+    }
+
+    /**
+     * Base64URL without padding, as JWS compact serialization requires.
+     *
+     * @return the position after the last character written
+     */
+    private static int base64Url(byte[] src, int length, byte[] dst, int pos) {
+        int i = 0;
+        for (int end = length - length % 3; i < end; i += 3) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+            dst[pos++] = BASE64_URL[bits >>> 18];
+            dst[pos++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            dst[pos++] = BASE64_URL[(bits >>> 6) & 0x3F];
+            dst[pos++] = BASE64_URL[bits & 0x3F];
+        }
+        int remaining = length - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xFF) << 16;
+            dst[pos++] = BASE64_URL[bits >>> 18];
+            dst[pos++] = BASE64_URL[(bits >>> 12) & 0x3F];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+            dst[pos++] = BASE64_URL[bits >>> 18];
+            dst[pos++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            dst[pos++] = BASE64_URL[(bits >>> 6) & 0x3F];
+        }
+        return pos;
+    }
+
+    private static int base64Length(int length) {
+        return (length * 4 + 2) / 3;
+    }
+
+    /**
+     * Tells whether the value is written by Jackson as-is: printable ASCII
+     * other than {@code "} and {@code \}.
+     */
+    private static boolean isPlainAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c > 0x7E || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] ensureCapacity(byte[] buffer, int capacity) {
+        return buffer.length >= capacity ? buffer : Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private record EncodedHeader(String keyId, byte[] segment) {
+    }
+
+    /**
+     * Per-thread scratch buffers and HMAC instance, re-keyed only when the
+     * signing key changes.
+     */
+    private static final class Buffers {
+        private byte[] json = new byte[256];
+        private byte[] token = new byte[512];
+        private final byte[] signature = new byte[HMAC_SHA256_LENGTH];
+        private Mac mac;
+        private SecretKey macKey;
+
+        private Mac mac(SecretKey key) throws GeneralSecurityException {
+            if (mac == null) {
+                mac = Mac.getInstance("HmacSHA256");
+            }
+            if (macKey != key) {
+                mac.init(key);
+                macKey = key;
+            }
+            return mac;
+        }
+    }
+}
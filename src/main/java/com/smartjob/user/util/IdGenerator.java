@@ -0,0 +1,19 @@
+package com.smartjob.user.util;
+
+import java.util.UUID;
+
+/**
+ * Source of identifiers for users and phones.
+ *
+ * The implementation is chosen with {@code users.id-generator}; see
+ * {@link com.smartjob.user.config.IdGeneratorConfig}.
+ */
+public interface IdGenerator {
+
+    /**
+     * Generates a new unique identifier.
+     *
+     * @return the identifier
+     */
+    UUID generate();
+}
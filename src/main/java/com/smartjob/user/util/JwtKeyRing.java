@@ -0,0 +1,411 @@
+package com.smartjob.user.util;
+
+import com.smartjob.user.config.JwtConfigValidator;
+import com.smartjob.user.config.JwtProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JweHeader;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.PrivateJwk;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Ring of keys used to sign and verify tokens, selected by the {@code kid}
+ * header. Depending on {@code jwt.algorithm} the keys are HMAC secrets
+ * (HS256) or asymmetric key pairs (ES256 on P-256, EdDSA on Ed25519 or
+ * Ed448); every key of a ring uses the same algorithm.
+ *
+ * New tokens are signed with the {@code jwt.signing-key-id} key: the
+ * secret itself for HS256, the private key of the pair otherwise. Any key
+ * of the ring verifies, with the same secret for HS256 or with the public
+ * key of the pair, so the private keys never leave the signing path.
+ * Tokens without {@code kid}, issued before the ring existed, are verified
+ * with the {@value JwtProperties#DEFAULT_KEY_ID} key.
+ *
+ * The ring is an immutable snapshot held by a {@link ReloadableFile}. When
+ * {@code jwt.keys-file} is set, the file is polled every
+ * {@code jwt.keys-reload-interval} and, if it changed and the resulting
+ * ring is valid, the new snapshot replaces the current one. Rotation is
+ * done without a restart and without invalidating outstanding tokens:
+ * <ol>
+ * <li>add the new key to the file and wait for every instance to load it;</li>
+ * <li>switch {@code signing-key-id} to the new key;</li>
+ * <li>remove the old key once the tokens it signed have expired.</li>
+ * </ol>
+ *
+ * File format ({@link Properties}):
+ * <pre>
+ * signing-key-id=2025-02
+ * keys.2025-01=...
+ * keys.2025-02=...
+ * </pre>
+ *
+ * With {@code jwt.algorithm} ES256 or EdDSA each key is a private JWK
+ * (JSON, on one line). Tokens are signed with the private key and verified
+ * with the public one, and the public keys of the ring are published as a
+ * JWK set so other services can verify tokens without calling this one.
+ * If no key is configured, an ephemeral key pair is generated at startup;
+ * it is only suitable for a single instance in development.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private static final String SIGNING_KEY_ID_PROPERTY = "signing-key-id";
+    private static final String KEY_PROPERTY_PREFIX = "keys.";
+    private static final ObjectMapper JSON = new ObjectMapper();
+    /** Length of the X.509 prefix before the raw Ed25519/Ed448 public key. */
+    private static final int EDEC_X509_PREFIX_LENGTH = 12;
+    /** Domain parameters of P-256 (secp256r1), the only curve ES256 allows. */
+    private static final ECParameterSpec P256 = p256Parameters();
+
+    private final JwtProperties jwtProperties;
+    private final JwtConfigValidator jwtConfigValidator;
+    private final ReloadableFile<Snapshot> ring;
+    private KeyPair ephemeralKeyPair;
+
+    public JwtKeyRing(JwtProperties jwtProperties, JwtConfigValidator jwtConfigValidator) {
+        this.jwtProperties = jwtProperties;
+        this.jwtConfigValidator = jwtConfigValidator;
+        this.ring = new ReloadableFile<>("el archivo de claves JWT", jwtProperties.getKeysFile(),
+                jwtProperties.getKeysReloadInterval(), this::load);
+    }
+
+    /**
+     * Key and kid to sign new tokens with, read from the same snapshot.
+     *
+     * @param keyId the {@code kid} header to write
+     * @param key   the key to sign with: a {@link SecretKey} for HS256, a
+     *              {@link PrivateKey} otherwise
+     */
+    public record SigningKey(String keyId, Key key) {
+
+        /**
+         * Signs the token being built with this key. HMAC keys are pinned
+         * to HS256 whatever their length; private keys sign with the
+         * algorithm of their curve (ES256 for P-256, EdDSA for Edwards).
+         *
+         * @param builder the token builder
+         * @return the same builder
+         */
+        public JwtBuilder signWith(JwtBuilder builder) {
+            return key instanceof SecretKey secretKey
+                    ? builder.signWith(secretKey, Jwts.SIG.HS256)
+                    : builder.signWith(key);
+        }
+    }
+
+    /**
+     * Public keys of the ring serialized as a JWK set, with the ETag of
+     * that exact body. Computed once per ring snapshot.
+     *
+     * @param json the JWK set document
+     * @param etag quoted strong entity tag of {@code json}
+     */
+    public record PublishedKeys(String json, String etag) {
+    }
+
+    private record Snapshot(SigningKey signingKey, Map<String, Key> keys, PublishedKeys publishedKeys) {
+    }
+
+    /**
+     * Returns the current signing key.
+     *
+     * @return the kid and key to sign new tokens with
+     */
+    public SigningKey signingKey() {
+        return ring.get().signingKey();
+    }
+
+    /**
+     * Tells whether the key is still part of the ring.
+     *
+     * @param keyId the kid to check
+     * @return true if tokens signed with this key are still accepted
+     */
+    public boolean isActive(String keyId) {
+        return ring.get().keys().containsKey(keyId);
+    }
+
+    /**
+     * Returns the public keys of the ring as a JWK set. Empty with HS256,
+     * since shared secrets are never published.
+     *
+     * @return the JWK set document and its ETag
+     */
+    public PublishedKeys publishedKeys() {
+        return ring.get().publishedKeys();
+    }
+
+    /**
+     * Key locator for the JWT parser: resolves the verification key from
+     * the {@code kid} header against the current snapshot.
+     *
+     * @return a thread-safe locator
+     */
+    public Locator<Key> verificationKeyLocator() {
+        return new LocatorAdapter<>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                String keyId = resolveKeyId(header.getKeyId());
+                Key key = ring.get().keys().get(keyId);
+                if (key == null) {
+                    throw new JwtException("Clave de firma desconocida: " + keyId);
+                }
+                return key;
+            }
+
+            @Override
+            protected Key locate(JweHeader header) {
+                throw new JwtException("Los tokens cifrados (JWE) no están soportados");
+            }
+        };
+    }
+
+    /**
+     * Maps a missing {@code kid} header to the key legacy tokens were
+     * signed with.
+     *
+     * @param keyId the {@code kid} header, possibly null
+     * @return the kid to look up
+     */
+    public static String resolveKeyId(String keyId) {
+        return keyId != null ? keyId : JwtProperties.DEFAULT_KEY_ID;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWatching() {
+        ring.startWatching();
+    }
+
+    @PreDestroy
+    public void stopWatching() {
+        ring.stopWatching();
+    }
+
+    /**
+     * Reloads the ring if the keys file changed since it was last read.
+     * An invalid or unreadable file is logged and the current ring is kept.
+     */
+    void reloadIfChanged() {
+        if (ring.reloadIfChanged()) {
+            Snapshot reloaded = ring.get();
+            log.info("✓ Anillo de claves JWT recargado: {} clave(s), firma con '{}'",
+                    reloaded.keys().size(), reloaded.signingKey().keyId());
+        }
+    }
+
+    private Snapshot load(Path keysFile) throws IOException {
+        JwtProperties.Algorithm algorithm = jwtProperties.getAlgorithm();
+        String signingKeyId = jwtProperties.getSigningKeyId();
+        Map<String, String> secrets = jwtProperties.configuredSecrets();
+
+        if (keysFile != null) {
+            Properties fileKeys = new Properties();
+            try (Reader reader = Files.newBufferedReader(keysFile, StandardCharsets.UTF_8)) {
+                fileKeys.load(reader);
+            }
+            for (String name : fileKeys.stringPropertyNames()) {
+                if (name.equals(SIGNING_KEY_ID_PROPERTY)) {
+                    signingKeyId = fileKeys.getProperty(name).trim();
+                } else if (name.startsWith(KEY_PROPERTY_PREFIX)) {
+                    secrets.put(name.substring(KEY_PROPERTY_PREFIX.length()), fileKeys.getProperty(name).trim());
+                }
+            }
+        }
+
+        if (!algorithm.isAsymmetric()) {
+            jwtConfigValidator.validateKeyRing(signingKeyId, secrets);
+            Map<String, Key> keys = new LinkedHashMap<>();
+            secrets.forEach((keyId, secret) ->
+                    keys.put(keyId, Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8))));
+            return new Snapshot(new SigningKey(signingKeyId, keys.get(signingKeyId)),
+                    Collections.unmodifiableMap(keys), publish(List.of()));
+        }
+
+        if (secrets.isEmpty()) {
+            return ephemeralSnapshot(algorithm);
+        }
+
+        jwtConfigValidator.validateKeyRing(signingKeyId, secrets);
+        Map<String, Key> keys = new LinkedHashMap<>();
+        List<Map<String, String>> publicJwks = new ArrayList<>();
+        PrivateKey signingPrivateKey = null;
+        for (Map.Entry<String, String> entry : secrets.entrySet()) {
+            String keyId = entry.getKey();
+            PrivateJwk<?, ?, ?> privateJwk = parsePrivateJwk(keyId, entry.getValue());
+            PublicKey publicKey = privateJwk.toPublicJwk().toKey();
+            keys.put(keyId, publicKey);
+            publicJwks.add(publicJwk(keyId, publicKey, algorithm));
+            if (keyId.equals(signingKeyId)) {
+                signingPrivateKey = privateJwk.toKey();
+            }
+        }
+        return new Snapshot(new SigningKey(signingKeyId, signingPrivateKey),
+                Collections.unmodifiableMap(keys), publish(publicJwks));
+    }
+
+    /**
+     * Builds a single-key ring from a key pair generated on first use and
+     * kept for the life of the process, named by its RFC 7638 thumbprint.
+     */
+    private Snapshot ephemeralSnapshot(JwtProperties.Algorithm algorithm) {
+        if (ephemeralKeyPair == null) {
+            ephemeralKeyPair = algorithm == JwtProperties.Algorithm.ES256
+                    ? Jwts.SIG.ES256.keyPair().build()
+                    : Jwts.SIG.EdDSA.keyPair().build();
+            log.warn("No hay claves JWT configuradas para {}: se generó un par de claves efímero. "
+                    + "Configure 'jwt.keys' o 'jwt.keys-file' en producción", algorithm);
+        }
+        PublicKey publicKey = ephemeralKeyPair.getPublic();
+        String keyId = thumbprint(publicJwk(null, publicKey, algorithm));
+        return new Snapshot(new SigningKey(keyId, ephemeralKeyPair.getPrivate()),
+                Map.of(keyId, publicKey), publish(List.of(publicJwk(keyId, publicKey, algorithm))));
+    }
+
+    private static PrivateJwk<?, ?, ?> parsePrivateJwk(String keyId, String json) {
+        Jwk<?> jwk;
+        try {
+            jwk = Jwks.parser().build().parse(json);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("La clave JWT '" + keyId + "' no es un JWK válido: " + e.getMessage(), e);
+        }
+        if (!(jwk instanceof PrivateJwk<?, ?, ?> privateJwk)) {
+            throw new IllegalStateException("La clave JWT '" + keyId + "' debe ser un JWK privado");
+        }
+        return privateJwk;
+    }
+
+    /**
+     * Encodes a public key as a JWK (RFC 7518 for EC, RFC 8037 for OKP),
+     * checking that it matches the configured algorithm.
+     *
+     * @param keyId the kid to publish, or null to leave it out
+     */
+    private static Map<String, String> publicJwk(String keyId, PublicKey publicKey, JwtProperties.Algorithm algorithm) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        if (algorithm == JwtProperties.Algorithm.ES256
+                && publicKey instanceof ECPublicKey ec
+                && isP256(ec.getParams())) {
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(unsigned(ec.getW().getAffineX().toByteArray(), 32)));
+            jwk.put("y", base64Url(unsigned(ec.getW().getAffineY().toByteArray(), 32)));
+        } else if (algorithm == JwtProperties.Algorithm.EDDSA && publicKey instanceof EdECPublicKey ed) {
+            byte[] encoded = ed.getEncoded();
+            jwk.put("kty", "OKP");
+            jwk.put("crv", ed.getParams().getName());
+            jwk.put("x", base64Url(Arrays.copyOfRange(encoded, EDEC_X509_PREFIX_LENGTH, encoded.length)));
+        } else {
+            throw new IllegalStateException("La clave JWT '" + keyId + "' no corresponde al algoritmo " + algorithm
+                    + " (ES256 requiere una clave EC P-256, EdDSA una clave Ed25519 o Ed448)");
+        }
+        if (keyId != null) {
+            jwk.put("kid", keyId);
+            jwk.put("use", "sig");
+            jwk.put("alg", algorithm == JwtProperties.Algorithm.ES256 ? "ES256" : "EdDSA");
+        }
+        return jwk;
+    }
+
+    /**
+     * Tells whether EC domain parameters are those of P-256. The field size
+     * alone is not enough: other 256-bit curves, such as secp256k1 or
+     * brainpoolP256r1, would be published as P-256 and fail to verify.
+     */
+    static boolean isP256(ECParameterSpec params) {
+        return params.getCurve().equals(P256.getCurve())
+                && params.getGenerator().equals(P256.getGenerator())
+                && params.getOrder().equals(P256.getOrder())
+                && params.getCofactor() == P256.getCofactor();
+    }
+
+    private static ECParameterSpec p256Parameters() {
+        try {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            parameters.init(new ECGenParameterSpec("secp256r1"));
+            return parameters.getParameterSpec(ECParameterSpec.class);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("La JVM no soporta la curva P-256", e);
+        }
+    }
+
+    private static PublishedKeys publish(List<Map<String, String>> publicJwks) {
+        try {
+            byte[] json = JSON.writeValueAsBytes(Map.of("keys", publicJwks));
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return new PublishedKeys(new String(json, StandardCharsets.UTF_8),
+                    '"' + base64Url(Arrays.copyOf(digest, 16)) + '"');
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("No se pudo serializar el JWK set", e);
+        }
+    }
+
+    /**
+     * RFC 7638 thumbprint: SHA-256 of the required members in
+     * lexicographic order, without whitespace.
+     */
+    private static String thumbprint(Map<String, String> jwk) {
+        try {
+            byte[] canonical = JSON.writeValueAsBytes(new TreeMap<>(jwk));
+            return base64Url(MessageDigest.getInstance("SHA-256").digest(canonical));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("No se pudo calcular el thumbprint de la clave JWT", e);
+        }
+    }
+
+    /**
+     * Left-pads or strips the sign byte of a big-endian integer to a fixed
+     * length, as JWK coordinates require.
+     */
+    private static byte[] unsigned(byte[] value, int length) {
+        byte[] result = new byte[length];
+        int copied = Math.min(value.length, length);
+        System.arraycopy(value, value.length - copied, result, length - copied, copied);
+        return result;
+    }
+
+    private static String base64Url(byte[] value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+}
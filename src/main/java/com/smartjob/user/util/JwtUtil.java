@@ -2,14 +2,17 @@ package com.smartjob.user.util;
 
 import com.smartjob.user.config.JwtProperties;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,52 +20,147 @@ import java.util.UUID;
 
 /**
  * Clase para generar y validar tokens JWT.
+ *
+ * Keys come from {@link JwtKeyRing}: tokens are signed with the current
+ * signing key (HS256, ES256 or EdDSA, per {@code jwt.algorithm}) and carry
+ * its {@code kid} header; verification picks the key
+ * by {@code kid}. The parser is built once, with a key locator that reads
+ * the current ring, so it stays valid across key reloads.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtUtil {
 
     private final JwtProperties jwtProperties;
+    private final JwtKeyRing keyRing;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final CompactJwtEncoder compactEncoder = new CompactJwtEncoder();
+    private final UuidV7Generator tokenIds = new UuidV7Generator();
+
+    public JwtUtil(JwtProperties jwtProperties, JwtKeyRing keyRing, VerifiedTokenCache verifiedTokenCache,
+            TokenRevocationList tokenRevocationList) {
+        this.jwtProperties = jwtProperties;
+        this.keyRing = keyRing;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationList = tokenRevocationList;
+        this.parser = Jwts.parser()
+                .keyLocator(keyRing.verificationKeyLocator())
+                .build();
+    }
 
     /**
      * Generates a JWT token for a user.
      *
+     * HS256 tokens go through {@link CompactJwtEncoder} when
+     * {@code jwt.compact-encoder} is enabled; the jjwt builder remains for
+     * the asymmetric algorithms and for values that need JSON escaping.
+     * Every token carries a unique {@code jti} so it can be revoked on its
+     * own; it is a UUIDv7, whose timestamp is the issue time.
+     *
      * @param userId the user's UUID
      * @param email  the user's email
      * @return the generated JWT token
      */
     public String generateToken(UUID userId, String email) {
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+        UUID tokenId = tokenIds.generate();
+        long now = issuedAtMillis(tokenId);
+        if (jwtProperties.isCompactEncoder() && signingKey.key() instanceof SecretKey secretKey) {
+            String token = compactEncoder.encode(signingKey.keyId(), secretKey, userId, email, tokenId,
+                    now, now + jwtProperties.getExpiration());
+            if (token != null) {
+                log.debug("Generando token JWT para: {}", email);
+                return token;
+            }
+        }
+
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId.toString());
         claims.put("email", email);
 
-        return createToken(claims, email);
+        return createToken(claims, email, tokenId, signingKey, now);
+    }
+
+    /**
+     * Reads the issue time back from a version 7 {@code jti}: its first 48
+     * bits are the milliseconds the token is issued at. {@code iat} only
+     * has seconds, and user revocations need the exact issue time
+     * ({@link VerifiedClaims#issuedAtMillis()}).
+     */
+    static long issuedAtMillis(UUID tokenId) {
+        return tokenId.getMostSignificantBits() >>> 16;
     }
 
     /**
      * Creates a JWT token using the specified claims.
      *
      * @param claims  the set of claims to include in the token
-     * @param subject the subject associated with the token
+     * @param subject    the subject associated with the token
+     * @param tokenId    the {@code jti} claim
+     * @param signingKey the key to sign with
+     * @param nowMillis  the issue time
      * @return the generated JWT token
      */
-    private String createToken(Map<String, Object> claims, String subject) {
-        Date now = new Date();
-        Date expirationDate = new Date(now.getTime() + jwtProperties.getExpiration());
+    private String createToken(Map<String, Object> claims, String subject, UUID tokenId,
+            JwtKeyRing.SigningKey signingKey, long nowMillis) {
+        Date now = new Date(nowMillis);
+        Date expirationDate = new Date(nowMillis + jwtProperties.getExpiration());
 
         log.debug("Generando token JWT para: {}", subject);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .header().keyId(signingKey.keyId()).and()
                 .claims(claims)
                 .subject(subject)
+                .id(tokenId.toString())
                 .issuedAt(now)
-                .expiration(expirationDate)
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
-                .compact();
+                .expiration(expirationDate);
+        return signingKey.signWith(builder).compact();
 
     }
 
+    /**
+     * Parses a JWT token and verifies its signature once, returning every
+     * claim the application uses. Callers that need several claims should
+     * call this once instead of the {@code extract*} methods.
+     *
+     * When {@code jwt.cache.enabled} is set, tokens already verified are
+     * answered from {@link VerifiedTokenCache}, as long as the key that
+     * signed them is still in the ring. Revocations are checked on every
+     * call, cached or not, against {@link TokenRevocationList}.
+     *
+     * @param token the JWT token
+     * @return the verified claims
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, its
+     *         signature is invalid, it has expired or it has been revoked
+     */
+    public VerifiedClaims verify(String token) {
+        VerifiedClaims claims = verifiedTokenCache.get(token, this::parse);
+        if (!keyRing.isActive(claims.keyId())) {
+            throw new JwtException("La clave de firma del token fue retirada: " + claims.keyId());
+        }
+        if (tokenRevocationList.isRevoked(claims)) {
+            throw new JwtException("El token fue revocado");
+        }
+        return claims;
+    }
+
+    private VerifiedClaims parse(String token) {
+        Jws<Claims> jws = parser.parseSignedClaims(token);
+        Claims claims = jws.getPayload();
+        String userId = claims.get("userId", String.class);
+        return new VerifiedClaims(
+                claims.getSubject(),
+                userId != null ? UUID.fromString(userId) : null,
+                claims.get("email", String.class),
+                claims.getId() != null ? UUID.fromString(claims.getId()) : null,
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : Instant.EPOCH,
+                claims.getExpiration().toInstant(),
+                JwtKeyRing.resolveKeyId(jws.getHeader().getKeyId()));
+    }
+
     /**
      * Extracts the subject (email) from a JWT token.
      *
@@ -70,7 +168,7 @@ public class JwtUtil {
      * @return the email extracted from the token
      */
     public String extractEmail(String token) {
-        return extractAllClaims(token).getSubject();
+        return verify(token).subject();
     }
 
     /**
@@ -80,8 +178,7 @@ public class JwtUtil {
      * @return the user's UUID
      */
     public UUID extractUserId(String token) {
-        String userIdStr = (String) extractAllClaims(token).get("userId");
-        return UUID.fromString(userIdStr);
+        return verify(token).userId();
     }
 
     /**
@@ -91,21 +188,7 @@ public class JwtUtil {
      * @return the expiration date
      */
     public Date extractExpiration(String token) {
-        return extractAllClaims(token).getExpiration();
-    }
-
-    /**
-     * Extracts all claims from a JWT token.
-     *
-     * @param token the JWT token
-     * @return the claims contained in the token
-     */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return Date.from(verify(token).expiration());
     }
 
     /**
@@ -116,7 +199,7 @@ public class JwtUtil {
      */
     public boolean isTokenExpired(String token) {
         try {
-            return extractExpiration(token).before(new Date());
+            return verify(token).isExpiredAt(Instant.now());
         } catch (Exception e) {
             log.warn("Error al verificar expiración del token: {}", e.getMessage());
             return true;
@@ -124,7 +207,7 @@ public class JwtUtil {
     }
 
     /**
-     * Validates a JWT token.
+     * Validates a JWT token with a single parse.
      *
      * @param token the JWT token
      * @param email the user's email to validate against
@@ -132,22 +215,11 @@ public class JwtUtil {
      */
     public boolean validateToken(String token, String email) {
         try {
-            final String tokenEmail = extractEmail(token);
-            return (tokenEmail.equals(email) && !isTokenExpired(token));
+            VerifiedClaims claims = verify(token);
+            return claims.subject().equals(email) && !claims.isExpiredAt(Instant.now());
         } catch (Exception e) {
             log.error("Error al validar token: {}", e.getMessage());
             return false;
         }
     }
-
-    /**
-     * Retrieves the signing key for JWT tokens.
-     * Converts the secret string into a SecretKey.
-     *
-     * @return the signing key
-     */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.smartjob.user.util;
+
+import java.util.UUID;
+
+/**
+ * Random (version 4) UUID generator. Kept for comparison with
+ * {@link UuidV7Generator}; random ids spread inserts across the whole
+ * primary-key index.
+ */
+public final class RandomIdGenerator implements IdGenerator {
+
+    @Override
+    public UUID generate() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,131 @@
+package com.smartjob.user.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+
+/**
+ * A value built from an optional file and rebuilt when the file changes.
+ *
+ * The value is an immutable snapshot read with a single volatile load.
+ * Once {@link #startWatching()} is called, the file's modification time is
+ * polled every {@code reloadInterval} and, when it changed, the loader
+ * builds a new snapshot that replaces the current one atomically. A
+ * reload that fails (unreadable file, invalid content) is logged and the
+ * current snapshot is kept until the file changes again.
+ *
+ * Without a file the loader is called once with {@code null}, so it can
+ * build the value from configuration alone, and nothing is watched.
+ *
+ * @param <T> the type of the snapshot
+ */
+@Slf4j
+public final class ReloadableFile<T> {
+
+    private final String description;
+    private final Path file;
+    private final Duration reloadInterval;
+    private final Loader<T> loader;
+    private volatile T value;
+    private volatile FileTime modified;
+    private Disposable watcher;
+
+    /**
+     * Builds the snapshot from the file. The file is null when none is
+     * configured.
+     *
+     * @param <T> the type of the snapshot
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load(Path file) throws IOException;
+    }
+
+    /**
+     * Loads the initial snapshot.
+     *
+     * @param description    what the file holds, for log and error messages
+     *                       (e.g. "el archivo de claves JWT")
+     * @param location       the file path, or null/blank when there is none
+     * @param reloadInterval how often the file is checked for changes
+     * @param loader         builds a snapshot from the file
+     * @throws IllegalStateException if the file cannot be read
+     */
+    public ReloadableFile(String description, String location, Duration reloadInterval, Loader<T> loader) {
+        this.description = description;
+        this.file = StringUtils.hasText(location) ? Path.of(location) : null;
+        this.reloadInterval = reloadInterval;
+        this.loader = loader;
+        try {
+            this.value = load();
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo leer " + description + " " + file, e);
+        }
+    }
+
+    /**
+     * @return the current snapshot
+     */
+    public T get() {
+        return value;
+    }
+
+    /**
+     * Starts polling the file for changes; does nothing without a file.
+     */
+    public void startWatching() {
+        if (file == null) {
+            return;
+        }
+        log.info("Vigilando cambios en {} {} cada {}", description, file, reloadInterval);
+        watcher = Flux.interval(reloadInterval, Schedulers.boundedElastic())
+                .subscribe(tick -> reloadIfChanged());
+    }
+
+    public void stopWatching() {
+        if (watcher != null) {
+            watcher.dispose();
+        }
+    }
+
+    /**
+     * Rebuilds the snapshot if the file changed since it was last read.
+     *
+     * @return true if a new snapshot replaced the current one
+     */
+    public boolean reloadIfChanged() {
+        if (file == null) {
+            return false;
+        }
+        try {
+            if (Files.getLastModifiedTime(file).equals(modified)) {
+                return false;
+            }
+            value = load();
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("No se pudo recargar {} {}, se mantiene la versión actual: {}",
+                    description, file, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Records the modification time before reading, so a change made while
+     * the file is being read is picked up by the next check.
+     */
+    private T load() throws IOException {
+        if (file != null) {
+            modified = Files.getLastModifiedTime(file);
+        }
+        return loader.load(file);
+    }
+}
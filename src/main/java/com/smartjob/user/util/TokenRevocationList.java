@@ -0,0 +1,253 @@
+package com.smartjob.user.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongPredicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * In-memory view of the revoked tokens, consulted on every verification.
+ *
+ * Two kinds of revocation are kept:
+ * <ul>
+ * <li>single tokens, by {@code jti}, until the token expires;</li>
+ * <li>every token of a user issued up to a "not before" instant, kept
+ * until the longest-lived of those tokens has expired.</li>
+ * </ul>
+ *
+ * Each kind is an open-addressing table of {@code (msb, lsb, time)}
+ * triples in a single {@code long[]}: epoch seconds of the expiration for
+ * tokens, epoch milliseconds of the "not before" instant for users: no UUID, boxed value or entry
+ * object per revocation, and a lookup costs one hash and a few array
+ * reads. Tables are immutable and replaced on write, so reads take no
+ * lock; revocations are rare compared with verifications.
+ *
+ * Persistence and sharing between instances are handled by
+ * {@link com.smartjob.user.service.domain.TokenRevocationService}.
+ */
+@Component
+public class TokenRevocationList {
+
+    private volatile UuidTable tokens = UuidTable.EMPTY;
+    private volatile UuidTable users = UuidTable.EMPTY;
+
+    public TokenRevocationList(MeterRegistry meterRegistry) {
+        Gauge.builder("jwt.revocations", this, list -> list.tokens.size())
+                .tag("type", "token")
+                .description("Revoked tokens held in memory")
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocations", this, list -> list.users.size())
+                .tag("type", "user")
+                .description("Users whose earlier tokens are revoked")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tells whether a verified token has been revoked.
+     *
+     * @param claims the claims of a token whose signature is valid
+     * @return true if its {@code jti} is revoked or it was issued before
+     *         its user's "not before" instant
+     */
+    public boolean isRevoked(VerifiedClaims claims) {
+        UUID tokenId = claims.tokenId();
+        if (tokenId != null && tokens.get(tokenId) != UuidTable.ABSENT) {
+            return true;
+        }
+        UUID userId = claims.userId();
+        if (userId == null) {
+            return false;
+        }
+        long notBefore = users.get(userId);
+        // milliseconds: a token issued right after the revocation, in the same second, stays valid
+        return notBefore != UuidTable.ABSENT && claims.issuedAtMillis() <= notBefore;
+    }
+
+    /**
+     * Revokes a single token.
+     *
+     * @param tokenId   the {@code jti} of the token
+     * @param expiresAt when the token expires; the entry is pruned after it
+     */
+    public void revokeToken(UUID tokenId, Instant expiresAt) {
+        revokeTokens(Map.of(tokenId, expiresAt));
+    }
+
+    /**
+     * Revokes several tokens with a single copy of the table.
+     *
+     * @param expirations the expiration of each revoked token, by {@code jti}
+     */
+    public synchronized void revokeTokens(Map<UUID, Instant> expirations) {
+        tokens = tokens.withAll(expirations, Instant::getEpochSecond);
+    }
+
+    /**
+     * Revokes every token of a user issued up to the given instant. A later
+     * instant replaces an earlier one, never the other way round.
+     *
+     * @param userId    the user
+     * @param notBefore tokens issued at or before this instant are revoked
+     */
+    public void revokeUser(UUID userId, Instant notBefore) {
+        revokeUsers(Map.of(userId, notBefore));
+    }
+
+    /**
+     * Revokes the earlier tokens of several users with a single copy of the
+     * table.
+     *
+     * @param notBefores the "not before" instant of each user
+     */
+    public synchronized void revokeUsers(Map<UUID, Instant> notBefores) {
+        users = users.withAll(notBefores, Instant::toEpochMilli);
+    }
+
+    /**
+     * Drops the entries that can no longer match a valid token.
+     *
+     * @param now           the current instant
+     * @param tokenLifetime the lifetime of the tokens issued ({@code jwt.expiration})
+     * @return the number of entries removed
+     */
+    public synchronized int prune(Instant now, Duration tokenLifetime) {
+        long nowSeconds = now.getEpochSecond();
+        long issuedBefore = now.minus(tokenLifetime).toEpochMilli();
+        int before = tokens.size() + users.size();
+        tokens = tokens.retain(expiresAt -> expiresAt > nowSeconds);
+        users = users.retain(notBefore -> notBefore >= issuedBefore);
+        return before - tokens.size() - users.size();
+    }
+
+    /**
+     * Immutable open-addressing map from UUID to an epoch time, stored as
+     * {@code (msb, lsb, value)} triples. The nil UUID marks an empty slot.
+     */
+    private static final class UuidTable {
+
+        static final long ABSENT = Long.MIN_VALUE;
+        static final UuidTable EMPTY = new UuidTable(new long[3 * 8], 0);
+
+        private final long[] slots;
+        private final int mask;
+        private final int size;
+
+        private UuidTable(long[] slots, int size) {
+            this.slots = slots;
+            this.mask = slots.length / 3 - 1;
+            this.size = size;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long get(UUID key) {
+            long msb = key.getMostSignificantBits();
+            long lsb = key.getLeastSignificantBits();
+            for (int i = index(msb, lsb); ; i = (i + 1) & mask) {
+                int slot = i * 3;
+                long slotMsb = slots[slot];
+                long slotLsb = slots[slot + 1];
+                if (slotMsb == msb && slotLsb == lsb) {
+                    return slots[slot + 2];
+                }
+                if (slotMsb == 0 && slotLsb == 0) {
+                    return ABSENT;
+                }
+            }
+        }
+
+        /**
+         * Returns a copy with the given entries added, each instant stored
+         * in the table's unit. For keys already present the later instant
+         * wins.
+         */
+        UuidTable withAll(Map<UUID, Instant> entries, ToLongFunction<Instant> unit) {
+            int added = 0;
+            boolean changed = false;
+            for (Map.Entry<UUID, Instant> entry : entries.entrySet()) {
+                UUID key = entry.getKey();
+                if (key.getMostSignificantBits() == 0 && key.getLeastSignificantBits() == 0) {
+                    throw new IllegalArgumentException("El UUID nulo no puede revocarse");
+                }
+                long current = get(key);
+                if (current == ABSENT) {
+                    added++;
+                }
+                changed |= current < unit.applyAsLong(entry.getValue());
+            }
+            if (!changed) {
+                // The periodic refresh mostly re-reads known entries: keep the table
+                return this;
+            }
+            UuidTable table = new UuidTable(new long[3 * capacityFor(size + added)], size + added);
+            for (int slot = 0; slot < slots.length; slot += 3) {
+                if (slots[slot] != 0 || slots[slot + 1] != 0) {
+                    table.put(slots[slot], slots[slot + 1], slots[slot + 2]);
+                }
+            }
+            entries.forEach((key, instant) -> table.put(
+                    key.getMostSignificantBits(), key.getLeastSignificantBits(), unit.applyAsLong(instant)));
+            return table;
+        }
+
+        UuidTable retain(LongPredicate keep) {
+            int kept = 0;
+            for (int slot = 0; slot < slots.length; slot += 3) {
+                if ((slots[slot] != 0 || slots[slot + 1] != 0) && keep.test(slots[slot + 2])) {
+                    kept++;
+                }
+            }
+            if (kept == size) {
+                return this;
+            }
+            UuidTable table = new UuidTable(new long[3 * capacityFor(kept)], kept);
+            for (int slot = 0; slot < slots.length; slot += 3) {
+                if ((slots[slot] != 0 || slots[slot + 1] != 0) && keep.test(slots[slot + 2])) {
+                    table.put(slots[slot], slots[slot + 1], slots[slot + 2]);
+                }
+            }
+            return table;
+        }
+
+        /**
+         * Writes into this table while it is being built, before it is
+         * published.
+         */
+        private void put(long msb, long lsb, long value) {
+            for (int i = index(msb, lsb); ; i = (i + 1) & mask) {
+                int slot = i * 3;
+                if (slots[slot] == msb && slots[slot + 1] == lsb) {
+                    slots[slot + 2] = Math.max(slots[slot + 2], value);
+                    return;
+                }
+                if (slots[slot] == 0 && slots[slot + 1] == 0) {
+                    slots[slot] = msb;
+                    slots[slot + 1] = lsb;
+                    slots[slot + 2] = value;
+                    return;
+                }
+            }
+        }
+
+        private int index(long msb, long lsb) {
+            long h = (msb ^ (lsb * 0x9E3779B97F4A7C15L)) * 0xBF58476D1CE4E5B9L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+
+        /**
+         * Power of two with a load factor of at most one half, so probe
+         * sequences stay short.
+         */
+        private static int capacityFor(int entries) {
+            return Math.max(8, Integer.highestOneBit(Math.max(1, entries) * 2 - 1) << 1);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.smartjob.user.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered UUIDv7 generator (RFC 9562).
+ *
+ * Layout: 48-bit Unix timestamp in milliseconds, version 7, a 12-bit
+ * counter ({@code rand_a}, method 1 of the RFC), the variant bits and 62
+ * random bits. Consecutive ids land next to each other in the primary-key
+ * B-tree instead of at a random leaf.
+ *
+ * The timestamp and counter are packed into a single {@link AtomicLong}
+ * and advanced with compare-and-set, so ids are strictly increasing across
+ * threads without locking. When more than 4096 ids are requested within a
+ * millisecond, or the clock moves backwards, the counter overflows into the
+ * timestamp, which keeps ids monotonic at the cost of running slightly
+ * ahead of the clock.
+ *
+ * The random bits come from {@link ThreadLocalRandom}: ids are unique and
+ * ordered, not unguessable.
+ */
+public final class UuidV7Generator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC_9562 = 0x8000000000000000L;
+
+    private final LongSupplier clock;
+    private final AtomicLong lastState = new AtomicLong();
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis);
+    }
+
+    UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID generate() {
+        long state = nextState();
+        long timestamp = state >>> COUNTER_BITS;
+        long counter = state & COUNTER_MASK;
+        long mostSigBits = (timestamp << 16) | VERSION_7 | counter;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC_9562;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Returns {@code timestamp << 12 | counter}, strictly greater than any
+     * value returned before.
+     */
+    private long nextState() {
+        long now = clock.getAsLong() << COUNTER_BITS;
+        while (true) {
+            long last = lastState.get();
+            long next = now > last ? now : last + 1;
+            if (lastState.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
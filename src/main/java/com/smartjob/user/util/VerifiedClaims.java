@@ -0,0 +1,44 @@
+package com.smartjob.user.util;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims of a token whose signature has been verified, read with a single
+ * parse by {@link JwtUtil#verify(String)}.
+ *
+ * @param subject    the token subject (the user's email)
+ * @param userId     the {@code userId} claim
+ * @param email      the {@code email} claim
+ * @param tokenId    the {@code jti} claim, null for tokens issued before it existed
+ * @param issuedAt   the {@code iat} claim
+ * @param expiration the {@code exp} claim
+ * @param keyId      the kid of the key that verified the signature
+ */
+public record VerifiedClaims(String subject, UUID userId, String email, UUID tokenId, Instant issuedAt,
+        Instant expiration, String keyId) {
+
+    /**
+     * Tells whether the token had expired at the given instant.
+     *
+     * @param now the instant to compare against
+     * @return true if the expiration is before {@code now}
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiration.isBefore(now);
+    }
+
+    /**
+     * Returns the issue time with millisecond precision, read from a
+     * version 7 {@code jti}, whose first 48 bits are the issue time in
+     * milliseconds. Older tokens only have the second of {@code iat}.
+     *
+     * @return the issue time in epoch milliseconds
+     */
+    public long issuedAtMillis() {
+        if (tokenId != null && tokenId.version() == 7) {
+            return JwtUtil.issuedAtMillis(tokenId);
+        }
+        return issuedAt.toEpochMilli();
+    }
+}
@@ -0,0 +1,112 @@
+package com.smartjob.user.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.smartjob.user.config.JwtProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of verified token claims ({@code jwt.cache}).
+ *
+ * Entries are keyed by the SHA-256 digest of the whole token, so only a
+ * byte-identical token (same signature) can hit; a forged token always
+ * misses and is verified. Each entry expires at the token's own
+ * {@code exp}. Eviction is Caffeine's W-TinyLFU, bounded by
+ * {@code jwt.cache.max-size}.
+ *
+ * Metrics are published as {@code cache.*} with {@code cache=jwt.verified}
+ * (gets by hit/miss, evictions, size).
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible", e);
+        }
+    });
+
+    private final Cache<ByteBuffer, VerifiedClaims> cache;
+
+    public VerifiedTokenCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        JwtProperties.Cache config = jwtProperties.getCache();
+        if (!config.isEnabled()) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfter(new UntilTokenExpiration())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("✓ Caché de tokens verificados activa (máximo {} entradas)", config.getMaxSize());
+    }
+
+    /**
+     * Returns the cached claims of the token, verifying and caching it on a
+     * miss. Tokens that fail verification are not cached.
+     *
+     * @param token    the JWT token
+     * @param verifier the full verification, run on a miss
+     * @return the verified claims
+     */
+    public VerifiedClaims get(String token, Function<String, VerifiedClaims> verifier) {
+        if (cache == null) {
+            return verifier.apply(token);
+        }
+        ByteBuffer key = digest(token);
+        VerifiedClaims claims = cache.getIfPresent(key);
+        if (claims != null && !claims.isExpiredAt(Instant.now())) {
+            return claims;
+        }
+        claims = verifier.apply(token);
+        cache.put(key, claims);
+        return claims;
+    }
+
+    private static ByteBuffer digest(String token) {
+        MessageDigest sha256 = SHA_256.get();
+        return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * Expires each entry when its token expires.
+     */
+    private static final class UntilTokenExpiration implements Expiry<ByteBuffer, VerifiedClaims> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedClaims claims, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), claims.expiration()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedClaims claims, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedClaims claims, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+-- Migración de bases existentes: saca el JWT de la fila de users (H2 y PostgreSQL).
+-- Copia los tokens guardados a user_tokens y elimina la columna users.token.
+-- Es idempotente: se puede ejecutar más de una vez.
+
+CREATE TABLE IF NOT EXISTS user_tokens (
+    user_id   UUID         NOT NULL PRIMARY KEY,
+    token     VARCHAR(500) NOT NULL,
+    issued_at TIMESTAMP    NOT NULL
+);
+
+-- Garantiza que la columna exista para que el INSERT ... SELECT sea válido en cualquier caso
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token VARCHAR(500);
+
+INSERT INTO user_tokens (user_id, token, issued_at)
+SELECT u.id, u.token, u.modified
+FROM users u
+WHERE u.token IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM user_tokens t WHERE t.user_id = u.id);
+
+ALTER TABLE users DROP COLUMN IF EXISTS token;
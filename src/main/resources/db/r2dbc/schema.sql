@@ -0,0 +1,64 @@
+-- Esquema para el perfil r2dbc (H2 y PostgreSQL).
+-- Equivalente a las tablas que Hibernate genera en el perfil por defecto.
+
+CREATE TABLE IF NOT EXISTS users (
+    id         UUID         NOT NULL PRIMARY KEY,
+    name       VARCHAR(50)  NOT NULL,
+    email      VARCHAR(75)  NOT NULL,
+    password   VARCHAR(100) NOT NULL,
+    created    TIMESTAMP    NOT NULL,
+    modified   TIMESTAMP    NOT NULL,
+    last_login TIMESTAMP,
+    is_active  BOOLEAN      NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_email ON users (email);
+-- Paginación por keyset en GET /users
+CREATE INDEX IF NOT EXISTS idx_created_id ON users (created, id);
+
+CREATE TABLE IF NOT EXISTS phones (
+    id           UUID        NOT NULL PRIMARY KEY,
+    number       VARCHAR(15) NOT NULL,
+    city_code    VARCHAR(5),
+    country_code VARCHAR(3)  NOT NULL,
+    user_id      UUID        NOT NULL REFERENCES users (id)
+);
+
+-- El código de ciudad es opcional; en bases creadas con la versión anterior era NOT NULL
+ALTER TABLE phones ALTER COLUMN city_code DROP NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_phones_user_id ON phones (user_id);
+
+-- Revocaciones de tokens (jti o usuario); expires_at en segundos epoch, not_before y revoked_at en milisegundos epoch
+CREATE TABLE IF NOT EXISTS token_revocations (
+    id         UUID        NOT NULL PRIMARY KEY,
+    type       VARCHAR(10) NOT NULL,
+    not_before BIGINT,
+    expires_at BIGINT      NOT NULL,
+    revoked_at BIGINT      NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_token_revocations_expires_at ON token_revocations (expires_at);
+
+-- Recarga incremental: cada instancia lee solo las revocaciones escritas desde la recarga anterior
+CREATE INDEX IF NOT EXISTS idx_token_revocations_revoked_at ON token_revocations (revoked_at);
+
+-- Refresh tokens rotativos: solo se guarda el SHA-256 del secreto; tiempos en segundos epoch
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id         UUID        NOT NULL PRIMARY KEY,
+    user_id    UUID        NOT NULL,
+    email      VARCHAR(75) NOT NULL,
+    token_hash VARCHAR(44) NOT NULL,
+    expires_at BIGINT      NOT NULL,
+    used       BOOLEAN     NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user_id ON refresh_tokens (user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+
+-- Último access token emitido por usuario; solo con users.token-storage.enabled
+CREATE TABLE IF NOT EXISTS user_tokens (
+    user_id   UUID         NOT NULL PRIMARY KEY,
+    token     VARCHAR(500) NOT NULL,
+    issued_at TIMESTAMP    NOT NULL
+);
@@ -0,0 +1,78 @@
+package com.smartjob.user.controller;
+
+import com.smartjob.user.config.JwtProperties;
+import com.smartjob.user.util.JwtKeyRing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for JwksController
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwksController Tests")
+class JwksControllerTest {
+
+    private static final JwtKeyRing.PublishedKeys KEYS = new JwtKeyRing.PublishedKeys(
+            "{\"keys\":[{\"kty\":\"OKP\",\"crv\":\"Ed25519\",\"x\":\"abc\",\"kid\":\"k1\"}]}", "\"etag-1\"");
+
+    @Mock
+    private JwtKeyRing keyRing;
+
+    private JwksController jwksController;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setJwksMaxAge(Duration.ofMinutes(5));
+        jwksController = new JwksController(keyRing, jwtProperties);
+        when(keyRing.publishedKeys()).thenReturn(KEYS);
+    }
+
+    @Test
+    @DisplayName("Debe responder 200 con el JWK set, su ETag y Cache-Control")
+    void shouldReturnJwkSetWithEtag() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/.well-known/jwks.json"));
+
+        // When / Then
+        StepVerifier.create(jwksController.getJwks(exchange))
+                .assertNext(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+                    assertThat(response.getBody()).isEqualTo(KEYS.json());
+                    assertThat(response.getHeaders().getETag()).isEqualTo("\"etag-1\"");
+                    assertThat(response.getHeaders().getCacheControl()).contains("max-age=300");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe responder 304 sin cuerpo si el cliente ya tiene el JWK set")
+    void shouldReturnNotModifiedWhenEtagMatches() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/.well-known/jwks.json").ifNoneMatch("\"etag-1\""));
+
+        // When / Then
+        StepVerifier.create(jwksController.getJwks(exchange))
+                .assertNext(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+                    assertThat(response.getBody()).isNull();
+                    assertThat(response.getHeaders().getETag()).isEqualTo("\"etag-1\"");
+                })
+                .verifyComplete();
+    }
+}
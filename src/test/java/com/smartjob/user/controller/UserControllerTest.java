@@ -1,9 +1,20 @@
 package com.smartjob.user.controller;
 
+import com.smartjob.user.dto.BatchUserResult;
 import com.smartjob.user.dto.PostUserRequest;
 import com.smartjob.user.dto.PostUserResponse;
+import com.smartjob.user.dto.PostUsersBatchRequest;
+import com.smartjob.user.dto.PostUsersBatchResponse;
+import com.smartjob.user.dto.PostUsersRefreshRequest;
+import com.smartjob.user.dto.PostUsersRefreshResponse;
 import com.smartjob.user.dto.Phone;
+import com.smartjob.user.exception.AuthenticationRequiredException;
+import com.smartjob.user.exception.HashingCapacityExceededException;
+import com.smartjob.user.security.AuthenticatedUser;
+import com.smartjob.user.service.domain.RefreshTokenService;
+import com.smartjob.user.service.domain.TokenRevocationService;
 import com.smartjob.user.service.domain.UserService;
+import com.smartjob.user.service.util.HashingAdmissionController;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,11 +23,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.Validator;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -36,6 +52,15 @@ class UserControllerTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private HashingAdmissionController hashingAdmissionController;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @Mock
     private ServerWebExchange exchange;
 
@@ -47,6 +72,10 @@ class UserControllerTest {
 
     @BeforeEach
     void setUp() {
+        // Admission control lets every request through unless a test says otherwise
+        lenient().when(hashingAdmissionController.admit(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
         // Setup valid phone
         Phone phone = new Phone("987654321", "57");
         phone.setCityCode("1");
@@ -325,4 +354,195 @@ class UserControllerTest {
 
         verify(userService).createUser(argThat(req -> req.getEmail().equals("juan@rodriguez.org")));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("POST /users - Should shed the request when the hashing pool is saturated")
+    void postUser_WhenHashingPoolSaturated_ShouldRejectWithoutCallingService() {
+        // Arrange
+        when(hashingAdmissionController.admit(any()))
+                .thenReturn(Mono.error(new HashingCapacityExceededException(
+                        HashingCapacityExceededException.DEFAULT_MESSAGE, 2)));
+
+        // Act
+        Mono<ResponseEntity<PostUserResponse>> result = userController.postUser(
+                Mono.just(validUserRequest),
+                exchange);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable -> throwable instanceof HashingCapacityExceededException &&
+                        ((HashingCapacityExceededException) throwable).getRetryAfterSeconds() == 2)
+                .verify();
+
+        verify(userService, never()).createUser(any(PostUserRequest.class));
+    }
+
+    @Test
+    @DisplayName("POST /users:batch - Should return the per-item results")
+    void postUsersBatch_WhenValidRequest_ShouldReturnResults() {
+        // Arrange
+        PostUsersBatchRequest batchRequest = new PostUsersBatchRequest();
+        batchRequest.setUsers(List.of(validUserRequest));
+
+        PostUsersBatchResponse batchResponse = new PostUsersBatchResponse();
+        batchResponse.setCreated(1);
+        batchResponse.setFailed(0);
+
+        when(userService.createUsers(anyList()))
+                .thenReturn(Mono.just(batchResponse));
+
+        // Act
+        Mono<ResponseEntity<PostUsersBatchResponse>> result = userController.postUsersBatch(
+                Mono.just(batchRequest),
+                exchange);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+                    assertThat(response.getBody()).isSameAs(batchResponse);
+                })
+                .verifyComplete();
+
+        verify(userService).createUsers(batchRequest.getUsers());
+        verify(hashingAdmissionController, never()).admit(any());
+    }
+
+    @Test
+    @DisplayName("POST /users:stream - Should stream one NDJSON result per line")
+    void postUsersStream_WhenValidStream_ShouldReturnNdjsonResults() {
+        // Arrange
+        Flux<PostUserRequest> requests = Flux.just(validUserRequest);
+        BatchUserResult created = new BatchUserResult()
+                .index(0)
+                .email(validUserRequest.getEmail())
+                .status(BatchUserResult.StatusEnum.CREATED)
+                .id(UUID.randomUUID());
+
+        when(userService.createUsersStream(requests))
+                .thenReturn(Flux.just(created));
+
+        // Act
+        Mono<ResponseEntity<Flux<BatchUserResult>>> result = userController.postUsersStream(requests, exchange);
+
+        // Assert
+        StepVerifier.create(result.flatMapMany(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+                    assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+                    return response.getBody();
+                }))
+                .expectNext(created)
+                .verifyComplete();
+
+        verify(hashingAdmissionController, never()).admit(any());
+    }
+
+    @Test
+    @DisplayName("POST /users:stream - Should not bean-validate stream lines")
+    void skipStreamLineValidation_ShouldRemoveValidators() {
+        // Arrange
+        Validator validator = mock(Validator.class);
+        when(validator.supports(PostUserRequest.class)).thenReturn(true);
+        WebDataBinder binder = new WebDataBinder(validUserRequest, "postUserRequestFlux");
+        binder.setValidator(validator);
+
+        // Act
+        userController.skipStreamLineValidation(binder);
+
+        // Assert
+        assertThat(binder.getValidators()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("POST /users:refresh - Should return new tokens without hashing admission")
+    void postUsersRefresh_WithValidToken_ShouldReturnNewTokens() {
+        // Arrange
+        PostUsersRefreshResponse tokens = new PostUsersRefreshResponse()
+                .token("eyJ.new.token")
+                .refreshToken(UUID.randomUUID() + ".secret")
+                .expiresIn(900L);
+        when(refreshTokenService.refresh("old-refresh-token")).thenReturn(Mono.just(tokens));
+
+        // Act
+        Mono<ResponseEntity<PostUsersRefreshResponse>> result = userController.postUsersRefresh(
+                Mono.just(new PostUsersRefreshRequest().refreshToken("old-refresh-token")), exchange);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+                    assertThat(response.getBody()).isEqualTo(tokens);
+                })
+                .verifyComplete();
+        verify(hashingAdmissionController, never()).admit(any());
+    }
+
+    @Test
+    @DisplayName("POST /users:logout - Should revoke the token of the authenticated user")
+    void postUsersLogout_WhenAuthenticated_ShouldRevokeToken() {
+        // Arrange
+        AuthenticatedUser user = new AuthenticatedUser(
+                UUID.randomUUID(), "juan@rodriguez.org", UUID.randomUUID(), Instant.now().plusSeconds(60));
+        when(tokenRevocationService.revokeToken(user.tokenId(), user.expiration())).thenReturn(Mono.empty());
+
+        // Act
+        Mono<ResponseEntity<Void>> result = userController.postUsersLogout(exchange)
+                .contextWrite(context -> context.put(AuthenticatedUser.class, user));
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT))
+                .verifyComplete();
+        verify(tokenRevocationService).revokeToken(user.tokenId(), user.expiration());
+    }
+
+    @Test
+    @DisplayName("POST /users:logout - Should revoke every token of the user when the token has no jti")
+    void postUsersLogout_WhenTokenHasNoId_ShouldRevokeUser() {
+        // Arrange
+        AuthenticatedUser user = new AuthenticatedUser(
+                UUID.randomUUID(), "juan@rodriguez.org", null, Instant.now().plusSeconds(60));
+        when(tokenRevocationService.revokeUser(user.userId())).thenReturn(Mono.empty());
+
+        // Act
+        Mono<ResponseEntity<Void>> result = userController.postUsersLogout(exchange)
+                .contextWrite(context -> context.put(AuthenticatedUser.class, user));
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(response -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT))
+                .verifyComplete();
+        verify(tokenRevocationService).revokeUser(user.userId());
+        verify(tokenRevocationService, never()).revokeToken(any(), any());
+    }
+
+    @Test
+    @DisplayName("POST /users:logout - Should fail when the token has neither jti nor userId")
+    void postUsersLogout_WhenTokenCannotBeRevoked_ShouldFail() {
+        // Arrange
+        AuthenticatedUser user = new AuthenticatedUser(null, "juan@rodriguez.org", null, Instant.now().plusSeconds(60));
+
+        // Act
+        Mono<ResponseEntity<Void>> result = userController.postUsersLogout(exchange)
+                .contextWrite(context -> context.put(AuthenticatedUser.class, user));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(AuthenticationRequiredException.class)
+                .verify();
+        verifyNoInteractions(tokenRevocationService);
+    }
+
+    @Test
+    @DisplayName("POST /users:logoutAll - Should fail without an authenticated user")
+    void postUsersLogoutAll_WhenNotAuthenticated_ShouldFail() {
+        // Act
+        Mono<ResponseEntity<Void>> result = userController.postUsersLogoutAll(exchange);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(AuthenticationRequiredException.class)
+                .verify();
+        verifyNoInteractions(tokenRevocationService, refreshTokenService);
+    }
+}
@@ -0,0 +1,126 @@
+package com.smartjob.user.exception.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartjob.user.dto.Error;
+import com.smartjob.user.dto.ErrorDetail;
+import com.smartjob.user.dto.PostUserRequest;
+import com.smartjob.user.exception.EmailAlreadyExistsException;
+import com.smartjob.user.exception.InvalidPasswordFormatException;
+import com.smartjob.user.exception.InvalidUserDataException;
+import com.smartjob.user.mapper.ErrorBodyCache;
+import com.smartjob.user.mapper.ErrorMapper;
+import com.smartjob.user.service.util.ValidationResult;
+import com.smartjob.user.service.util.ValidationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("GlobalExceptionHandler Tests")
+class GlobalExceptionHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ValidationService validationService = mock(ValidationService.class);
+    private GlobalExceptionHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        ErrorMapper errorMapper = new ErrorMapper();
+        handler = new GlobalExceptionHandler(errorMapper, new ErrorBodyCache(errorMapper, objectMapper),
+                validationService);
+    }
+
+    @Test
+    @DisplayName("Debe responder 409 con el cuerpo JSON precodificado del email duplicado")
+    void shouldAnswerDuplicateEmailWithPreEncodedBody() throws Exception {
+        // Given
+        EmailAlreadyExistsException exception = new EmailAlreadyExistsException("El correo ya está registrado");
+
+        // When
+        ResponseEntity<byte[]> first = handler.handleEmailAlreadyExists(exception).block();
+        ResponseEntity<byte[]> second = handler.handleEmailAlreadyExists(exception).block();
+
+        // Then
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(first.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(objectMapper.readTree(first.getBody()).get("message").asText())
+                .isEqualTo("El correo ya está registrado");
+        assertThat(second.getBody()).isSameAs(first.getBody());
+    }
+
+    @Test
+    @DisplayName("Debe crear las excepciones de dominio sin stack trace")
+    void shouldCreateDomainExceptionsWithoutStackTrace() {
+        // Given / When
+        InvalidPasswordFormatException exception = new InvalidPasswordFormatException("La contraseña no es válida");
+
+        // Then
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(handler.handleInvalidPasswordFormat(exception).block().getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("Debe unir los errores de Bean Validation con las violaciones del registro")
+    void shouldMergeBindErrorsWithRegistrationViolations() throws Exception {
+        // Given
+        PostUserRequest request = new PostUserRequest().name("Ana").email("invalid-email");
+        ValidationResult violations = new ValidationResult();
+        violations.merge("name", "El nombre debe tener entre 5 y 50 caracteres");
+        violations.merge("email", "El formato del email no es válido");
+        when(validationService.validate(request)).thenReturn(violations);
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(request, "postUserRequest");
+        bindingResult.rejectValue("name", "Size", "size must be between 5 and 50");
+        bindingResult.rejectValue("phones", "NotNull", "must not be null");
+        WebExchangeBindException exception = new WebExchangeBindException(new MethodParameter(
+                GlobalExceptionHandler.class.getMethod("handleValidationErrors", WebExchangeBindException.class),
+                0), bindingResult);
+
+        // When
+        ResponseEntity<byte[]> response = handler.handleValidationErrors(exception).block();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(objectMapper.readValue(response.getBody(), Error.class).getErrors())
+                .extracting(ErrorDetail::getField, ErrorDetail::getMessage)
+                .containsExactly(
+                        tuple("name", "El nombre debe tener entre 5 y 50 caracteres"),
+                        tuple("email", "El formato del email no es válido"),
+                        tuple("phones", "must not be null"));
+    }
+
+    @Test
+    @DisplayName("Debe reutilizar el cuerpo precodificado para las mismas violaciones")
+    void shouldReuseEncodedBodyForSameViolations() throws Exception {
+        // Given
+        ValidationResult first = new ValidationResult();
+        first.merge("email", "El formato del email no es válido");
+        ValidationResult second = new ValidationResult();
+        second.merge("email", "El formato del email no es válido");
+        ValidationResult other = new ValidationResult();
+        other.merge("password", "La contraseña es obligatoria");
+
+        // When
+        byte[] firstBody = handler.handleInvalidUserData(new InvalidUserDataException(first)).block().getBody();
+        byte[] secondBody = handler.handleInvalidUserData(new InvalidUserDataException(second)).block().getBody();
+        byte[] otherBody = handler.handleInvalidUserData(new InvalidUserDataException(other)).block().getBody();
+
+        // Then
+        assertThat(secondBody).isSameAs(firstBody);
+        assertThat(otherBody).isNotSameAs(firstBody);
+        assertThat(objectMapper.readValue(firstBody, Error.class).getErrors())
+                .extracting(ErrorDetail::getField, ErrorDetail::getMessage)
+                .containsExactly(tuple("email", "El formato del email no es válido"));
+    }
+}
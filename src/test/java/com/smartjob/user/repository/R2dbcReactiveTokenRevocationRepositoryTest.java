@@ -0,0 +1,129 @@
+package com.smartjob.user.repository;
+
+import com.smartjob.user.entity.TokenRevocationEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("r2dbc")
+@DisplayName("R2dbcReactiveTokenRevocationRepository Integration Tests")
+class R2dbcReactiveTokenRevocationRepositoryTest {
+
+    @Autowired
+    private ReactiveTokenRevocationRepository reactiveTokenRevocationRepository;
+
+    @Test
+    @DisplayName("Debe usar la implementación R2DBC con el perfil r2dbc")
+    void shouldUseR2dbcImplementation() {
+        assertThat(reactiveTokenRevocationRepository).isInstanceOf(R2dbcReactiveTokenRevocationRepository.class);
+    }
+
+    @Test
+    @DisplayName("Debe guardar la revocación y recuperarla con todos sus campos")
+    void shouldSaveAndFindRevocation() {
+        // Given
+        long now = System.currentTimeMillis();
+        TokenRevocationEntity revocation = userRevocation(UUID.randomUUID(), now);
+
+        // When / Then
+        StepVerifier.create(reactiveTokenRevocationRepository.save(revocation)
+                        .thenMany(reactiveTokenRevocationRepository.findRevokedSince(now))
+                        .filter(found -> found.getId().equals(revocation.getId())))
+                .assertNext(found -> {
+                    assertThat(found.getType()).isEqualTo(TokenRevocationEntity.Type.USER);
+                    assertThat(found.getNotBefore()).isEqualTo(now);
+                    assertThat(found.getExpiresAt()).isEqualTo(revocation.getExpiresAt());
+                    assertThat(found.getRevokedAt()).isEqualTo(now);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe reemplazar la revocación existente con el mismo id")
+    void shouldReplaceRevocationWithSameId() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        long first = System.currentTimeMillis() - 60_000;
+        long second = first + 30_000;
+
+        // When / Then
+        StepVerifier.create(reactiveTokenRevocationRepository.save(userRevocation(userId, first))
+                        .then(reactiveTokenRevocationRepository.save(userRevocation(userId, second)))
+                        .thenMany(reactiveTokenRevocationRepository.findRevokedSince(first))
+                        .filter(found -> found.getId().equals(userId)))
+                .assertNext(found -> {
+                    assertThat(found.getNotBefore()).isEqualTo(second);
+                    assertThat(found.getRevokedAt()).isEqualTo(second);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe devolver solo las revocaciones escritas desde el instante indicado")
+    void shouldFindOnlyRevocationsWrittenSince() {
+        // Given
+        long now = System.currentTimeMillis();
+        TokenRevocationEntity older = tokenRevocation(UUID.randomUUID(), now - 1);
+        TokenRevocationEntity newer = tokenRevocation(UUID.randomUUID(), now);
+
+        // When / Then
+        StepVerifier.create(reactiveTokenRevocationRepository.save(older)
+                        .then(reactiveTokenRevocationRepository.save(newer))
+                        .thenMany(reactiveTokenRevocationRepository.findRevokedSince(now))
+                        .map(TokenRevocationEntity::getId)
+                        .collectList())
+                .assertNext(ids -> assertThat(ids).contains(newer.getId()).doesNotContain(older.getId()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe eliminar solo las revocaciones expiradas")
+    void shouldDeleteExpiredRevocations() {
+        // Given
+        long now = System.currentTimeMillis();
+        TokenRevocationEntity expired = tokenRevocation(UUID.randomUUID(), now);
+        expired.setExpiresAt(Instant.now().minusSeconds(60).getEpochSecond());
+        TokenRevocationEntity active = tokenRevocation(UUID.randomUUID(), now);
+
+        // When / Then
+        StepVerifier.create(reactiveTokenRevocationRepository.save(expired)
+                        .then(reactiveTokenRevocationRepository.save(active))
+                        .then(reactiveTokenRevocationRepository.deleteExpired(Instant.now().getEpochSecond())))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(reactiveTokenRevocationRepository.findRevokedSince(now)
+                        .map(TokenRevocationEntity::getId)
+                        .collectList())
+                .assertNext(ids -> assertThat(ids).contains(active.getId()).doesNotContain(expired.getId()))
+                .verifyComplete();
+    }
+
+    private static TokenRevocationEntity userRevocation(UUID userId, long revokedAt) {
+        return TokenRevocationEntity.builder()
+                .id(userId)
+                .type(TokenRevocationEntity.Type.USER)
+                .notBefore(revokedAt)
+                .expiresAt(Instant.ofEpochMilli(revokedAt).plusSeconds(3_600).getEpochSecond())
+                .revokedAt(revokedAt)
+                .build();
+    }
+
+    private static TokenRevocationEntity tokenRevocation(UUID tokenId, long revokedAt) {
+        return TokenRevocationEntity.builder()
+                .id(tokenId)
+                .type(TokenRevocationEntity.Type.TOKEN)
+                .expiresAt(Instant.ofEpochMilli(revokedAt).plusSeconds(3_600).getEpochSecond())
+                .revokedAt(revokedAt)
+                .build();
+    }
+}
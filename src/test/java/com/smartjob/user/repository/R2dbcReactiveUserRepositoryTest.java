@@ -0,0 +1,229 @@
+package com.smartjob.user.repository;
+
+import com.smartjob.user.entity.PhoneEntity;
+import com.smartjob.user.entity.RefreshTokenEntity;
+import com.smartjob.user.entity.UserEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("r2dbc")
+@DisplayName("R2dbcReactiveUserRepository Integration Tests")
+class R2dbcReactiveUserRepositoryTest {
+
+    @Autowired
+    private ReactiveUserRepository reactiveUserRepository;
+
+    @Autowired
+    private ReactiveRefreshTokenRepository reactiveRefreshTokenRepository;
+
+    @Test
+    @DisplayName("Debe usar la implementación R2DBC con el perfil r2dbc")
+    void shouldUseR2dbcImplementation() {
+        assertThat(reactiveUserRepository).isInstanceOf(R2dbcReactiveUserRepository.class);
+    }
+
+    @Test
+    @DisplayName("Debe guardar el usuario con sus teléfonos y recuperarlo por email")
+    void shouldSaveUserWithPhonesAndFindByEmail() {
+        // Given
+        UserEntity user = newUser("r2dbc-" + UUID.randomUUID() + "@example.com");
+
+        // When / Then
+        StepVerifier.create(reactiveUserRepository.save(user)
+                        .then(reactiveUserRepository.findByEmailWithPhones(user.getEmail())))
+                .assertNext(found -> {
+                    assertThat(found.getId()).isEqualTo(user.getId());
+                    assertThat(found.getCreated()).isNotNull();
+                    assertThat(found.getLastLogin()).isNotNull();
+                    assertThat(found.getIsActive()).isTrue();
+                    assertThat(found.getPhones()).hasSize(1);
+                    assertThat(found.getPhones().get(0).getNumber()).isEqualTo("1234567");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe indicar si el email existe")
+    void shouldReportEmailExistence() {
+        // Given
+        UserEntity user = newUser("exists-" + UUID.randomUUID() + "@example.com");
+
+        // When / Then
+        StepVerifier.create(reactiveUserRepository.existsByEmail(user.getEmail()))
+                .expectNext(false)
+                .verifyComplete();
+
+        StepVerifier.create(reactiveUserRepository.save(user)
+                        .then(reactiveUserRepository.existsByEmail(user.getEmail())))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar emails duplicados mediante el índice único")
+    void shouldRejectDuplicateEmail() {
+        // Given
+        String email = "duplicate-" + UUID.randomUUID() + "@example.com";
+
+        // When / Then
+        StepVerifier.create(reactiveUserRepository.save(newUser(email))
+                        .then(reactiveUserRepository.save(newUser(email))))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debe guardar el usuario y su primer refresh token en la misma transacción")
+    void shouldSaveUserWithRefreshToken() {
+        // Given
+        UserEntity user = newUser("refresh-" + UUID.randomUUID() + "@example.com");
+        RefreshTokenEntity refreshToken = newRefreshToken(UUID.randomUUID(), user);
+
+        // When / Then
+        StepVerifier.create(reactiveUserRepository.save(user, refreshToken)
+                        .then(reactiveRefreshTokenRepository.findById(refreshToken.getId())))
+                .assertNext(found -> assertThat(found.getUserId()).isEqualTo(user.getId()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("No debe guardar el usuario si falla la inserción de su refresh token")
+    void shouldRollBackUserWhenRefreshTokenInsertFails() {
+        // Given: a refresh token id that is already taken
+        UserEntity existing = newUser("refresh-" + UUID.randomUUID() + "@example.com");
+        UUID takenId = UUID.randomUUID();
+        StepVerifier.create(reactiveUserRepository.save(existing, newRefreshToken(takenId, existing)))
+                .expectNextCount(1)
+                .verifyComplete();
+        UserEntity user = newUser("rollback-" + UUID.randomUUID() + "@example.com");
+
+        // When / Then
+        StepVerifier.create(reactiveUserRepository.save(user, newRefreshToken(takenId, user)))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+        StepVerifier.create(reactiveUserRepository.existsByEmail(user.getEmail()))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe guardar un lote de usuarios con inserciones agrupadas")
+    void shouldSaveAllUsersInBatch() {
+        // Given
+        UserEntity first = newUser("batch-" + UUID.randomUUID() + "@example.com");
+        UserEntity second = newUser("batch-" + UUID.randomUUID() + "@example.com");
+
+        // When / Then
+        StepVerifier.create(reactiveUserRepository.saveAll(List.of(first, second))
+                        .thenMany(reactiveUserRepository.findExistingEmails(
+                                List.of(first.getEmail(), second.getEmail(), "missing@example.com")))
+                        .collectList())
+                .assertNext(emails -> assertThat(emails)
+                        .containsExactlyInAnyOrder(first.getEmail(), second.getEmail()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe guardar en lote un teléfono sin código de ciudad")
+    void shouldSaveAllUsersWithPhoneWithoutCityCode() {
+        // Given
+        UserEntity user = newUser("batch-" + UUID.randomUUID() + "@example.com");
+        user.addPhone(new PhoneEntity("7654321", null, "56"));
+
+        // When / Then
+        StepVerifier.create(reactiveUserRepository.saveAll(List.of(user))
+                        .then(reactiveUserRepository.findByEmailWithPhones(user.getEmail())))
+                .assertNext(found -> assertThat(found.getPhones())
+                        .extracting(PhoneEntity::getNumber, PhoneEntity::getCityCode)
+                        .containsExactlyInAnyOrder(tuple("1234567", "1"), tuple("7654321", null)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe recorrer la tabla por páginas en orden de creación sin repetir usuarios")
+    void shouldStreamAllUsersPageByPage() {
+        // Given
+        List<UserEntity> users = List.of(
+                newUser("page-" + UUID.randomUUID() + "@example.com"),
+                newUser("page-" + UUID.randomUUID() + "@example.com"),
+                newUser("page-" + UUID.randomUUID() + "@example.com"));
+
+        // When / Then
+        StepVerifier.create(reactiveUserRepository.saveAll(users)
+                        .thenMany(reactiveUserRepository.streamAll(2))
+                        .collectList())
+                .assertNext(all -> {
+                    assertThat(all).extracting(UserEntity::getId)
+                            .doesNotHaveDuplicates()
+                            .containsAll(users.stream().map(UserEntity::getId).toList());
+                    assertThat(all).filteredOn(user -> user.getEmail().startsWith("page-"))
+                            .allSatisfy(user -> assertThat(user.getPhones()).hasSize(1));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe leer todos los emails por páginas en orden de id sin repetirlos")
+    void shouldReadAllEmailsPageByPage() {
+        // Given
+        List<UserEntity> users = List.of(
+                newUser("emails-" + UUID.randomUUID() + "@example.com"),
+                newUser("emails-" + UUID.randomUUID() + "@example.com"),
+                newUser("emails-" + UUID.randomUUID() + "@example.com"));
+
+        // When / Then
+        StepVerifier.create(reactiveUserRepository.saveAll(users)
+                        .thenMany(reactiveUserRepository.findAllEmails(2))
+                        .collectList())
+                .assertNext(emails -> assertThat(emails)
+                        .doesNotHaveDuplicates()
+                        .containsAll(users.stream().map(UserEntity::getEmail).toList()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe eliminar el usuario y sus teléfonos")
+    void shouldDeleteUserAndPhones() {
+        // Given
+        UserEntity user = newUser("delete-" + UUID.randomUUID() + "@example.com");
+
+        // When / Then
+        StepVerifier.create(reactiveUserRepository.save(user)
+                        .then(reactiveUserRepository.deleteById(user.getId()))
+                        .then(reactiveUserRepository.findById(user.getId())))
+                .verifyComplete();
+    }
+
+    private RefreshTokenEntity newRefreshToken(UUID id, UserEntity user) {
+        return RefreshTokenEntity.builder()
+                .id(id)
+                .userId(user.getId())
+                .email(user.getEmail())
+                .tokenHash("A".repeat(43) + "=")
+                .expiresAt(Instant.now().plusSeconds(3_600).getEpochSecond())
+                .build();
+    }
+
+    private UserEntity newUser(String email) {
+        UserEntity user = new UserEntity();
+        user.setId(UUID.randomUUID());
+        user.setName("Juan Rodriguez");
+        user.setEmail(email);
+        user.setPassword("encryptedPassword");
+        user.addPhone(new PhoneEntity("1234567", "1", "57"));
+        return user;
+    }
+}
@@ -0,0 +1,35 @@
+package com.smartjob.user.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UserCursor Tests")
+class UserCursorTest {
+
+    @Test
+    @DisplayName("Debe decodificar el mismo cursor que codificó")
+    void shouldRoundTrip() {
+        // Given
+        UserCursor cursor = new UserCursor(LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123_456_000), UUID.randomUUID());
+
+        // When
+        UserCursor decoded = UserCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un cursor mal formado con IllegalArgumentException")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> UserCursor.decode("no-es-un-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("El cursor de paginación no es válido");
+    }
+}
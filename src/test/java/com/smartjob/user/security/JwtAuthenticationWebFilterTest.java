@@ -0,0 +1,201 @@
+package com.smartjob.user.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartjob.user.config.AuthenticationProperties;
+import com.smartjob.user.config.JwtConfigValidator;
+import com.smartjob.user.config.JwtProperties;
+import com.smartjob.user.mapper.ErrorBodyCache;
+import com.smartjob.user.mapper.ErrorMapper;
+import com.smartjob.user.util.JwtKeyRing;
+import com.smartjob.user.util.JwtUtil;
+import com.smartjob.user.util.TokenRevocationList;
+import com.smartjob.user.util.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtAuthenticationWebFilter Tests")
+class JwtAuthenticationWebFilterTest {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGenerationThatShouldBeLongEnough123456789";
+    private static final String EMAIL = "test@example.com";
+    private static final UUID ADMIN_ID = UUID.randomUUID();
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationWebFilter filter;
+    private AtomicReference<AuthenticatedUser> seenUser;
+    private WebFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setExpiration(60_000L);
+        jwtUtil = new JwtUtil(jwtProperties,
+                new JwtKeyRing(jwtProperties, new JwtConfigValidator(jwtProperties)),
+                new VerifiedTokenCache(jwtProperties, new SimpleMeterRegistry()),
+                new TokenRevocationList(new SimpleMeterRegistry()));
+
+        AuthenticationProperties authenticationProperties = new AuthenticationProperties();
+        authenticationProperties.setProtectedRoutes(List.of("POST /api/v1/users:logout"));
+        authenticationProperties.setAdminRoutes(List.of("GET /api/v1/users", "GET /api/v1/users:export",
+                "POST /api/v1/users:batch", "POST /api/v1/users:stream"));
+        authenticationProperties.setAdmins(List.of(ADMIN_ID));
+        filter = new JwtAuthenticationWebFilter(jwtUtil, authenticationProperties,
+                new ErrorBodyCache(new ErrorMapper(), new ObjectMapper()));
+
+        seenUser = new AtomicReference<>();
+        chain = exchange -> AuthenticatedUser.current()
+                .doOnNext(seenUser::set)
+                .then();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 401 una ruta protegida sin token")
+    void shouldRejectProtectedRouteWithoutToken() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/users"));
+
+        // When
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE)).isEqualTo("Bearer");
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+                .assertNext(body -> assertThat(body).contains("Se requiere un token de acceso"))
+                .verifyComplete();
+        assertThat(seenUser.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 401 un token inválido sin llegar al controlador")
+    void shouldRejectInvalidToken() {
+        // Given
+        String token = jwtUtil.generateToken(UUID.randomUUID(), EMAIL);
+        String other = jwtUtil.generateToken(UUID.randomUUID(), "otro@example.com");
+        String tampered = token.substring(0, token.lastIndexOf('.')) + other.substring(other.lastIndexOf('.'));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/users:export")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tampered));
+
+        // When
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE))
+                .isEqualTo("Bearer error=\"invalid_token\"");
+        assertThat(seenUser.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe dejar pasar un token válido y publicar el usuario en el contexto")
+    void shouldAuthenticateValidToken() {
+        // Given
+        UUID userId = ADMIN_ID;
+        String token = jwtUtil.generateToken(userId, EMAIL);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/users")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+
+        // When
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Then
+        assertThat(exchange.getResponse().getStatusCode()).isNull();
+        assertThat(seenUser.get()).isNotNull();
+        assertThat(seenUser.get().userId()).isEqualTo(userId);
+        assertThat(seenUser.get().getName()).isEqualTo(EMAIL);
+    }
+
+    @Test
+    @DisplayName("Debe dejar pasar sin token las rutas públicas")
+    void shouldAllowPublicRouteWithoutToken() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/users"));
+        AtomicReference<Boolean> called = new AtomicReference<>(false);
+
+        // When
+        StepVerifier.create(filter.filter(exchange, e -> Mono.fromRunnable(() -> called.set(true))))
+                .verifyComplete();
+
+        // Then
+        assertThat(called.get()).isTrue();
+        assertThat(exchange.getResponse().getStatusCode()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 401 la carga masiva sin token")
+    void shouldRejectBatchWithoutToken() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/users:batch"));
+
+        // When
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Then
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(seenUser.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 403 el listado, la exportación y la carga masiva a un usuario que no es administrador")
+    void shouldRejectAdminRoutesForNonAdmin() {
+        // Given: a self-registered account whose email only differs from the admin's in case
+        String token = jwtUtil.generateToken(UUID.randomUUID(), EMAIL.toUpperCase());
+        List<MockServerWebExchange> exchanges = List.of(
+                MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/users")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)),
+                MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/users:export")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)),
+                MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/users:batch")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)),
+                MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/users:stream")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)));
+
+        // When
+        for (MockServerWebExchange exchange : exchanges) {
+            StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+        }
+
+        // Then
+        for (MockServerWebExchange exchange : exchanges) {
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+            assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE))
+                    .isEqualTo("Bearer error=\"insufficient_scope\"");
+            StepVerifier.create(exchange.getResponse().getBodyAsString())
+                    .assertNext(body -> assertThat(body).contains("No tiene permisos para acceder a este recurso"))
+                    .verifyComplete();
+        }
+        assertThat(seenUser.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Debe dejar pasar la carga masiva con el token de un administrador")
+    void shouldAllowBatchForAdmin() {
+        // Given
+        String token = jwtUtil.generateToken(ADMIN_ID, EMAIL);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/users:batch")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+
+        // When
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        // Then
+        assertThat(exchange.getResponse().getStatusCode()).isNull();
+        assertThat(seenUser.get().userId()).isEqualTo(ADMIN_ID);
+    }
+}
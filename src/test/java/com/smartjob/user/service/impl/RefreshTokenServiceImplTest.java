@@ -0,0 +1,85 @@
+package com.smartjob.user.service.impl;
+
+import com.smartjob.user.dto.PostUsersRefreshResponse;
+import com.smartjob.user.exception.InvalidRefreshTokenException;
+import com.smartjob.user.util.JwtUtil;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Exercises refresh token rotation against a real H2 database.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:refresh-tokens;DB_CLOSE_DELAY=-1")
+@DisplayName("RefreshTokenService Tests")
+class RefreshTokenServiceImplTest {
+
+    @Autowired
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("Debe emitir un access token y un refresh token nuevos al renovar")
+    void shouldRotateRefreshToken() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        String refreshToken = refreshTokenService.issue(userId, "juan@rodriguez.org").block();
+
+        // When
+        PostUsersRefreshResponse response = refreshTokenService.refresh(refreshToken).block();
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(response.getRefreshToken()).isNotEqualTo(refreshToken);
+        assertThat(response.getExpiresIn()).isPositive();
+        assertThat(jwtUtil.verify(response.getToken()).userId()).isEqualTo(userId);
+    }
+
+    @Test
+    @DisplayName("Debe revocar todas las sesiones del usuario cuando se reutiliza un refresh token")
+    void shouldRevokeSessionsWhenRefreshTokenIsReused() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        String refreshToken = refreshTokenService.issue(userId, "ana@rodriguez.org").block();
+        PostUsersRefreshResponse rotated = refreshTokenService.refresh(refreshToken).block();
+
+        // When
+        StepVerifier.create(refreshTokenService.refresh(refreshToken))
+                .expectError(InvalidRefreshTokenException.class)
+                .verify();
+
+        // Then: the successor and the access token issued with it are revoked too
+        StepVerifier.create(refreshTokenService.refresh(rotated.getRefreshToken()))
+                .expectError(InvalidRefreshTokenException.class)
+                .verify();
+        assertThatThrownBy(() -> jwtUtil.verify(rotated.getToken())).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar refresh tokens desconocidos o mal formados")
+    void shouldRejectUnknownOrMalformedRefreshTokens() {
+        // Given
+        String issued = refreshTokenService.issue(UUID.randomUUID(), "luis@rodriguez.org").block();
+        String wrongSecret = issued.substring(0, issued.indexOf('.') + 1) + "A".repeat(43);
+
+        // When / Then
+        for (String refreshToken : new String[] {"no-es-un-token", UUID.randomUUID() + ".abc", wrongSecret}) {
+            StepVerifier.create(refreshTokenService.refresh(refreshToken))
+                    .expectError(InvalidRefreshTokenException.class)
+                    .verify();
+        }
+        StepVerifier.create(refreshTokenService.refresh(issued))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+}
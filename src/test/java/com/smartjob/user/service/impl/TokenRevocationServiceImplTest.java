@@ -0,0 +1,181 @@
+package com.smartjob.user.service.impl;
+
+import com.smartjob.user.config.JwtProperties;
+import com.smartjob.user.entity.TokenRevocationEntity;
+import com.smartjob.user.repository.ReactiveTokenRevocationRepository;
+import com.smartjob.user.util.TokenRevocationList;
+import com.smartjob.user.util.VerifiedClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationService Tests")
+class TokenRevocationServiceImplTest {
+
+    private static final Duration LIFETIME = Duration.ofHours(1);
+    private static final Duration OVERLAP = Duration.ofSeconds(10);
+
+    @Mock
+    private ReactiveTokenRevocationRepository reactiveTokenRevocationRepository;
+
+    private TokenRevocationList tokenRevocationList;
+    private TokenRevocationServiceImpl tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setExpiration(LIFETIME.toMillis());
+        jwtProperties.getRevocation().setRefreshOverlap(OVERLAP);
+        tokenRevocationList = new TokenRevocationList(new SimpleMeterRegistry());
+        tokenRevocationService = new TokenRevocationServiceImpl(
+                reactiveTokenRevocationRepository, tokenRevocationList, jwtProperties);
+    }
+
+    @Test
+    @DisplayName("Debe guardar la revocación del token y aplicarla en memoria")
+    void shouldStoreAndApplyTokenRevocation() {
+        // Given
+        UUID tokenId = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plus(LIFETIME);
+        long before = System.currentTimeMillis();
+        ArgumentCaptor<TokenRevocationEntity> saved = ArgumentCaptor.forClass(TokenRevocationEntity.class);
+        when(reactiveTokenRevocationRepository.save(saved.capture()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When
+        StepVerifier.create(tokenRevocationService.revokeToken(tokenId, expiresAt))
+                .verifyComplete();
+
+        // Then
+        TokenRevocationEntity revocation = saved.getValue();
+        assertThat(revocation.getId()).isEqualTo(tokenId);
+        assertThat(revocation.getType()).isEqualTo(TokenRevocationEntity.Type.TOKEN);
+        assertThat(revocation.getExpiresAt()).isEqualTo(expiresAt.getEpochSecond());
+        assertThat(revocation.getRevokedAt()).isGreaterThanOrEqualTo(before);
+        assertThat(tokenRevocationList.isRevoked(claims(UUID.randomUUID(), tokenId, Instant.now()))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe revocar los tokens del usuario hasta el milisegundo de la revocación")
+    void shouldRevokeUserTokensUpToTheMillisecond() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        ArgumentCaptor<TokenRevocationEntity> saved = ArgumentCaptor.forClass(TokenRevocationEntity.class);
+        when(reactiveTokenRevocationRepository.save(saved.capture()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When
+        StepVerifier.create(tokenRevocationService.revokeUser(userId))
+                .verifyComplete();
+
+        // Then
+        TokenRevocationEntity revocation = saved.getValue();
+        Instant notBefore = Instant.ofEpochMilli(revocation.getNotBefore());
+        assertThat(revocation.getType()).isEqualTo(TokenRevocationEntity.Type.USER);
+        assertThat(revocation.getRevokedAt()).isEqualTo(revocation.getNotBefore());
+        assertThat(revocation.getExpiresAt()).isEqualTo(notBefore.plus(LIFETIME).getEpochSecond());
+        assertThat(tokenRevocationList.isRevoked(claims(userId, UUID.randomUUID(), notBefore))).isTrue();
+        assertThat(tokenRevocationList.isRevoked(claims(userId, UUID.randomUUID(), notBefore.plusMillis(1))))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("No debe aplicar la revocación en memoria si no se pudo guardar")
+    void shouldNotApplyRevocationWhenSaveFails() {
+        // Given
+        UUID tokenId = UUID.randomUUID();
+        when(reactiveTokenRevocationRepository.save(any()))
+                .thenReturn(Mono.error(new IllegalStateException("base de datos no disponible")));
+
+        // When
+        StepVerifier.create(tokenRevocationService.revokeToken(tokenId, Instant.now().plus(LIFETIME)))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Then
+        assertThat(tokenRevocationList.isRevoked(claims(UUID.randomUUID(), tokenId, Instant.now()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe cargar todas las revocaciones y luego solo las escritas desde la recarga anterior")
+    void shouldRefreshIncrementally() {
+        // Given: a revocation made on another instance
+        UUID userId = UUID.randomUUID();
+        Instant revokedAt = Instant.now().minusSeconds(60);
+        TokenRevocationEntity remote = TokenRevocationEntity.builder()
+                .id(userId)
+                .type(TokenRevocationEntity.Type.USER)
+                .notBefore(revokedAt.toEpochMilli())
+                .expiresAt(revokedAt.plus(LIFETIME).getEpochSecond())
+                .revokedAt(revokedAt.toEpochMilli())
+                .build();
+        when(reactiveTokenRevocationRepository.deleteExpired(anyLong())).thenReturn(Mono.just(0L));
+        when(reactiveTokenRevocationRepository.findRevokedSince(Long.MIN_VALUE)).thenReturn(Flux.just(remote));
+
+        // When: first refresh
+        long firstRefresh = System.currentTimeMillis();
+        StepVerifier.create(tokenRevocationService.refresh())
+                .verifyComplete();
+
+        // Then
+        assertThat(tokenRevocationList.isRevoked(claims(userId, UUID.randomUUID(), revokedAt.minusSeconds(1))))
+                .isTrue();
+
+        // When: second refresh
+        ArgumentCaptor<Long> since = ArgumentCaptor.forClass(Long.class);
+        when(reactiveTokenRevocationRepository.findRevokedSince(since.capture())).thenReturn(Flux.empty());
+        StepVerifier.create(tokenRevocationService.refresh())
+                .verifyComplete();
+
+        // Then: it starts where the first one started, minus the overlap
+        assertThat(since.getValue())
+                .isGreaterThanOrEqualTo(firstRefresh - OVERLAP.toMillis())
+                .isLessThanOrEqualTo(System.currentTimeMillis() - OVERLAP.toMillis());
+        verify(reactiveTokenRevocationRepository).findRevokedSince(Long.MIN_VALUE);
+    }
+
+    @Test
+    @DisplayName("Debe volver a leer desde el mismo instante si la recarga falla")
+    void shouldKeepRefreshPositionWhenRefreshFails() {
+        // Given
+        when(reactiveTokenRevocationRepository.deleteExpired(anyLong())).thenReturn(Mono.just(0L));
+        when(reactiveTokenRevocationRepository.findRevokedSince(Long.MIN_VALUE))
+                .thenReturn(Flux.error(new IllegalStateException("base de datos no disponible")))
+                .thenReturn(Flux.empty());
+
+        // When
+        StepVerifier.create(tokenRevocationService.refresh())
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(tokenRevocationService.refresh())
+                .verifyComplete();
+
+        // Then: both refreshes read the whole table
+        verify(reactiveTokenRevocationRepository, times(2)).findRevokedSince(Long.MIN_VALUE);
+    }
+
+    private static VerifiedClaims claims(UUID userId, UUID tokenId, Instant issuedAt) {
+        return new VerifiedClaims("test@example.com", userId, "test@example.com", tokenId,
+                issuedAt, issuedAt.plus(LIFETIME), "default");
+    }
+}
@@ -0,0 +1,101 @@
+package com.smartjob.user.service.impl;
+
+import com.smartjob.user.dto.BatchUserResult;
+import com.smartjob.user.dto.Phone;
+import com.smartjob.user.dto.PostUserRequest;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs createUsers against a real H2 database when the batched insert
+ * fails on a conflicting email. Duplicates are left to the unique index
+ * (CONSTRAINT mode), so the batch reaches the one-by-one fallback, and
+ * every SQL statement is recorded to check that it does not merge.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:batch-fallback;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.smartjob.user.service.impl.UserServiceImplBatchFallbackTest$RecordingStatementInspector",
+        "users.registration.duplicate-check=CONSTRAINT",
+        "users.email-filter.enabled=false"
+})
+@DisplayName("UserService Batch Fallback Tests")
+class UserServiceImplBatchFallbackTest {
+
+    private static final Pattern MERGE_LOAD =
+            Pattern.compile("(?s)select .* from (users|phones) \\w+ where \\w+\\.id=\\?.*");
+
+    @Autowired
+    private UserServiceImpl userService;
+
+    @Test
+    @DisplayName("Debe reintentar usuario por usuario con INSERT, sin SELECT de merge")
+    void shouldPersistRemainingUsersWithoutMergeWhenBatchInsertFails() {
+        // Given
+        PostUserRequest existing = newRequest();
+        StepVerifier.create(userService.createUser(existing))
+                .expectNextCount(1)
+                .verifyComplete();
+        PostUserRequest conflicting = newRequest();
+        conflicting.setEmail(existing.getEmail());
+        PostUserRequest fresh = newRequest();
+        RecordingStatementInspector.STATEMENTS.clear();
+
+        // When / Then
+        StepVerifier.create(userService.createUsers(List.of(fresh, conflicting)))
+                .assertNext(response -> {
+                    assertThat(response.getCreated()).isEqualTo(1);
+                    assertThat(response.getFailed()).isEqualTo(1);
+                    assertThat(response.getResults())
+                            .extracting(BatchUserResult::getStatus)
+                            .containsExactly(BatchUserResult.StatusEnum.CREATED, BatchUserResult.StatusEnum.FAILED);
+                    assertThat(response.getResults().get(1).getMessage()).isEqualTo("El correo ya está registrado");
+                })
+                .verifyComplete();
+
+        // A merge would load each user (and its phones) by id before inserting it
+        assertThat(RecordingStatementInspector.STATEMENTS)
+                .isNotEmpty()
+                .noneMatch(sql -> MERGE_LOAD.matcher(sql.toLowerCase(Locale.ROOT)).matches());
+    }
+
+    private PostUserRequest newRequest() {
+        Phone phone = new Phone();
+        phone.setNumber("1234567");
+        phone.setCityCode("1");
+        phone.setCountryCode("57");
+
+        PostUserRequest request = new PostUserRequest();
+        request.setName("Juan Rodriguez");
+        request.setEmail("juan." + UUID.randomUUID().toString().substring(0, 8) + "@rodriguez.org");
+        request.setPassword("Hunter2!");
+        request.setPhones(List.of(phone));
+        return request;
+    }
+
+    /**
+     * Records every SQL statement Hibernate prepares.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.smartjob.user.service.impl;
+
+import com.smartjob.user.dto.Phone;
+import com.smartjob.user.dto.PostUserRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the SQL statements issued by createUser against a real H2
+ * database, using Hibernate statistics. The email filter is disabled so
+ * the existence query is always issued and the count is deterministic.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-count;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "users.email-filter.enabled=false"
+})
+@DisplayName("UserService SQL Statement Count Tests")
+class UserServiceImplStatementCountTest {
+
+    @Autowired
+    private UserServiceImpl userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Debe insertar usuario y teléfono sin SELECT previo")
+    void shouldInsertUserAndPhoneWithoutSelectBeforeInsert() {
+        // Given
+        PostUserRequest request = newRequest(1);
+
+        // When
+        StepVerifier.create(userService.createUser(request))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Then: existsByEmail + INSERT users + INSERT phones + INSERT refresh_tokens
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Debe agrupar los INSERT de teléfonos en un lote JDBC y no emitir SELECT adicionales")
+    void shouldBatchPhoneInserts() {
+        // Given
+        PostUserRequest request = newRequest(3);
+
+        // When
+        StepVerifier.create(userService.createUser(request))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Then: existsByEmail + INSERT users + one batched INSERT phones (hibernate.jdbc.batch_size)
+        // + INSERT refresh_tokens
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(5);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Debe cargar una página de usuarios con sus teléfonos en dos consultas")
+    void shouldLoadUsersPageWithPhonesInTwoQueries() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(userService.createUser(newRequest(2)))
+                    .expectNextCount(1)
+                    .verifyComplete();
+        }
+        statistics.clear();
+
+        // When / Then: ids of the page + users with phones (fetch join), no N+1
+        StepVerifier.create(userService.listUsers(null, 2))
+                .assertNext(page -> {
+                    assertThat(page.getItems()).hasSize(2);
+                    assertThat(page.getItems()).allSatisfy(user -> assertThat(user.getPhones()).hasSize(2));
+                    assertThat(page.getNextCursor()).isNotNull();
+                })
+                .verifyComplete();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private PostUserRequest newRequest(int phoneCount) {
+        List<Phone> phones = new ArrayList<>();
+        for (int i = 0; i < phoneCount; i++) {
+            Phone phone = new Phone();
+            phone.setNumber("123456" + i);
+            phone.setCityCode("1");
+            phone.setCountryCode("57");
+            phones.add(phone);
+        }
+
+        PostUserRequest request = new PostUserRequest();
+        request.setName("Juan Rodriguez");
+        request.setEmail("juan." + UUID.randomUUID().toString().substring(0, 8) + "@rodriguez.org");
+        request.setPassword("Hunter2!");
+        request.setPhones(phones);
+        return request;
+    }
+}
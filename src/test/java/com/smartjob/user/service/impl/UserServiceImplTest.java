@@ -1,13 +1,27 @@
 package com.smartjob.user.service.impl;
 
+import com.smartjob.user.config.UserProperties;
 import com.smartjob.user.dto.Phone;
 import com.smartjob.user.dto.PostUserRequest;
+import com.smartjob.user.dto.BatchUserResult;
 import com.smartjob.user.dto.PostUserResponse;
+import com.smartjob.user.dto.PostUsersBatchResponse;
 import com.smartjob.user.entity.PhoneEntity;
+import com.smartjob.user.entity.RefreshTokenEntity;
 import com.smartjob.user.entity.UserEntity;
+import com.smartjob.user.entity.UserTokenEntity;
 import com.smartjob.user.exception.EmailAlreadyExistsException;
+import com.smartjob.user.exception.InvalidEmailFormatException;
+import com.smartjob.user.mapper.UserMapper;
 import com.smartjob.user.repository.ReactiveUserRepository;
+import com.smartjob.user.repository.ReactiveUserTokenRepository;
+import com.smartjob.user.service.domain.RefreshTokenService;
+import com.smartjob.user.service.util.EmailMembershipFilter;
+import com.smartjob.user.service.util.HashingAdmissionController;
+import com.smartjob.user.service.util.PasswordHashingService;
 import com.smartjob.user.service.util.ValidationService;
+import com.smartjob.user.util.IdGenerator;
+import com.smartjob.user.util.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,16 +29,22 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -39,12 +59,39 @@ class UserServiceImplTest {
     @MockitoBean
     private ValidationService validationService;
 
+    @MockitoBean
+    private ReactiveUserTokenRepository reactiveUserTokenRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
     @Autowired
     private UserServiceImpl userService;
 
+    @Autowired
+    private UserProperties userProperties;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private EmailMembershipFilter emailMembershipFilter;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private HashingAdmissionController hashingAdmissionController;
+
     private PostUserRequest validRequest;
     private UserEntity userEntity;
 
@@ -84,11 +131,11 @@ class UserServiceImplTest {
     @DisplayName("Debe crear usuario exitosamente")
     void shouldCreateUserSuccessfully() {
         // Given
-        when(validationService.validateEmailAndPassword(anyString(), anyString()))
+        when(validationService.validateUser(any(PostUserRequest.class)))
                 .thenReturn(Mono.empty());
         when(reactiveUserRepository.existsByEmail(anyString()))
                 .thenReturn(Mono.just(false));
-        when(reactiveUserRepository.save(any(UserEntity.class)))
+        when(reactiveUserRepository.save(any(UserEntity.class), any(RefreshTokenEntity.class)))
                 .thenAnswer(invocation -> {
                     UserEntity savedUser = invocation.getArgument(0);
                     LocalDateTime now = LocalDateTime.now();
@@ -105,6 +152,7 @@ class UserServiceImplTest {
         StepVerifier.create(result)
                 .expectNextMatches(response -> response.getId() != null &&
                         response.getToken() != null &&
+                        response.getRefreshToken() != null &&
                         response.getIsActive() != null &&
                         response.getIsActive().equals(true) &&
                         response.getCreated() != null &&
@@ -112,16 +160,42 @@ class UserServiceImplTest {
                         response.getLastLogin() != null)
                 .verifyComplete();
 
-        verify(validationService).validateEmailAndPassword(validRequest.getEmail(), validRequest.getPassword());
+        verify(validationService).validateUser(validRequest);
         verify(reactiveUserRepository).existsByEmail(validRequest.getEmail());
-        verify(reactiveUserRepository).save(any(UserEntity.class));
+        verify(reactiveUserRepository).save(any(UserEntity.class), any(RefreshTokenEntity.class));
+    }
+
+    @Test
+    @DisplayName("Debe guardar el primer refresh token en la misma operación que el usuario")
+    void shouldSaveRefreshTokenWithUser() {
+        // Given
+        when(validationService.validateUser(any(PostUserRequest.class)))
+                .thenReturn(Mono.empty());
+        when(reactiveUserRepository.existsByEmail(anyString()))
+                .thenReturn(Mono.just(false));
+        AtomicReference<RefreshTokenEntity> savedRefreshToken = new AtomicReference<>();
+        when(reactiveUserRepository.save(any(UserEntity.class), any(RefreshTokenEntity.class)))
+                .thenAnswer(invocation -> {
+                    savedRefreshToken.set(invocation.getArgument(1));
+                    return Mono.just(invocation.<UserEntity>getArgument(0));
+                });
+
+        // When
+        PostUserResponse response = userService.createUser(validRequest).block();
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(savedRefreshToken.get().getUserId()).isEqualTo(response.getId());
+        assertThat(savedRefreshToken.get().getEmail()).isEqualTo(validRequest.getEmail());
+        assertThat(response.getRefreshToken()).startsWith(savedRefreshToken.get().getId() + ".");
+        verify(reactiveUserRepository, never()).save(any(UserEntity.class));
     }
 
     @Test
     @DisplayName("Debe lanzar excepción cuando el email ya existe")
     void shouldThrowExceptionWhenEmailExists() {
         // Given
-        when(validationService.validateEmailAndPassword(anyString(), anyString()))
+        when(validationService.validateUser(any(PostUserRequest.class)))
                 .thenReturn(Mono.empty());
         when(reactiveUserRepository.existsByEmail(anyString()))
                 .thenReturn(Mono.just(true));
@@ -135,20 +209,67 @@ class UserServiceImplTest {
                         throwable.getMessage().equals("El correo ya está registrado"))
                 .verify();
 
-        verify(validationService).validateEmailAndPassword(validRequest.getEmail(), validRequest.getPassword());
+        verify(validationService).validateUser(validRequest);
         verify(reactiveUserRepository).existsByEmail(validRequest.getEmail());
-        verify(reactiveUserRepository, never()).save(any(UserEntity.class));
+        verify(reactiveUserRepository, never()).save(any(UserEntity.class), any(RefreshTokenEntity.class));
+    }
+
+    @Test
+    @DisplayName("Debe traducir la violación del índice único de email a EmailAlreadyExistsException")
+    void shouldTranslateEmailUniqueIndexViolation() {
+        // Given
+        when(validationService.validateUser(any(PostUserRequest.class)))
+                .thenReturn(Mono.empty());
+        when(reactiveUserRepository.existsByEmail(anyString()))
+                .thenReturn(Mono.just(false));
+        when(reactiveUserRepository.save(any(UserEntity.class), any(RefreshTokenEntity.class)))
+                .thenReturn(Mono.error(new DataIntegrityViolationException(
+                        "Unique index or primary key violation: \"PUBLIC.IDX_EMAIL ON PUBLIC.USERS(EMAIL)\"")));
+
+        // When
+        Mono<PostUserResponse> result = userService.createUser(validRequest);
+
+        // Then
+        StepVerifier.create(result)
+                .expectErrorMatches(throwable -> throwable instanceof EmailAlreadyExistsException &&
+                        throwable.getMessage().equals("El correo ya está registrado"))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Debe omitir existsByEmail en modo CONSTRAINT y reportar duplicados desde el insert")
+    void shouldRelyOnUniqueIndexInConstraintMode() {
+        // Given
+        UserProperties constraintProperties = new UserProperties();
+        constraintProperties.getRegistration().setDuplicateCheck(UserProperties.DuplicateCheck.CONSTRAINT);
+        UserServiceImpl constraintUserService = newUserService(constraintProperties);
+        when(validationService.validateUser(any(PostUserRequest.class)))
+                .thenReturn(Mono.empty());
+        when(reactiveUserRepository.save(any(UserEntity.class), any(RefreshTokenEntity.class)))
+                .thenReturn(Mono.error(new DataIntegrityViolationException(
+                        "duplicate key value violates unique constraint \"idx_email\"")));
+
+        // When
+        Mono<PostUserResponse> result = constraintUserService.createUser(validRequest);
+
+        // Then
+        StepVerifier.create(result)
+                .expectError(EmailAlreadyExistsException.class)
+                .verify();
+
+        verify(reactiveUserRepository, never()).existsByEmail(anyString());
+        verify(reactiveUserRepository).save(any(UserEntity.class), any(RefreshTokenEntity.class));
     }
 
     @Test
     @DisplayName("Debe encriptar el password antes de guardar")
     void shouldEncryptPasswordBeforeSaving() {
         // Given
-        when(validationService.validateEmailAndPassword(anyString(), anyString()))
+        when(validationService.validateUser(any(PostUserRequest.class)))
                 .thenReturn(Mono.empty());
         when(reactiveUserRepository.existsByEmail(anyString()))
                 .thenReturn(Mono.just(false));
-        when(reactiveUserRepository.save(any(UserEntity.class)))
+        when(reactiveUserRepository.save(any(UserEntity.class), any(RefreshTokenEntity.class)))
                 .thenAnswer(invocation -> {
                     UserEntity savedUser = invocation.getArgument(0);
                     assert !savedUser.getPassword().equals(validRequest.getPassword());
@@ -163,18 +284,44 @@ class UserServiceImplTest {
                 .expectNextMatches(response -> response.getId() != null)
                 .verifyComplete();
 
-        verify(reactiveUserRepository).save(argThat(user -> !user.getPassword().equals(validRequest.getPassword())));
+        verify(reactiveUserRepository).save(
+                argThat(user -> !user.getPassword().equals(validRequest.getPassword())), any(RefreshTokenEntity.class));
+    }
+
+    @Test
+    @DisplayName("Debe encriptar el password en el pool dedicado de hashing")
+    void shouldHashPasswordOnDedicatedHashingPool() {
+        // Given
+        when(validationService.validateUser(any(PostUserRequest.class)))
+                .thenReturn(Mono.empty());
+        when(reactiveUserRepository.existsByEmail(anyString()))
+                .thenReturn(Mono.just(false));
+        AtomicReference<String> saveThread = new AtomicReference<>();
+        when(reactiveUserRepository.save(any(UserEntity.class), any(RefreshTokenEntity.class)))
+                .thenAnswer(invocation -> {
+                    saveThread.set(Thread.currentThread().getName());
+                    return Mono.just(invocation.getArgument(0));
+                });
+
+        // When
+        Mono<PostUserResponse> result = userService.createUser(validRequest);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNextMatches(response -> response.getId() != null)
+                .verifyComplete();
+        assertThat(saveThread.get()).startsWith("password-hashing-");
     }
 
     @Test
     @DisplayName("Debe generar token JWT al crear usuario")
     void shouldGenerateJwtTokenWhenCreatingUser() {
         // Given
-        when(validationService.validateEmailAndPassword(anyString(), anyString()))
+        when(validationService.validateUser(any(PostUserRequest.class)))
                 .thenReturn(Mono.empty());
         when(reactiveUserRepository.existsByEmail(anyString()))
                 .thenReturn(Mono.just(false));
-        when(reactiveUserRepository.save(any(UserEntity.class)))
+        when(reactiveUserRepository.save(any(UserEntity.class), any(RefreshTokenEntity.class)))
                 .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
 
         // When
@@ -188,15 +335,61 @@ class UserServiceImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("No debe guardar el token JWT cuando el almacenamiento de tokens está desactivado")
+    void shouldNotStoreTokenByDefault() {
+        // Given
+        when(validationService.validateUser(any(PostUserRequest.class)))
+                .thenReturn(Mono.empty());
+        when(reactiveUserRepository.existsByEmail(anyString()))
+                .thenReturn(Mono.just(false));
+        when(reactiveUserRepository.save(any(UserEntity.class), any(RefreshTokenEntity.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When
+        Mono<PostUserResponse> result = userService.createUser(validRequest);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNextMatches(response -> response.getToken() != null)
+                .verifyComplete();
+        verifyNoInteractions(reactiveUserTokenRepository);
+    }
+
+    @Test
+    @DisplayName("Debe guardar el token JWT en user_tokens cuando el almacenamiento está activado")
+    void shouldStoreTokenWhenStorageIsEnabled() {
+        // Given
+        UserProperties storageProperties = new UserProperties();
+        storageProperties.getTokenStorage().setEnabled(true);
+        UserServiceImpl storageUserService = newUserService(storageProperties);
+        when(validationService.validateUser(any(PostUserRequest.class)))
+                .thenReturn(Mono.empty());
+        when(reactiveUserRepository.existsByEmail(anyString()))
+                .thenReturn(Mono.just(false));
+        when(reactiveUserRepository.save(any(UserEntity.class), any(RefreshTokenEntity.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(reactiveUserTokenRepository.save(any(UserTokenEntity.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When
+        PostUserResponse response = storageUserService.createUser(validRequest).block();
+
+        // Then
+        verify(reactiveUserTokenRepository).save(argThat(userToken ->
+                userToken.getUserId().equals(response.getId())
+                        && userToken.getToken().equals(response.getToken())));
+    }
+
     @Test
     @DisplayName("Debe establecer relación bidireccional con teléfonos")
     void shouldEstablishBidirectionalRelationshipWithPhones() {
         // Given
-        when(validationService.validateEmailAndPassword(anyString(), anyString()))
+        when(validationService.validateUser(any(PostUserRequest.class)))
                 .thenReturn(Mono.empty());
         when(reactiveUserRepository.existsByEmail(anyString()))
                 .thenReturn(Mono.just(false));
-        when(reactiveUserRepository.save(any(UserEntity.class)))
+        when(reactiveUserRepository.save(any(UserEntity.class), any(RefreshTokenEntity.class)))
                 .thenAnswer(invocation -> {
                     UserEntity savedUser = invocation.getArgument(0);
                     if (savedUser.getPhones() != null) {
@@ -221,15 +414,15 @@ class UserServiceImplTest {
     @DisplayName("Debe asignar UUID al usuario antes de guardar")
     void shouldAssignUuidToUserBeforeSaving() {
         // Given
-        when(validationService.validateEmailAndPassword(anyString(), anyString()))
+        when(validationService.validateUser(any(PostUserRequest.class)))
                 .thenReturn(Mono.empty());
         when(reactiveUserRepository.existsByEmail(anyString()))
                 .thenReturn(Mono.just(false));
-        when(reactiveUserRepository.save(any(UserEntity.class)))
+        AtomicReference<UserEntity> savedUser = new AtomicReference<>();
+        when(reactiveUserRepository.save(any(UserEntity.class), any(RefreshTokenEntity.class)))
                 .thenAnswer(invocation -> {
-                    UserEntity savedUser = invocation.getArgument(0);
-                    assert savedUser.getId() != null;
-                    return Mono.just(savedUser);
+                    savedUser.set(invocation.getArgument(0));
+                    return Mono.just(invocation.getArgument(0));
                 });
 
         // When
@@ -239,6 +432,11 @@ class UserServiceImplTest {
         StepVerifier.create(result)
                 .expectNextMatches(response -> response.getId() != null)
                 .verifyComplete();
+        assertThat(savedUser.get().getId()).isNotNull();
+        assertThat(savedUser.get().getId().version())
+                .as("El ID debe ser un UUIDv7 ordenado por tiempo")
+                .isEqualTo(7);
+        assertThat(savedUser.get().getPhones()).allMatch(phone -> phone.getId() != null);
     }
 
     @Test
@@ -251,11 +449,11 @@ class UserServiceImplTest {
         requestWithoutPhones.setPassword("Hunter2!");
         requestWithoutPhones.setPhones(null);
 
-        when(validationService.validateEmailAndPassword(anyString(), anyString()))
+        when(validationService.validateUser(any(PostUserRequest.class)))
                 .thenReturn(Mono.empty());
         when(reactiveUserRepository.existsByEmail(anyString()))
                 .thenReturn(Mono.just(false));
-        when(reactiveUserRepository.save(any(UserEntity.class)))
+        when(reactiveUserRepository.save(any(UserEntity.class), any(RefreshTokenEntity.class)))
                 .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
 
         // When
@@ -283,11 +481,11 @@ class UserServiceImplTest {
         request2.setPassword("Password2!");
         request2.setPhones(List.of());
 
-        when(validationService.validateEmailAndPassword(anyString(), anyString()))
+        when(validationService.validateUser(any(PostUserRequest.class)))
                 .thenReturn(Mono.empty());
         when(reactiveUserRepository.existsByEmail(anyString()))
                 .thenReturn(Mono.just(false));
-        when(reactiveUserRepository.save(any(UserEntity.class)))
+        when(reactiveUserRepository.save(any(UserEntity.class), any(RefreshTokenEntity.class)))
                 .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
 
         // When
@@ -310,11 +508,11 @@ class UserServiceImplTest {
     @DisplayName("Debe propagar errores del repositorio")
     void shouldPropagateRepositoryErrors() {
         // Given
-        when(validationService.validateEmailAndPassword(anyString(), anyString()))
+        when(validationService.validateUser(any(PostUserRequest.class)))
                 .thenReturn(Mono.empty());
         when(reactiveUserRepository.existsByEmail(anyString()))
                 .thenReturn(Mono.just(false));
-        when(reactiveUserRepository.save(any(UserEntity.class)))
+        when(reactiveUserRepository.save(any(UserEntity.class), any(RefreshTokenEntity.class)))
                 .thenReturn(Mono.error(new RuntimeException("Error de base de datos")));
 
         // When
@@ -331,11 +529,11 @@ class UserServiceImplTest {
     @DisplayName("Debe verificar que el password encriptado es válido con BCrypt")
     void shouldVerifyEncryptedPasswordIsValidWithBCrypt() {
         // Given
-        when(validationService.validateEmailAndPassword(anyString(), anyString()))
+        when(validationService.validateUser(any(PostUserRequest.class)))
                 .thenReturn(Mono.empty());
         when(reactiveUserRepository.existsByEmail(anyString()))
                 .thenReturn(Mono.just(false));
-        when(reactiveUserRepository.save(any(UserEntity.class)))
+        when(reactiveUserRepository.save(any(UserEntity.class), any(RefreshTokenEntity.class)))
                 .thenAnswer(invocation -> {
                     UserEntity savedUser = invocation.getArgument(0);
                     boolean matches = passwordEncoder.matches(validRequest.getPassword(), savedUser.getPassword());
@@ -351,4 +549,140 @@ class UserServiceImplTest {
                 .expectNextMatches(response -> response.getId() != null)
                 .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debe crear el lote reportando los usuarios inválidos o duplicados sin abortar el resto")
+    void shouldCreateBatchReportingFailedItems() {
+        // Given
+        PostUserRequest invalid = newRequest("invalid@example.com");
+        PostUserRequest existing = newRequest("existing@example.com");
+        PostUserRequest first = newRequest("first@example.com");
+        PostUserRequest repeated = newRequest("first@example.com");
+
+        when(validationService.validateUser(any(PostUserRequest.class)))
+                .thenReturn(Mono.empty());
+        when(validationService.validateUser(
+                argThat(request -> request != null && "invalid@example.com".equals(request.getEmail()))))
+                .thenReturn(Mono.error(new InvalidEmailFormatException("El formato del email no es válido")));
+        when(reactiveUserRepository.findExistingEmails(anyCollection()))
+                .thenReturn(Flux.just("existing@example.com"));
+        when(reactiveUserRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<UserEntity>>getArgument(0)));
+
+        // When
+        Mono<PostUsersBatchResponse> result = userService.createUsers(List.of(invalid, existing, first, repeated));
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertThat(response.getCreated()).isEqualTo(1);
+                    assertThat(response.getFailed()).isEqualTo(3);
+                    assertThat(response.getResults())
+                            .extracting(BatchUserResult::getStatus)
+                            .containsExactly(
+                                    BatchUserResult.StatusEnum.FAILED,
+                                    BatchUserResult.StatusEnum.FAILED,
+                                    BatchUserResult.StatusEnum.CREATED,
+                                    BatchUserResult.StatusEnum.FAILED);
+                    assertThat(response.getResults().get(1).getMessage()).isEqualTo("El correo ya está registrado");
+                    assertThat(response.getResults().get(2).getId()).isNotNull();
+                })
+                .verifyComplete();
+
+        verify(reactiveUserRepository).saveAll(argThat(users -> users.size() == 1));
+        verify(reactiveUserRepository, never()).save(any(UserEntity.class));
+    }
+
+    @Test
+    @DisplayName("Debe guardar usuario por usuario cuando falla la inserción en lote")
+    void shouldFallBackToSingleInsertsWhenBatchInsertFails() {
+        // Given
+        PostUserRequest first = newRequest("first@example.com");
+        PostUserRequest taken = newRequest("taken@example.com");
+
+        when(validationService.validateUser(any(PostUserRequest.class)))
+                .thenReturn(Mono.empty());
+        when(reactiveUserRepository.findExistingEmails(anyCollection()))
+                .thenReturn(Flux.empty());
+        when(reactiveUserRepository.saveAll(anyList()))
+                .thenReturn(Flux.error(new DataIntegrityViolationException("Unique index violation: IDX_EMAIL")));
+        when(reactiveUserRepository.save(any(UserEntity.class)))
+                .thenAnswer(invocation -> {
+                    UserEntity user = invocation.getArgument(0);
+                    return user.getEmail().equals("taken@example.com")
+                            ? Mono.error(new DataIntegrityViolationException("Unique index violation: IDX_EMAIL"))
+                            : Mono.just(user);
+                });
+
+        // When
+        Mono<PostUsersBatchResponse> result = userService.createUsers(List.of(first, taken));
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertThat(response.getCreated()).isEqualTo(1);
+                    assertThat(response.getFailed()).isEqualTo(1);
+                    assertThat(response.getResults().get(1).getMessage()).isEqualTo("El correo ya está registrado");
+                })
+                .verifyComplete();
+
+        verify(reactiveUserRepository, times(2)).save(any(UserEntity.class));
+    }
+
+    @Test
+    @DisplayName("Debe procesar el stream respetando el orden y la concurrencia configurada")
+    void shouldStreamResultsInOrderWithBoundedConcurrency() {
+        // Given
+        when(validationService.validateUser(any(PostUserRequest.class)))
+                .thenReturn(Mono.empty());
+        when(validationService.validateUser(
+                argThat(request -> request != null && "bad@example.com".equals(request.getEmail()))))
+                .thenReturn(Mono.error(new InvalidEmailFormatException("El formato del email no es válido")));
+        when(reactiveUserRepository.existsByEmail(anyString()))
+                .thenReturn(Mono.just(false));
+        when(reactiveUserRepository.save(any(UserEntity.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.<UserEntity>getArgument(0)));
+
+        AtomicLong maxRequested = new AtomicLong();
+        Flux<PostUserRequest> requests = Flux.range(0, 20)
+                .map(i -> newRequest(i == 5 ? "bad@example.com" : "stream-" + i + "@example.com"))
+                .doOnRequest(n -> maxRequested.accumulateAndGet(n, Math::max));
+
+        // When
+        Flux<BatchUserResult> result = userService.createUsersStream(requests);
+
+        // Then
+        StepVerifier.create(result.collectList())
+                .assertNext(results -> {
+                    assertThat(results).extracting(BatchUserResult::getIndex)
+                            .containsExactlyElementsOf(IntStream.range(0, 20).boxed().toList());
+                    assertThat(results.get(5).getStatus()).isEqualTo(BatchUserResult.StatusEnum.FAILED);
+                    assertThat(results.get(5).getMessage()).isEqualTo("El formato del email no es válido");
+                    assertThat(results).filteredOn(r -> r.getStatus() == BatchUserResult.StatusEnum.CREATED)
+                            .hasSize(19);
+                })
+                .verifyComplete();
+
+        assertThat(maxRequested.get())
+                .isLessThanOrEqualTo(userProperties.getStream().getHashingConcurrency());
+    }
+
+    /**
+     * Service wired like the Spring bean but with its own properties, so a
+     * test can change them without touching the shared context.
+     */
+    private UserServiceImpl newUserService(UserProperties properties) {
+        return new UserServiceImpl(validationService, reactiveUserRepository, passwordHashingService, jwtUtil,
+                userMapper, properties, emailMembershipFilter, idGenerator, refreshTokenService,
+                reactiveUserTokenRepository, hashingAdmissionController);
+    }
+
+    private PostUserRequest newRequest(String email) {
+        PostUserRequest request = new PostUserRequest();
+        request.setName("Juan Rodriguez");
+        request.setEmail(email);
+        request.setPassword("Hunter2!");
+        request.setPhones(List.of());
+        return request;
+    }
+}
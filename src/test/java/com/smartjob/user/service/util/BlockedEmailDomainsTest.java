@@ -0,0 +1,98 @@
+package com.smartjob.user.service.util;
+
+import com.smartjob.user.config.ValidationProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BlockedEmailDomains Tests")
+class BlockedEmailDomainsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Debe bloquear los dominios listados y sus subdominios")
+    void shouldBlockListedDomainsAndSubdomains() throws IOException {
+        // Given
+        Path file = tempDir.resolve("blocked-domains.txt");
+        Files.writeString(file, """
+                # desechables
+                mailinator.com
+                *.tempmail.io
+
+                Spam.Example.ORG.
+                """);
+
+        // When
+        BlockedEmailDomains domains = newDomains(file);
+
+        // Then
+        assertThat(domains.isBlocked("mailinator.com")).isTrue();
+        assertThat(domains.isBlocked("eu.mailinator.com")).isTrue();
+        assertThat(domains.isBlocked("TempMail.io")).isTrue();
+        assertThat(domains.isBlocked("spam.example.org")).isTrue();
+        assertThat(domains.isBlocked("example.org")).isFalse();
+        assertThat(domains.isBlocked("notmailinator.com")).isFalse();
+        assertThat(domains.isBlocked("com")).isFalse();
+        assertThat(domains.isBlocked("gmail.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe recargar la lista cuando cambia el archivo")
+    void shouldReloadWhenFileChanges() throws IOException {
+        // Given
+        Path file = tempDir.resolve("blocked-domains.txt");
+        Files.writeString(file, "mailinator.com\n");
+        BlockedEmailDomains domains = newDomains(file);
+
+        // When
+        Files.writeString(file, "yopmail.com\n");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+        domains.reloadIfChanged();
+
+        // Then
+        assertThat(domains.isBlocked("mailinator.com")).isFalse();
+        assertThat(domains.isBlocked("yopmail.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe mantener la lista actual si el archivo desaparece")
+    void shouldKeepListWhenFileIsMissing() throws IOException {
+        // Given
+        Path file = tempDir.resolve("blocked-domains.txt");
+        Files.writeString(file, "mailinator.com\n");
+        BlockedEmailDomains domains = newDomains(file);
+
+        // When
+        Files.delete(file);
+        domains.reloadIfChanged();
+
+        // Then
+        assertThat(domains.isBlocked("mailinator.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe aceptar cualquier dominio si no hay archivo configurado")
+    void shouldAcceptEveryDomainWithoutFile() {
+        // Given
+        BlockedEmailDomains domains = new BlockedEmailDomains(new ValidationProperties());
+
+        // When / Then
+        assertThat(domains.isBlocked("mailinator.com")).isFalse();
+    }
+
+    private static BlockedEmailDomains newDomains(Path file) {
+        ValidationProperties validationProperties = new ValidationProperties();
+        validationProperties.getBlockedDomains().setFile(file.toString());
+        return new BlockedEmailDomains(validationProperties);
+    }
+}
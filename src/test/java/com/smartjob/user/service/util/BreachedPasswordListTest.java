@@ -0,0 +1,82 @@
+package com.smartjob.user.service.util;
+
+import com.smartjob.user.config.ValidationProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BreachedPasswordList Tests")
+class BreachedPasswordListTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Debe encontrar las contraseñas filtradas y no las demás")
+    void shouldFindBreachedPasswordsOnly() throws IOException {
+        // Given: enough entries for the prefixes to span both signs of a long
+        String[] breached = IntStream.range(0, 1_000)
+                .mapToObj(i -> "Filtrada" + i + "!")
+                .toArray(String[]::new);
+        BreachedPasswordList list = newList(write(breached));
+
+        // When / Then
+        assertThat(list.isEnabled()).isTrue();
+        assertThat(list.size()).isEqualTo(1_000);
+        assertThat(breached).allMatch(list::contains);
+        assertThat(IntStream.range(0, 1_000).mapToObj(i -> "Segura" + i + "?"))
+                .noneMatch(list::contains);
+    }
+
+    @Test
+    @DisplayName("Debe aceptar cualquier contraseña si no hay archivo configurado")
+    void shouldAcceptEveryPasswordWithoutFile() {
+        // Given
+        BreachedPasswordList list = new BreachedPasswordList(new ValidationProperties());
+
+        // When / Then
+        assertThat(list.isEnabled()).isFalse();
+        assertThat(list.contains("Password1!")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un archivo cuyo tamaño no es múltiplo de 8 bytes")
+    void shouldRejectTruncatedFile() throws IOException {
+        // Given
+        Path file = tempDir.resolve("truncated.bin");
+        Files.write(file, new byte[12]);
+
+        // When / Then
+        assertThatThrownBy(() -> newList(file))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("múltiplo de 8 bytes");
+    }
+
+    private Path write(String... passwords) throws IOException {
+        long[] prefixes = Arrays.stream(passwords).mapToLong(BreachedPasswordList::prefix).toArray();
+        // unsigned order, as in the published hash lists
+        long[] sorted = Arrays.stream(prefixes).map(p -> p ^ Long.MIN_VALUE).sorted()
+                .map(p -> p ^ Long.MIN_VALUE).toArray();
+        ByteBuffer buffer = ByteBuffer.allocate(sorted.length * BreachedPasswordList.ENTRY_BYTES);
+        buffer.asLongBuffer().put(sorted);
+        Path file = tempDir.resolve("breached.bin");
+        Files.write(file, buffer.array());
+        return file;
+    }
+
+    private static BreachedPasswordList newList(Path file) {
+        ValidationProperties validationProperties = new ValidationProperties();
+        validationProperties.getBreachedPasswords().setFile(file.toString());
+        return new BreachedPasswordList(validationProperties);
+    }
+}
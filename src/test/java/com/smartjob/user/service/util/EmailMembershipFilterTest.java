@@ -0,0 +1,80 @@
+package com.smartjob.user.service.util;
+
+import com.smartjob.user.config.UserProperties;
+import com.smartjob.user.repository.ReactiveUserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("EmailMembershipFilter Tests")
+class EmailMembershipFilterTest {
+
+    private ReactiveUserRepository reactiveUserRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private EmailMembershipFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        UserProperties userProperties = new UserProperties();
+        userProperties.getEmailFilter().setExpectedInsertions(10_000);
+        userProperties.getEmailFilter().setFalsePositiveProbability(0.01);
+
+        reactiveUserRepository = mock(ReactiveUserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new EmailMembershipFilter(userProperties, reactiveUserRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Debe responder 'quizás presente' mientras no se haya cargado")
+    void shouldReportMaybePresentBeforeWarmUp() {
+        assertThat(filter.mightContain("nuevo@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe contener los emails cargados al iniciar y los añadidos después")
+    void shouldContainWarmedAndAddedEmails() {
+        // Given
+        when(reactiveUserRepository.findAllEmails(anyInt()))
+                .thenReturn(Flux.just("juan@rodriguez.org", "ana@example.com"));
+
+        // When
+        filter.warmUp();
+        filter.add("pedro@example.com");
+
+        // Then
+        assertThat(filter.mightContain("juan@rodriguez.org")).isTrue();
+        assertThat(filter.mightContain("ana@example.com")).isTrue();
+        assertThat(filter.mightContain("pedro@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe mantener la tasa de falsos positivos cerca de la configurada")
+    void shouldKeepFalsePositiveRateNearConfiguredValue() {
+        // Given
+        when(reactiveUserRepository.findAllEmails(anyInt())).thenReturn(Flux.empty());
+        filter.warmUp();
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("registrado" + i + "@example.com");
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("ausente" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(falsePositives).isLessThan(300);
+        assertThat(meterRegistry.get("users.email.filter.checks").tag("result", "absent").counter().count())
+                .isEqualTo(10_000 - falsePositives);
+    }
+}
@@ -0,0 +1,182 @@
+package com.smartjob.user.service.util;
+
+import com.smartjob.user.config.HashingProperties;
+import com.smartjob.user.exception.HashingCapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HashingAdmissionController Tests")
+class HashingAdmissionControllerTest {
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    private HashingProperties hashingProperties;
+    private HashingAdmissionController admissionController;
+
+    @BeforeEach
+    void setUp() {
+        hashingProperties = new HashingProperties();
+        hashingProperties.setThreads(4);
+        hashingProperties.setQueueCapacity(64);
+        hashingProperties.getAdmission().setMaxQueueWait(Duration.ofMillis(500));
+        admissionController = new HashingAdmissionController(
+                hashingProperties, passwordHashingService, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Debe admitir hasta la capacidad del pool mientras no hay latencia medida")
+    void shouldUsePoolCapacityWithoutMeasuredLatency() {
+        // Given
+        when(passwordHashingService.averageHashNanos()).thenReturn(0L);
+
+        // When / Then
+        assertThat(admissionController.currentLimit()).isEqualTo(68);
+    }
+
+    @Test
+    @DisplayName("Debe dejar cola según la espera máxima y la latencia promedio")
+    void shouldDeriveQueueAllowanceFromLatency() {
+        // Given: 4 threads, 100 ms per hash, 500 ms of allowed wait -> 20 queued
+        when(passwordHashingService.averageHashNanos()).thenReturn(TimeUnit.MILLISECONDS.toNanos(100));
+
+        // When / Then
+        assertThat(admissionController.currentLimit()).isEqualTo(24);
+    }
+
+    @Test
+    @DisplayName("Debe mantener cola aunque un hash tarde más que la espera máxima")
+    void shouldKeepQueueWhenHashIsSlowerThanMaxQueueWait() {
+        // Given: 4 threads, 1 s per hash, 500 ms of allowed wait -> 2 queued
+        when(passwordHashingService.averageHashNanos()).thenReturn(TimeUnit.SECONDS.toNanos(1));
+
+        // When / Then
+        assertThat(admissionController.currentLimit()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Debe limitar el límite a la capacidad del pool")
+    void shouldCapLimitAtPoolCapacity() {
+        // Given
+        when(passwordHashingService.averageHashNanos()).thenReturn(TimeUnit.MILLISECONDS.toNanos(1));
+
+        // When / Then
+        assertThat(admissionController.currentLimit()).isEqualTo(68);
+    }
+
+    @Test
+    @DisplayName("Debe estimar el reintento según el trabajo admitido y rechazar por encima del límite")
+    void shouldEstimateRetryAfterAndRejectAboveLimit() {
+        // Given: limit 6, each hash 1 s on 4 threads
+        when(passwordHashingService.averageHashNanos()).thenReturn(TimeUnit.SECONDS.toNanos(1));
+        assertThat(admissionController.retryAfterSeconds()).isEqualTo(1);
+        Disposable[] admitted = IntStream.range(0, 6)
+                .mapToObj(i -> admissionController.admit(Mono.never()).subscribe())
+                .toArray(Disposable[]::new);
+
+        // When / Then: 6 in flight drain in ceil(6 / 4) = 2 s
+        assertThat(admissionController.retryAfterSeconds()).isEqualTo(2);
+        StepVerifier.create(admissionController.admit(Mono.just("hash")))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(HashingCapacityExceededException.class)
+                        .extracting("retryAfterSeconds").isEqualTo(2L))
+                .verify();
+
+        for (Disposable disposable : admitted) {
+            disposable.dispose();
+        }
+        StepVerifier.create(admissionController.admit(Mono.just("hash")))
+                .expectNext("hash")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe reservar un hueco por hash concurrente y liberarlos al terminar")
+    void shouldTakeOneSlotPerPermit() {
+        // Given: limit 6, a batch hashing 4 passwords at a time
+        when(passwordHashingService.averageHashNanos()).thenReturn(TimeUnit.SECONDS.toNanos(1));
+        Disposable batch = admissionController.admit(Mono.never(), 4).subscribe();
+
+        // When / Then: only 2 slots are left
+        StepVerifier.create(admissionController.admit(Mono.just("batch"), 4))
+                .expectError(HashingCapacityExceededException.class)
+                .verify();
+        StepVerifier.create(admissionController.admit(Mono.just("hash"), 2))
+                .expectNext("hash")
+                .verifyComplete();
+
+        batch.dispose();
+        StepVerifier.create(admissionController.admit(Mono.just("batch"), 4))
+                .expectNext("batch")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe admitir con el pool libre aunque se pidan más huecos que el límite")
+    void shouldCapPermitsAtLimit() {
+        // Given: limit 6
+        when(passwordHashingService.averageHashNanos()).thenReturn(TimeUnit.SECONDS.toNanos(1));
+
+        // When / Then
+        StepVerifier.create(admissionController.admit(Mono.just("batch"), 100))
+                .expectNext("batch")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe esperar un hueco libre en lugar de rechazar")
+    void shouldWaitForSlotWhenAdmittingWhenAvailable() {
+        // Given: limit 6, all taken
+        when(passwordHashingService.averageHashNanos()).thenReturn(TimeUnit.SECONDS.toNanos(1));
+        Disposable[] admitted = IntStream.range(0, 6)
+                .mapToObj(i -> admissionController.admit(Mono.never()).subscribe())
+                .toArray(Disposable[]::new);
+
+        // When / Then
+        StepVerifier.create(admissionController.admitWhenAvailable(Mono.just("hash"), Duration.ofSeconds(5)))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(50))
+                .then(admitted[0]::dispose)
+                .expectNext("hash")
+                .verifyComplete();
+
+        for (Disposable disposable : admitted) {
+            disposable.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe rechazar cuando no se libera un hueco a tiempo")
+    void shouldRejectWhenNoSlotFreesUpInTime() {
+        // Given: limit 6, all taken
+        when(passwordHashingService.averageHashNanos()).thenReturn(TimeUnit.SECONDS.toNanos(1));
+        Disposable[] admitted = IntStream.range(0, 6)
+                .mapToObj(i -> admissionController.admit(Mono.never()).subscribe())
+                .toArray(Disposable[]::new);
+
+        // When / Then
+        StepVerifier.create(admissionController.admitWhenAvailable(Mono.just("hash"), Duration.ofMillis(100)))
+                .expectError(HashingCapacityExceededException.class)
+                .verify(Duration.ofSeconds(5));
+
+        for (Disposable disposable : admitted) {
+            disposable.dispose();
+        }
+    }
+}
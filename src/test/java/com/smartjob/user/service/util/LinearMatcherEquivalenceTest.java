@@ -0,0 +1,109 @@
+package com.smartjob.user.service.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the hand-written matchers accept exactly the values their
+ * regex accepts, on hand-picked edge cases and on random values.
+ */
+@DisplayName("Linear matchers equivalence Tests")
+class LinearMatcherEquivalenceTest {
+
+    private static final String EMAIL_ALPHABET = "aZ09._%+-@#\n";
+    private static final String PASSWORD_ALPHABET = "aZ09@$!%*?&#-é \n";
+    private static final int RANDOM_VALUES = 200_000;
+
+    private final RuleMatcher emailRegex = RuleMatcher.regex(Pattern.compile(LinearEmailMatcher.PATTERN));
+    private final RuleMatcher passwordRegex = RuleMatcher.regex(Pattern.compile(LinearPasswordMatcher.PATTERN));
+    private final RuleMatcher emailLinear = new LinearEmailMatcher();
+    private final RuleMatcher passwordLinear = new LinearPasswordMatcher();
+
+    @Test
+    @DisplayName("Debe coincidir con la regex de email en los casos límite")
+    void shouldMatchEmailRegexOnEdgeCases() {
+        List<String> values = List.of("", "a@b.co", "test@example.com", "a.b+c%d_e-f@sub.example.org",
+                "a@b.c", "a@.co", "@b.co", "a@b", "a@b.co\n", "a@b-1.co", "a@b.c1", "a@@b.co",
+                "a@b..co", "a@b.co.", "a@b.co-", "a b@c.co", "ñ@b.co", "a@b.có", "a@1.23", "a@b.c-o");
+
+        for (String value : values) {
+            assertThat(emailLinear.matches(value)).as(value).isEqualTo(emailRegex.matches(value));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con la regex de contraseña en los casos límite")
+    void shouldMatchPasswordRegexOnEdgeCases() {
+        List<String> values = List.of("", "Hunter2!", "Hunter2", "hunter2!x", "HUNTER2!X", "Hunterxx!",
+                "Hunter22x", "Hunter2!\n", "Hunter 2!", "Húnter2!x", "Abcdef123456$", "aA1@aA1@",
+                "aA1-aA1-aA1-", "aA1@aA1");
+
+        for (String value : values) {
+            assertThat(passwordLinear.matches(value)).as(value).isEqualTo(passwordRegex.matches(value));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con la regex de email en valores aleatorios")
+    void shouldMatchEmailRegexOnRandomValues() {
+        Random random = new Random(7);
+        int accepted = 0;
+        for (int i = 0; i < RANDOM_VALUES; i++) {
+            String value = randomEmail(random);
+            boolean expected = emailRegex.matches(value);
+            assertThat(emailLinear.matches(value)).as(value).isEqualTo(expected);
+            accepted += expected ? 1 : 0;
+        }
+        // Sanity check: the generator produces valid addresses too
+        assertThat(accepted).isPositive();
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con la regex de contraseña en valores aleatorios")
+    void shouldMatchPasswordRegexOnRandomValues() {
+        Random random = new Random(11);
+        int accepted = 0;
+        for (int i = 0; i < RANDOM_VALUES; i++) {
+            String value = randomString(random, PASSWORD_ALPHABET, random.nextInt(14));
+            boolean expected = passwordRegex.matches(value);
+            assertThat(passwordLinear.matches(value)).as(value).isEqualTo(expected);
+            accepted += expected ? 1 : 0;
+        }
+        assertThat(accepted).isPositive();
+    }
+
+    /**
+     * Random value shaped like an address (local part, {@code @}, domain,
+     * maybe a dot and a short suffix) so that a useful share of them are
+     * valid.
+     */
+    private static String randomEmail(Random random) {
+        StringBuilder value = new StringBuilder()
+                .append(randomString(random, EMAIL_ALPHABET, 1 + random.nextInt(4)))
+                .append('@')
+                .append(randomString(random, EMAIL_ALPHABET, random.nextInt(5)));
+        if (random.nextBoolean()) {
+            value.append('.');
+        }
+        for (int i = random.nextInt(4); i > 0; i--) {
+            value.append(random.nextBoolean()
+                    ? (char) ('a' + random.nextInt(26))
+                    : EMAIL_ALPHABET.charAt(random.nextInt(EMAIL_ALPHABET.length())));
+        }
+        return value.toString();
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder value = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            value.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return value.toString();
+    }
+}
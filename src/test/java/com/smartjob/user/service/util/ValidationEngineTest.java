@@ -0,0 +1,98 @@
+package com.smartjob.user.service.util;
+
+import com.smartjob.user.config.ValidationConfigValidator;
+import com.smartjob.user.config.ValidationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ValidationEngine Tests")
+class ValidationEngineTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ValidationProperties validationProperties;
+
+    @BeforeEach
+    void setUp() {
+        validationProperties = new ValidationProperties();
+        validationProperties.setEmail(new ValidationProperties.ValidationRule(
+                LinearEmailMatcher.PATTERN, "El formato del email no es válido"));
+        validationProperties.setPassword(new ValidationProperties.ValidationRule(
+                LinearPasswordMatcher.PATTERN, "La contraseña no es válida"));
+    }
+
+    @Test
+    @DisplayName("Debe usar los validadores lineales solo para los patrones por defecto")
+    void shouldUseLinearMatchersOnlyForBuiltInPatterns() {
+        // Given
+        validationProperties.setEngine(ValidationProperties.Engine.LINEAR);
+        validationProperties.getPassword().setPattern("^.{4,}$");
+
+        // When
+        ValidationEngine.Rules rules = newEngine().rules();
+
+        // Then
+        assertThat(rules.email().matcher()).isInstanceOf(LinearEmailMatcher.class);
+        assertThat(rules.password().matcher()).isNotInstanceOf(LinearPasswordMatcher.class);
+        assertThat(rules.password().matches("abcd")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe reemplazar las reglas cuando cambia el archivo de reglas")
+    void shouldSwapRulesWhenRulesFileChanges() throws IOException {
+        // Given
+        Path rulesFile = tempDir.resolve("validation.properties");
+        Files.writeString(rulesFile, "email.message=Email rechazado\n");
+        validationProperties.setRulesFile(rulesFile.toString());
+        ValidationEngine engine = newEngine();
+        ValidationEngine.Rules before = engine.rules();
+
+        // When: only corporate addresses, written with escaped backslashes
+        Files.writeString(rulesFile, "email.pattern=^[a-z]+@empresa\\\\.com$\n");
+        Files.setLastModifiedTime(rulesFile, FileTime.from(Instant.now().plusSeconds(5)));
+        engine.reloadIfChanged();
+
+        // Then
+        ValidationEngine.Rules after = engine.rules();
+        assertThat(before.email().message()).isEqualTo("Email rechazado");
+        assertThat(before.email().matches("juan@rodriguez.org")).isTrue();
+        assertThat(after.email().matches("juan@rodriguez.org")).isFalse();
+        assertThat(after.email().matches("juan@empresa.com")).isTrue();
+        assertThat(after.email().message()).isEqualTo("El formato del email no es válido");
+        assertThat(after.password()).isNotSameAs(before.password());
+    }
+
+    @Test
+    @DisplayName("Debe conservar las reglas actuales si el archivo nuevo es inválido")
+    void shouldKeepRulesWhenRulesFileIsInvalid() throws IOException {
+        // Given
+        Path rulesFile = tempDir.resolve("validation.properties");
+        Files.writeString(rulesFile, "");
+        validationProperties.setRulesFile(rulesFile.toString());
+        ValidationEngine engine = newEngine();
+        ValidationEngine.Rules before = engine.rules();
+
+        // When
+        Files.writeString(rulesFile, "password.pattern=[a-z\n");
+        Files.setLastModifiedTime(rulesFile, FileTime.from(Instant.now().plusSeconds(5)));
+        engine.reloadIfChanged();
+
+        // Then
+        assertThat(engine.rules()).isSameAs(before);
+    }
+
+    private ValidationEngine newEngine() {
+        return new ValidationEngine(validationProperties, new ValidationConfigValidator(validationProperties));
+    }
+}
@@ -1,7 +1,8 @@
 package com.smartjob.user.service.util;
 
-import com.smartjob.user.exception.InvalidEmailFormatException;
-import com.smartjob.user.exception.InvalidPasswordFormatException;
+import com.smartjob.user.dto.Phone;
+import com.smartjob.user.dto.PostUserRequest;
+import com.smartjob.user.exception.InvalidUserDataException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +11,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
 @SpringBootTest
 @DisplayName("ValidationService Tests")
 class ValidationServiceTest {
@@ -24,27 +30,36 @@ class ValidationServiceTest {
         String validEmail = "test@example.com";
 
         // When
-        Mono<Void> result = validationService.validateEmail(validEmail);
+        List<String> result = emailViolations(validEmail);
 
         // Then
-        StepVerifier.create(result)
-                .verifyComplete();
+        assertThat(result).isEmpty();
     }
 
     @Test
-    @DisplayName("Debe lanzar excepción para email inválido")
+    @DisplayName("Debe rechazar email inválido")
     void shouldThrowExceptionForInvalidEmail() {
         // Given
         String invalidEmail = "invalid-email";
 
         // When
-        Mono<Void> result = validationService.validateEmail(invalidEmail);
+        List<String> result = emailViolations(invalidEmail);
 
         // Then
-        StepVerifier.create(result)
-                .expectErrorMatches(throwable -> throwable instanceof InvalidEmailFormatException &&
-                        throwable.getMessage().equals("El formato del email no es válido"))
-                .verify();
+        assertThat(result).containsExactly("no es un email válido");
+    }
+
+    @Test
+    @DisplayName("Debe aplicar el patrón configurado al email que cumple el esquema")
+    void shouldApplyConfiguredPatternToEmailThatPassesSchema() {
+        // Given: a valid address for Bean Validation, without the top-level domain the configured rule requires
+        String email = "juan@localhost";
+
+        // When
+        List<String> result = emailViolations(email);
+
+        // Then
+        assertThat(result).containsExactly("El formato del email no es válido");
     }
 
     @Test
@@ -54,59 +69,49 @@ class ValidationServiceTest {
         String invalidEmail = "test@";
 
         // When
-        Mono<Void> result = validationService.validateEmail(invalidEmail);
+        List<String> result = emailViolations(invalidEmail);
 
         // Then
-        StepVerifier.create(result)
-                .expectError(InvalidEmailFormatException.class)
-                .verify();
+        assertThat(result).hasSize(1);
     }
 
     @Test
-    @DisplayName("Debe lanzar excepción para email sin @")
+    @DisplayName("Debe rechazar email sin @")
     void shouldThrowExceptionForEmailWithoutAt() {
         // Given
         String invalidEmail = "testexample.com";
 
         // When
-        Mono<Void> result = validationService.validateEmail(invalidEmail);
+        List<String> result = emailViolations(invalidEmail);
 
         // Then
-        StepVerifier.create(result)
-                .expectError(InvalidEmailFormatException.class)
-                .verify();
+        assertThat(result).hasSize(1);
     }
 
     @Test
-    @DisplayName("Debe lanzar excepción para email vacío")
+    @DisplayName("Debe rechazar email vacío")
     void shouldThrowExceptionForEmptyEmail() {
         // Given
         String emptyEmail = "";
 
         // When
-        Mono<Void> result = validationService.validateEmail(emptyEmail);
+        List<String> result = emailViolations(emptyEmail);
 
         // Then
-        StepVerifier.create(result)
-                .expectErrorMatches(throwable -> throwable instanceof InvalidEmailFormatException &&
-                        throwable.getMessage().equals("El email es obligatorio"))
-                .verify();
+        assertThat(result).containsExactly("el tamaño debe estar entre 10 y 75");
     }
 
     @Test
-    @DisplayName("Debe lanzar excepción para email null")
+    @DisplayName("Debe rechazar email null")
     void shouldThrowExceptionForNullEmail() {
         // Given
         String nullEmail = null;
 
         // When
-        Mono<Void> result = validationService.validateEmail(nullEmail);
+        List<String> result = emailViolations(nullEmail);
 
         // Then
-        StepVerifier.create(result)
-                .expectErrorMatches(throwable -> throwable instanceof InvalidEmailFormatException &&
-                        throwable.getMessage().equals("El email es obligatorio"))
-                .verify();
+        assertThat(result).containsExactly("es obligatorio");
     }
 
     @Test
@@ -116,118 +121,101 @@ class ValidationServiceTest {
         String validPassword = "Password123!";
 
         // When
-        Mono<Void> result = validationService.validatePassword(validPassword);
+        List<String> result = passwordViolations(validPassword);
 
         // Then
-        StepVerifier.create(result)
-                .verifyComplete();
+        assertThat(result).isEmpty();
     }
 
     @Test
-    @DisplayName("Debe lanzar excepción para contraseña sin mayúscula")
+    @DisplayName("Debe rechazar contraseña sin mayúscula")
     void shouldThrowExceptionForPasswordWithoutUppercase() {
         // Given
         String invalidPassword = "password123!";
 
         // When
-        Mono<Void> result = validationService.validatePassword(invalidPassword);
+        List<String> result = passwordViolations(invalidPassword);
 
         // Then
-        StepVerifier.create(result)
-                .expectError(InvalidPasswordFormatException.class)
-                .verify();
+        assertThat(result).hasSize(1);
     }
 
     @Test
-    @DisplayName("Debe lanzar excepción para contraseña sin minúscula")
+    @DisplayName("Debe rechazar contraseña sin minúscula")
     void shouldThrowExceptionForPasswordWithoutLowercase() {
         // Given
         String invalidPassword = "PASSWORD123!";
 
         // When
-        Mono<Void> result = validationService.validatePassword(invalidPassword);
+        List<String> result = passwordViolations(invalidPassword);
 
         // Then
-        StepVerifier.create(result)
-                .expectError(InvalidPasswordFormatException.class)
-                .verify();
+        assertThat(result).hasSize(1);
     }
 
     @Test
-    @DisplayName("Debe lanzar excepción para contraseña sin número")
+    @DisplayName("Debe rechazar contraseña sin número")
     void shouldThrowExceptionForPasswordWithoutNumber() {
         // Given
         String invalidPassword = "Password!";
 
         // When
-        Mono<Void> result = validationService.validatePassword(invalidPassword);
+        List<String> result = passwordViolations(invalidPassword);
 
         // Then
-        StepVerifier.create(result)
-                .expectError(InvalidPasswordFormatException.class)
-                .verify();
+        assertThat(result).hasSize(1);
     }
 
     @Test
-    @DisplayName("Debe lanzar excepción para contraseña sin carácter especial")
+    @DisplayName("Debe rechazar contraseña sin carácter especial")
     void shouldThrowExceptionForPasswordWithoutSpecialChar() {
         // Given
         String invalidPassword = "Password123";
 
         // When
-        Mono<Void> result = validationService.validatePassword(invalidPassword);
+        List<String> result = passwordViolations(invalidPassword);
 
         // Then
-        StepVerifier.create(result)
-                .expectError(InvalidPasswordFormatException.class)
-                .verify();
+        assertThat(result).hasSize(1);
     }
 
     @Test
-    @DisplayName("Debe lanzar excepción para contraseña muy corta")
+    @DisplayName("Debe rechazar contraseña muy corta")
     void shouldThrowExceptionForShortPassword() {
         // Given
         String invalidPassword = "Pass1!";
 
         // When
-        Mono<Void> result = validationService.validatePassword(invalidPassword);
+        List<String> result = passwordViolations(invalidPassword);
 
         // Then
-        StepVerifier.create(result)
-                .expectError(InvalidPasswordFormatException.class)
-                .verify();
+        assertThat(result).hasSize(1);
     }
 
     @Test
-    @DisplayName("Debe lanzar excepción para contraseña vacía")
+    @DisplayName("Debe rechazar contraseña vacía")
     void shouldThrowExceptionForEmptyPassword() {
         // Given
         String emptyPassword = "";
 
         // When
-        Mono<Void> result = validationService.validatePassword(emptyPassword);
+        List<String> result = passwordViolations(emptyPassword);
 
         // Then
-        StepVerifier.create(result)
-                .expectErrorMatches(throwable -> throwable instanceof InvalidPasswordFormatException &&
-                        throwable.getMessage().equals("La contraseña es obligatoria"))
-                .verify();
+        assertThat(result).containsExactly("La contraseña es obligatoria");
     }
 
     @Test
-    @DisplayName("Debe lanzar excepción para contraseña null")
+    @DisplayName("Debe rechazar contraseña null")
     void shouldThrowExceptionForNullPassword() {
         // Given
         String nullPassword = null;
 
         // When
-        Mono<Void> result = validationService.validatePassword(nullPassword);
+        List<String> result = passwordViolations(nullPassword);
 
         // Then
-        StepVerifier.create(result)
-                .expectErrorMatches(throwable -> throwable instanceof InvalidPasswordFormatException &&
-                        throwable.getMessage().equals("La contraseña es obligatoria"))
-                .verify();
+        assertThat(result).containsExactly("es obligatorio");
     }
 
     @Test
@@ -244,10 +232,9 @@ class ValidationServiceTest {
 
         // When & Then
         for (String password : validPasswords) {
-            Mono<Void> result = validationService.validatePassword(password);
+            List<String> result = passwordViolations(password);
 
-            StepVerifier.create(result)
-                    .verifyComplete();
+            assertThat(result).isEmpty();
         }
     }
 
@@ -264,10 +251,9 @@ class ValidationServiceTest {
 
         // When & Then
         for (String email : validEmails) {
-            Mono<Void> result = validationService.validateEmail(email);
+            List<String> result = emailViolations(email);
 
-            StepVerifier.create(result)
-                    .verifyComplete();
+            assertThat(result).isEmpty();
         }
     }
 
@@ -279,11 +265,10 @@ class ValidationServiceTest {
         String validPassword = "Password123!";
 
         // When
-        Mono<Void> result = validationService.validateEmailAndPassword(validEmail, validPassword);
+        ValidationResult result = validationService.validate(validRequest().email(validEmail).password(validPassword));
 
         // Then
-        StepVerifier.create(result)
-                .verifyComplete();
+        assertThat(result.isValid()).isTrue();
     }
 
     @Test
@@ -294,12 +279,12 @@ class ValidationServiceTest {
         String validPassword = "Password123!";
 
         // When
-        Mono<Void> result = validationService.validateEmailAndPassword(invalidEmail, validPassword);
+        ValidationResult result = validationService.validate(validRequest().email(invalidEmail).password(validPassword));
 
         // Then
-        StepVerifier.create(result)
-                .expectError(InvalidEmailFormatException.class)
-                .verify();
+        assertThat(result.getViolations())
+                .extracting(ValidationResult.Violation::field)
+                .containsExactly("email");
     }
 
     @Test
@@ -310,11 +295,135 @@ class ValidationServiceTest {
         String invalidPassword = "weak";
 
         // When
-        Mono<Void> result = validationService.validateEmailAndPassword(validEmail, invalidPassword);
+        ValidationResult result = validationService.validate(validRequest().email(validEmail).password(invalidPassword));
+
+        // Then
+        assertThat(result.getViolations())
+                .extracting(ValidationResult.Violation::field)
+                .containsExactly("password");
+    }
+
+    @Test
+    @DisplayName("Debe reportar todos los campos inválidos en una sola validación")
+    void shouldReportEveryInvalidFieldAtOnce() {
+        // Given
+        PostUserRequest request = new PostUserRequest()
+                .name("")
+                .email("invalid-email")
+                .password("weak")
+                .phones(List.of(new Phone().number("1234567").countryCode("5x")));
+
+        // When
+        ValidationResult result = validationService.validate(request);
+
+        // Then
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getViolations())
+                .extracting(ValidationResult.Violation::field)
+                .containsExactly("name", "email", "password", "phones[0].countryCode");
+    }
+
+    @Test
+    @DisplayName("Debe emitir un único error con todas las violaciones")
+    void shouldEmitSingleErrorWithEveryViolation() {
+        // Given
+        PostUserRequest request = new PostUserRequest()
+                .name("Juan Rodriguez")
+                .email("invalid-email")
+                .password("weak")
+                .phones(List.of());
+
+        // When
+        Mono<Void> result = validationService.validateUser(request);
 
         // Then
         StepVerifier.create(result)
-                .expectError(InvalidPasswordFormatException.class)
+                .expectErrorSatisfies(throwable -> {
+                    assertThat(throwable).isInstanceOf(InvalidUserDataException.class);
+                    assertThat(((InvalidUserDataException) throwable).getViolations())
+                            .extracting(ValidationResult.Violation::field)
+                            .containsExactly("email", "password");
+                })
                 .verify();
     }
+
+    @Test
+    @DisplayName("Debe aceptar una solicitud válida")
+    void shouldAcceptValidRequest() {
+        // Given
+        PostUserRequest request = new PostUserRequest()
+                .name("Juan Rodriguez")
+                .email("juan@rodriguez.org")
+                .password("Hunter2!")
+                .phones(List.of(new Phone().number("1234567").cityCode("1").countryCode("57")));
+
+        // When
+        Mono<Void> result = validationService.validateUser(request);
+
+        // Then
+        StepVerifier.create(result)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe validar longitudes y patrones del esquema OpenAPI")
+    void shouldValidateOpenApiSchemaConstraints() {
+        // Given
+        PostUserRequest request = validRequest()
+                .name("Juan-Rodriguez")
+                .phones(List.of(
+                        new Phone().number("12345").cityCode("123456").countryCode("1234"),
+                        new Phone().number("1234567").cityCode("").countryCode("57")));
+
+        // When
+        ValidationResult result = validationService.validate(request);
+
+        // Then
+        assertThat(result.getViolations())
+                .extracting(ValidationResult.Violation::field, ValidationResult.Violation::message)
+                .containsExactly(
+                        tuple("name", "tiene caracteres no permitidos"),
+                        tuple("phones[0].number", "el tamaño debe estar entre 6 y 15"),
+                        tuple("phones[0].cityCode", "el tamaño debe estar entre 1 y 5"),
+                        tuple("phones[0].countryCode", "el tamaño debe estar entre 1 y 3"),
+                        tuple("phones[1].cityCode", "el tamaño debe estar entre 1 y 5, tiene caracteres no permitidos"));
+    }
+
+    @Test
+    @DisplayName("Debe exigir nombre de al menos 5 caracteres y teléfonos")
+    void shouldRequireNameMinLengthAndPhones() {
+        // Given
+        PostUserRequest request = validRequest().name("Ana").phones(null);
+
+        // When
+        ValidationResult result = validationService.validate(request);
+
+        // Then
+        assertThat(result.getViolations())
+                .extracting(ValidationResult.Violation::field)
+                .containsExactly("name", "phones");
+    }
+
+    private List<String> emailViolations(String email) {
+        return violations(validRequest().email(email), "email");
+    }
+
+    private List<String> passwordViolations(String password) {
+        return violations(validRequest().password(password), "password");
+    }
+
+    private List<String> violations(PostUserRequest request, String field) {
+        return validationService.validate(request).getViolations().stream()
+                .filter(violation -> violation.field().equals(field))
+                .map(ValidationResult.Violation::message)
+                .toList();
+    }
+
+    private static PostUserRequest validRequest() {
+        return new PostUserRequest()
+                .name("Juan Rodriguez")
+                .email("juan@rodriguez.org")
+                .password("Hunter2!")
+                .phones(List.of(new Phone().number("1234567").cityCode("1").countryCode("57")));
+    }
 }
@@ -0,0 +1,86 @@
+package com.smartjob.user.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CompactJwtEncoder Tests")
+class CompactJwtEncoderTest {
+
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(
+            "mySecretKeyForJWTTokenGenerationThatShouldBeLongEnough123456789".getBytes(StandardCharsets.UTF_8));
+    private static final String KEY_ID = "default";
+    private static final long ISSUED_AT = 1_735_689_600_123L;
+    private static final long EXPIRATION = ISSUED_AT + 86_400_000L;
+
+    private final CompactJwtEncoder encoder = new CompactJwtEncoder();
+
+    @Test
+    @DisplayName("Debe generar exactamente el mismo token que jjwt")
+    void shouldProduceSameTokenAsJjwt() {
+        for (String email : new String[]{"a@b.cl", "juan@rodriguez.org", "nombre.apellido+etiqueta@empresa.example.com"}) {
+            // Given
+            UUID userId = UUID.randomUUID();
+            UUID tokenId = UUID.randomUUID();
+
+            // When
+            String token = encoder.encode(KEY_ID, KEY, userId, email, tokenId, ISSUED_AT, EXPIRATION);
+
+            // Then
+            assertThat(token).isEqualTo(jjwtToken(userId, email, tokenId));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe generar tokens que jjwt verifica")
+    void shouldProduceTokensVerifiedByJjwt() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        long now = System.currentTimeMillis();
+
+        // When
+        UUID tokenId = UUID.randomUUID();
+        String token = encoder.encode(KEY_ID, KEY, userId, "test@example.com", tokenId, now, now + 60_000L);
+        Claims claims = Jwts.parser().verifyWith(KEY).build().parseSignedClaims(token).getPayload();
+
+        // Then
+        assertThat(claims.getSubject()).isEqualTo("test@example.com");
+        assertThat(claims.get("userId", String.class)).isEqualTo(userId.toString());
+        assertThat(claims.getId()).isEqualTo(tokenId.toString());
+        assertThat(claims.getExpiration().getTime()).isEqualTo((now + 60_000L) / 1000 * 1000);
+    }
+
+    @Test
+    @DisplayName("Debe devolver null si un valor requiere escape JSON")
+    void shouldReturnNullWhenValueNeedsEscaping() {
+        // When / Then
+        assertThat(encoder.encode(KEY_ID, KEY, UUID.randomUUID(), "a\"b@example.com", UUID.randomUUID(), ISSUED_AT, EXPIRATION)).isNull();
+        assertThat(encoder.encode(KEY_ID, KEY, UUID.randomUUID(), "josé@example.com", UUID.randomUUID(), ISSUED_AT, EXPIRATION)).isNull();
+    }
+
+    private static String jjwtToken(UUID userId, String email, UUID tokenId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", userId.toString());
+        claims.put("email", email);
+        return Jwts.builder()
+                .header().keyId(KEY_ID).and()
+                .claims(claims)
+                .subject(email)
+                .id(tokenId.toString())
+                .issuedAt(new Date(ISSUED_AT))
+                .expiration(new Date(EXPIRATION))
+                .signWith(KEY, Jwts.SIG.HS256)
+                .compact();
+    }
+}
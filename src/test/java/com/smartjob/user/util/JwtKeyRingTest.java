@@ -0,0 +1,276 @@
+package com.smartjob.user.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartjob.user.config.JwtConfigValidator;
+import com.smartjob.user.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.EllipticCurve;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtKeyRing Tests")
+class JwtKeyRingTest {
+
+    private static final String KEY_1 = "primeraClaveDeFirmaConAlMenosTreintaYDosCaracteres";
+    private static final String KEY_2 = "segundaClaveDeFirmaConAlMenosTreintaYDosCaracteres";
+    private static final String EMAIL = "test@example.com";
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    @TempDir
+    Path directory;
+
+    private Path keysFile;
+    private int version;
+    private JwtProperties jwtProperties;
+    private JwtKeyRing keyRing;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        keysFile = directory.resolve("jwt-keys.properties");
+        writeKeys("signing-key-id=k1\nkeys.k1=" + KEY_1 + "\n");
+
+        jwtProperties = new JwtProperties();
+        jwtProperties.setExpiration(60_000L);
+        jwtProperties.setKeysFile(keysFile.toString());
+        keyRing = new JwtKeyRing(jwtProperties, new JwtConfigValidator(jwtProperties));
+        jwtUtil = new JwtUtil(jwtProperties, keyRing, new VerifiedTokenCache(jwtProperties, new SimpleMeterRegistry()),
+                new TokenRevocationList(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("Debe seguir aceptando los tokens de la clave anterior tras rotar la clave de firma")
+    void shouldAcceptTokensOfPreviousKeyAfterRotation() throws IOException {
+        // Given
+        String oldToken = jwtUtil.generateToken(UUID.randomUUID(), EMAIL);
+
+        // When
+        writeKeys("signing-key-id=k2\nkeys.k1=" + KEY_1 + "\nkeys.k2=" + KEY_2 + "\n");
+        keyRing.reloadIfChanged();
+        String newToken = jwtUtil.generateToken(UUID.randomUUID(), EMAIL);
+
+        // Then
+        assertThat(jwtUtil.verify(oldToken).keyId()).isEqualTo("k1");
+        assertThat(jwtUtil.verify(newToken).keyId()).isEqualTo("k2");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar los tokens de una clave retirada del anillo")
+    void shouldRejectTokensOfRemovedKey() throws IOException {
+        // Given
+        String oldToken = jwtUtil.generateToken(UUID.randomUUID(), EMAIL);
+
+        // When
+        writeKeys("signing-key-id=k2\nkeys.k2=" + KEY_2 + "\n");
+        keyRing.reloadIfChanged();
+
+        // Then
+        assertThatThrownBy(() -> jwtUtil.verify(oldToken)).isInstanceOf(JwtException.class);
+        assertThat(jwtUtil.validateToken(oldToken, EMAIL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe conservar el anillo actual si el archivo recargado no es válido")
+    void shouldKeepCurrentRingWhenReloadedFileIsInvalid() throws IOException {
+        // Given
+        String token = jwtUtil.generateToken(UUID.randomUUID(), EMAIL);
+
+        // When: signing key not in the ring and a secret that is too short
+        writeKeys("signing-key-id=k3\nkeys.k1=corta\n");
+        keyRing.reloadIfChanged();
+
+        // Then
+        assertThat(keyRing.signingKey().keyId()).isEqualTo("k1");
+        assertThat(jwtUtil.validateToken(token, EMAIL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar al iniciar un anillo cuya clave de firma no existe")
+    void shouldRejectRingWithoutSigningKey() {
+        // Given
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(KEY_1);
+        properties.setSigningKeyId("inexistente");
+
+        // When / Then
+        assertThatThrownBy(() -> new JwtKeyRing(properties, new JwtConfigValidator(properties)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("inexistente");
+    }
+
+    @Test
+    @DisplayName("Debe firmar con ES256 y publicar la clave pública en el JWK set")
+    void shouldSignWithEs256AndPublishPublicKey() {
+        // Given: no keys configured, so an ephemeral key pair is generated
+        JwtProperties properties = new JwtProperties();
+        properties.setExpiration(60_000L);
+        properties.setAlgorithm(JwtProperties.Algorithm.ES256);
+        JwtKeyRing ring = new JwtKeyRing(properties, new JwtConfigValidator(properties));
+        JwtUtil util = newJwtUtil(properties, ring);
+
+        // When
+        String token = util.generateToken(UUID.randomUUID(), EMAIL);
+        JwkSet published = Jwks.setParser().build().parse(ring.publishedKeys().json());
+        PublicKey publicKey = (PublicKey) published.getKeys().iterator().next().toKey();
+        Jws<Claims> jws = Jwts.parser().verifyWith(publicKey).build().parseSignedClaims(token);
+
+        // Then: a downstream service verifies the token with the published key alone
+        assertThat(jws.getHeader().getAlgorithm()).isEqualTo("ES256");
+        assertThat(jws.getHeader().getKeyId()).isEqualTo(ring.signingKey().keyId());
+        assertThat(jws.getPayload().getSubject()).isEqualTo(EMAIL);
+        assertThat(util.validateToken(token, EMAIL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe firmar con la clave ES256 configurada como JWK privado en jwt.keys")
+    void shouldSignWithConfiguredEs256PrivateJwk() throws IOException {
+        // Given
+        KeyPair keyPair = Jwts.SIG.ES256.keyPair().build();
+        JwtProperties properties = new JwtProperties();
+        properties.setExpiration(60_000L);
+        properties.setAlgorithm(JwtProperties.Algorithm.ES256);
+        properties.setSigningKeyId("es-1");
+        properties.setKeys(Map.of("es-1", ecPrivateJwk(keyPair)));
+        JwtKeyRing ring = new JwtKeyRing(properties, new JwtConfigValidator(properties));
+        JwtUtil util = newJwtUtil(properties, ring);
+
+        // When
+        String token = util.generateToken(UUID.randomUUID(), EMAIL);
+        Jws<Claims> jws = Jwts.parser().verifyWith(keyPair.getPublic()).build().parseSignedClaims(token);
+        JsonNode published = JSON.readTree(ring.publishedKeys().json()).get("keys").get(0);
+
+        // Then: signed with the configured private key and published with its kid and curve
+        assertThat(jws.getHeader().getKeyId()).isEqualTo("es-1");
+        assertThat(jws.getHeader().getAlgorithm()).isEqualTo("ES256");
+        assertThat(util.validateToken(token, EMAIL)).isTrue();
+        assertThat(published.get("kid").asText()).isEqualTo("es-1");
+        assertThat(published.get("crv").asText()).isEqualTo("P-256");
+        assertThat(published.has("d")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe firmar y verificar con EdDSA usando un JWK privado del archivo de claves")
+    void shouldSignAndVerifyWithEdDsaKeyFromKeysFile() throws IOException {
+        // Given
+        KeyPair keyPair = Jwks.CRV.Ed25519.keyPair().build();
+        writeKeys("signing-key-id=ed-1\nkeys.ed-1=" + edPrivateJwk(keyPair) + "\n");
+        JwtProperties properties = new JwtProperties();
+        properties.setExpiration(60_000L);
+        properties.setAlgorithm(JwtProperties.Algorithm.EDDSA);
+        properties.setKeysFile(keysFile.toString());
+        JwtKeyRing ring = new JwtKeyRing(properties, new JwtConfigValidator(properties));
+        JwtUtil util = newJwtUtil(properties, ring);
+
+        // When
+        String token = util.generateToken(UUID.randomUUID(), EMAIL);
+        Jws<Claims> jws = Jwts.parser().verifyWith(keyPair.getPublic()).build().parseSignedClaims(token);
+        JsonNode published = JSON.readTree(ring.publishedKeys().json()).get("keys").get(0);
+
+        // Then
+        assertThat(jws.getHeader().getAlgorithm()).isEqualTo("EdDSA");
+        assertThat(jws.getHeader().getKeyId()).isEqualTo("ed-1");
+        assertThat(util.verify(token).subject()).isEqualTo(EMAIL);
+        assertThat(published.get("kty").asText()).isEqualTo("OKP");
+        assertThat(published.get("crv").asText()).isEqualTo("Ed25519");
+    }
+
+    @Test
+    @DisplayName("Debe reconocer P-256 por los parámetros de la curva y no por su tamaño")
+    void shouldRecognizeP256ByCurveParameters() {
+        // Given
+        ECParameterSpec p256 = ((ECPublicKey) Jwts.SIG.ES256.keyPair().build().getPublic()).getParams();
+        EllipticCurve curve = p256.getCurve();
+        // Same 256-bit field, different curve equation
+        ECParameterSpec other = new ECParameterSpec(
+                new EllipticCurve(curve.getField(), curve.getA(), curve.getB().add(BigInteger.ONE)),
+                p256.getGenerator(), p256.getOrder(), p256.getCofactor());
+
+        // When / Then
+        assertThat(JwtKeyRing.isP256(p256)).isTrue();
+        assertThat(JwtKeyRing.isP256(other)).isFalse();
+    }
+
+    @Test
+    @DisplayName("No debe publicar claves con HS256")
+    void shouldNotPublishSharedSecrets() {
+        // When
+        String json = keyRing.publishedKeys().json();
+
+        // Then
+        assertThat(json).isEqualTo("{\"keys\":[]}");
+        assertThat(keyRing.publishedKeys().etag()).startsWith("\"").endsWith("\"");
+    }
+
+    private static JwtUtil newJwtUtil(JwtProperties properties, JwtKeyRing ring) {
+        return new JwtUtil(properties, ring, new VerifiedTokenCache(properties, new SimpleMeterRegistry()),
+                new TokenRevocationList(new SimpleMeterRegistry()));
+    }
+
+    private static String ecPrivateJwk(KeyPair keyPair) throws IOException {
+        ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+        ECPrivateKey privateKey = (ECPrivateKey) keyPair.getPrivate();
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("x", base64Url(publicKey.getW().getAffineX()));
+        jwk.put("y", base64Url(publicKey.getW().getAffineY()));
+        jwk.put("d", base64Url(privateKey.getS()));
+        return JSON.writeValueAsString(jwk);
+    }
+
+    private static String edPrivateJwk(KeyPair keyPair) throws IOException {
+        byte[] publicKey = keyPair.getPublic().getEncoded();
+        byte[] privateKey = keyPair.getPrivate().getEncoded();
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "OKP");
+        jwk.put("crv", "Ed25519");
+        // the raw 32-byte keys follow the X.509 / PKCS#8 prefixes
+        jwk.put("x", BASE64_URL.encodeToString(Arrays.copyOfRange(publicKey, publicKey.length - 32, publicKey.length)));
+        jwk.put("d", BASE64_URL.encodeToString(Arrays.copyOfRange(privateKey, privateKey.length - 32, privateKey.length)));
+        return JSON.writeValueAsString(jwk);
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] unsigned = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, unsigned, 32 - length, length);
+        return BASE64_URL.encodeToString(unsigned);
+    }
+
+    private void writeKeys(String content) throws IOException {
+        Files.writeString(keysFile, content);
+        // Each write gets a distinct mtime, even on file systems with coarse timestamps
+        Files.setLastModifiedTime(keysFile, FileTime.from(Instant.now().plusSeconds(version++)));
+    }
+}
@@ -1,11 +1,13 @@
 package com.smartjob.user.util;
 
 import com.smartjob.user.config.JwtProperties;
+import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
 
@@ -188,6 +190,22 @@ class JwtUtilTest {
         assertEquals(userId, extractedUserId, "El userId en los claims debe coincidir");
     }
 
+    @Test
+    @DisplayName("Debe emitir un jti UUIDv7 con el instante de emisión en milisegundos")
+    void shouldIssueVersion7TokenIdWithIssueTime() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        VerifiedClaims claims = jwtUtil.verify(jwtUtil.generateToken(UUID.randomUUID(), "test@example.com"));
+
+        // Then
+        assertEquals(7, claims.tokenId().version(), "El jti debe ser un UUIDv7");
+        assertTrue(claims.issuedAtMillis() >= before, "El instante de emisión no debe ser anterior a la llamada");
+        assertEquals(claims.issuedAt().getEpochSecond(), claims.issuedAtMillis() / 1000,
+                "El jti y el iat deben indicar el mismo segundo");
+    }
+
     @Test
     @DisplayName("Debe manejar token inválido al validar")
     void shouldHandleInvalidTokenWhenValidating() {
@@ -288,4 +306,34 @@ class JwtUtilTest {
                     "Email debe coincidir para token " + i);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Debe verificar el token una sola vez y devolver todos los claims")
+    void shouldVerifyTokenAndReturnAllClaims() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        String email = "test@example.com";
+        String token = jwtUtil.generateToken(userId, email);
+
+        // When
+        VerifiedClaims claims = jwtUtil.verify(token);
+
+        // Then
+        assertEquals(email, claims.subject());
+        assertEquals(email, claims.email());
+        assertEquals(userId, claims.userId());
+        assertFalse(claims.isExpiredAt(Instant.now()), "El token recién generado no debe estar expirado");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar en verify un token con la firma alterada")
+    void shouldRejectTamperedTokenOnVerify() {
+        // Given
+        String token = jwtUtil.generateToken(UUID.randomUUID(), "test@example.com");
+        String other = jwtUtil.generateToken(UUID.randomUUID(), "otro@example.com");
+        String tampered = token.substring(0, token.lastIndexOf('.')) + other.substring(other.lastIndexOf('.'));
+
+        // When / Then
+        assertThrows(JwtException.class, () -> jwtUtil.verify(tampered));
+    }
+}
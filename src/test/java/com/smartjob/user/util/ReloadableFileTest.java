@@ -0,0 +1,109 @@
+package com.smartjob.user.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ReloadableFile Tests")
+class ReloadableFileTest {
+
+    private static final Duration RELOAD_INTERVAL = Duration.ofSeconds(30);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Debe recargar el valor solo cuando cambia el archivo")
+    void shouldReloadOnlyWhenFileChanges() throws IOException {
+        // Given
+        Path file = tempDir.resolve("value.txt");
+        Files.writeString(file, "uno");
+        AtomicInteger loads = new AtomicInteger();
+        ReloadableFile<String> reloadable = new ReloadableFile<>("el archivo de prueba", file.toString(),
+                RELOAD_INTERVAL, path -> {
+                    loads.incrementAndGet();
+                    return Files.readString(path);
+                });
+
+        // When / Then
+        assertThat(reloadable.reloadIfChanged()).isFalse();
+        assertThat(loads).hasValue(1);
+
+        Files.writeString(file, "dos");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+        assertThat(reloadable.reloadIfChanged()).isTrue();
+        assertThat(reloadable.get()).isEqualTo("dos");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Debe mantener el valor actual si la recarga falla")
+    void shouldKeepValueWhenReloadFails() throws IOException {
+        // Given
+        Path file = tempDir.resolve("value.txt");
+        Files.writeString(file, "uno");
+        ReloadableFile<String> reloadable = new ReloadableFile<>("el archivo de prueba", file.toString(),
+                RELOAD_INTERVAL, path -> {
+                    String value = Files.readString(path);
+                    if (value.isBlank()) {
+                        throw new IllegalArgumentException("archivo vacío");
+                    }
+                    return value;
+                });
+
+        // When
+        Files.writeString(file, "");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+        boolean invalidReloaded = reloadable.reloadIfChanged();
+        Files.delete(file);
+        boolean missingReloaded = reloadable.reloadIfChanged();
+
+        // Then
+        assertThat(invalidReloaded).isFalse();
+        assertThat(missingReloaded).isFalse();
+        assertThat(reloadable.get()).isEqualTo("uno");
+    }
+
+    @Test
+    @DisplayName("Debe construir el valor sin archivo y no recargarlo")
+    void shouldLoadOnceWithoutFile() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        ReloadableFile<String> reloadable = new ReloadableFile<>("el archivo de prueba", " ",
+                RELOAD_INTERVAL, path -> {
+                    loads.incrementAndGet();
+                    return path == null ? "por defecto" : "archivo";
+                });
+
+        // Then
+        assertThat(reloadable.get()).isEqualTo("por defecto");
+        assertThat(reloadable.reloadIfChanged()).isFalse();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Debe fallar al arrancar si el archivo no se puede leer")
+    void shouldFailWhenFileIsUnreadableAtStartup() {
+        // Given
+        Path missing = tempDir.resolve("missing.txt");
+
+        // When / Then
+        assertThatThrownBy(() -> new ReloadableFile<>("el archivo de prueba", missing.toString(),
+                RELOAD_INTERVAL, Files::readString))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("el archivo de prueba");
+    }
+}
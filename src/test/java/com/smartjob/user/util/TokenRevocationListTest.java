@@ -0,0 +1,118 @@
+package com.smartjob.user.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenRevocationList Tests")
+class TokenRevocationListTest {
+
+    private static final Duration LIFETIME = Duration.ofHours(1);
+
+    private final TokenRevocationList revocationList = new TokenRevocationList(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("Debe rechazar solo el token revocado por jti")
+    void shouldRevokeSingleToken() {
+        // Given
+        Instant now = Instant.now();
+        UUID userId = UUID.randomUUID();
+        VerifiedClaims revoked = claims(userId, UUID.randomUUID(), now);
+        VerifiedClaims other = claims(userId, UUID.randomUUID(), now);
+
+        // When
+        revocationList.revokeToken(revoked.tokenId(), revoked.expiration());
+
+        // Then
+        assertThat(revocationList.isRevoked(revoked)).isTrue();
+        assertThat(revocationList.isRevoked(other)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar los tokens del usuario emitidos hasta el instante de revocación")
+    void shouldRevokeUserTokensIssuedBeforeNotBefore() {
+        // Given
+        Instant revokedAt = Instant.now();
+        UUID userId = UUID.randomUUID();
+
+        // When
+        revocationList.revokeUser(userId, revokedAt);
+
+        // Then
+        assertThat(revocationList.isRevoked(claims(userId, UUID.randomUUID(), revokedAt.minusSeconds(60)))).isTrue();
+        assertThat(revocationList.isRevoked(claims(userId, UUID.randomUUID(), revokedAt.plusSeconds(1)))).isFalse();
+        assertThat(revocationList.isRevoked(claims(UUID.randomUUID(), UUID.randomUUID(), revokedAt.minusSeconds(60))))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe aceptar un token emitido en el mismo segundo pero después de la revocación")
+    void shouldCompareUserRevocationWithMillisecondPrecision() {
+        // Given
+        Instant revokedAt = Instant.ofEpochSecond(1_700_000_000L, 500_000_000L);
+        UUID userId = UUID.randomUUID();
+        revocationList.revokeUser(userId, revokedAt);
+
+        // When
+        VerifiedClaims before = claims(userId, tokenIdIssuedAt(revokedAt.minusMillis(1)), revokedAt);
+        VerifiedClaims after = claims(userId, tokenIdIssuedAt(revokedAt.plusMillis(1)), revokedAt);
+
+        // Then
+        assertThat(revocationList.isRevoked(before)).isTrue();
+        assertThat(revocationList.isRevoked(after)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Debe conservar el instante de revocación más reciente de un usuario")
+    void shouldKeepLatestNotBefore() {
+        // Given
+        Instant now = Instant.now();
+        UUID userId = UUID.randomUUID();
+        revocationList.revokeUser(userId, now);
+
+        // When: an older revocation arrives later, e.g. from a refresh
+        revocationList.revokeUser(userId, now.minusSeconds(600));
+
+        // Then
+        assertThat(revocationList.isRevoked(claims(userId, UUID.randomUUID(), now.minusSeconds(60)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe encontrar todas las revocaciones al crecer la tabla y eliminar las expiradas")
+    void shouldGrowAndPrune() {
+        // Given
+        Instant now = Instant.now();
+        Map<UUID, Instant> expirations = new HashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            expirations.put(UUID.randomUUID(), now.plusSeconds(i % 2 == 0 ? 60 : -60));
+        }
+
+        // When
+        revocationList.revokeTokens(expirations);
+
+        // Then
+        expirations.forEach((tokenId, expiresAt) ->
+                assertThat(revocationList.isRevoked(claims(UUID.randomUUID(), tokenId, now))).isTrue());
+        assertThat(revocationList.prune(now, LIFETIME)).isEqualTo(500);
+        expirations.forEach((tokenId, expiresAt) ->
+                assertThat(revocationList.isRevoked(claims(UUID.randomUUID(), tokenId, now)))
+                        .isEqualTo(expiresAt.isAfter(now)));
+    }
+
+    private static UUID tokenIdIssuedAt(Instant issuedAt) {
+        return new UuidV7Generator(issuedAt::toEpochMilli).generate();
+    }
+
+    private static VerifiedClaims claims(UUID userId, UUID tokenId, Instant issuedAt) {
+        return new VerifiedClaims("test@example.com", userId, "test@example.com", tokenId,
+                issuedAt, issuedAt.plus(LIFETIME), "default");
+    }
+}
@@ -0,0 +1,102 @@
+package com.smartjob.user.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UuidV7Generator Tests")
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("Debe generar UUID versión 7 con la variante RFC y el timestamp en milisegundos")
+    void shouldGenerateVersion7WithTimestamp() {
+        // Given
+        long now = 1_735_689_600_000L;
+        UuidV7Generator generator = new UuidV7Generator(() -> now);
+
+        // When
+        UUID id = generator.generate();
+
+        // Then
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(now);
+    }
+
+    @Test
+    @DisplayName("Debe ser monótono dentro del mismo milisegundo, incluso al desbordar el contador")
+    void shouldBeMonotonicWithinSameMillisecond() {
+        // Given
+        UuidV7Generator generator = new UuidV7Generator(() -> 1_735_689_600_000L);
+
+        // When
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.generate());
+        }
+
+        // Then
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(Long.compareUnsigned(
+                    ids.get(i).getMostSignificantBits(),
+                    ids.get(i - 1).getMostSignificantBits())).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe seguir siendo monótono si el reloj retrocede")
+    void shouldStayMonotonicWhenClockGoesBackwards() {
+        // Given
+        AtomicLong clock = new AtomicLong(1_735_689_600_000L);
+        UuidV7Generator generator = new UuidV7Generator(clock::get);
+        UUID before = generator.generate();
+
+        // When
+        clock.addAndGet(-5_000);
+        UUID after = generator.generate();
+
+        // Then
+        assertThat(Long.compareUnsigned(after.getMostSignificantBits(), before.getMostSignificantBits()))
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("Debe generar identificadores únicos desde varios hilos")
+    void shouldGenerateUniqueIdsConcurrently() throws Exception {
+        // Given
+        UuidV7Generator generator = new UuidV7Generator();
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(generator.generate());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertThat(ids).hasSize(80_000);
+    }
+}
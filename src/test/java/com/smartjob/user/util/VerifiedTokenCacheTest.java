@@ -0,0 +1,85 @@
+package com.smartjob.user.util;
+
+import com.smartjob.user.config.JwtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VerifiedTokenCache Tests")
+class VerifiedTokenCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    @DisplayName("Debe verificar una sola vez el mismo token y registrar aciertos y fallos")
+    void shouldVerifySameTokenOnce() {
+        // Given
+        VerifiedTokenCache cache = newCache(true);
+        Function<String, VerifiedClaims> verifier = verifier(Instant.now().plus(1, ChronoUnit.HOURS));
+
+        // When
+        cache.get("token-a", verifier);
+        cache.get("token-a", verifier);
+        cache.get("token-b", verifier);
+
+        // Then
+        assertThat(verifications).hasValue(2);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe volver a verificar un token cuya expiración ya pasó")
+    void shouldReverifyExpiredEntries() {
+        // Given
+        VerifiedTokenCache cache = newCache(true);
+        Function<String, VerifiedClaims> verifier = verifier(Instant.now().minusSeconds(1));
+
+        // When
+        cache.get("token-a", verifier);
+        cache.get("token-a", verifier);
+
+        // Then
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Debe verificar siempre cuando la caché está desactivada")
+    void shouldAlwaysVerifyWhenDisabled() {
+        // Given
+        VerifiedTokenCache cache = newCache(false);
+        Function<String, VerifiedClaims> verifier = verifier(Instant.now().plus(1, ChronoUnit.HOURS));
+
+        // When
+        cache.get("token-a", verifier);
+        cache.get("token-a", verifier);
+
+        // Then
+        assertThat(verifications).hasValue(2);
+        assertThat(meterRegistry.find("cache.gets").meters()).isEmpty();
+    }
+
+    private VerifiedTokenCache newCache(boolean enabled) {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.getCache().setEnabled(enabled);
+        jwtProperties.getCache().setMaxSize(100);
+        return new VerifiedTokenCache(jwtProperties, meterRegistry);
+    }
+
+    private Function<String, VerifiedClaims> verifier(Instant expiration) {
+        return token -> {
+            verifications.incrementAndGet();
+            return new VerifiedClaims(token, UUID.randomUUID(), token, UUID.randomUUID(), Instant.now(),
+                    expiration, "default");
+        };
+    }
+}